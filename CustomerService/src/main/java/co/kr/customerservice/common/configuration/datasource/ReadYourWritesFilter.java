@@ -0,0 +1,33 @@
+package co.kr.customerservice.common.configuration.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/*
+ * 요청 유저(X-USERS-IDX, Gateway 에서 전달)를 요청 스레드에 바인딩 (read-your-writes 판단용)
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String userIdx = request.getHeader("X-USERS-IDX");
+        if (userIdx == null || userIdx.isBlank()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        ReadYourWritesTracker.bind(userIdx);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWritesTracker.clear();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package co.kr.customerservice.common.configuration.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Replica 복제 지연 감시
+ * - 주기적으로 Replica 에서 SHOW SLAVE STATUS 의 Seconds_Behind_Master 확인
+ * - 지연이 허용치 이하일 때만 사용 가능, 조회 실패 / 복제 중단(NULL) / 지연 초과면 Primary 로 읽음
+ * - 첫 확인 전에는 사용 불가 상태로 시작 (기동 직후 오래된 데이터 읽기 방지)
+ */
+@Slf4j
+public class ReplicaLagMonitor implements AutoCloseable {
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final long maxLagSeconds;
+    private final long checkIntervalMs;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("replica-lag-monitor").daemon().factory()
+    );
+
+    private volatile boolean available = false;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, long maxLagSeconds, long checkIntervalMs) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.maxLagSeconds = maxLagSeconds;
+        this.checkIntervalMs = checkIntervalMs;
+    }
+
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::check, 0, checkIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    // 복제 지연 확인 후 사용 가능 여부 갱신 (상태가 바뀔 때만 로그)
+    private void check() {
+        Long lagSeconds = null;
+        boolean next;
+        try {
+            List<Long> rows = replicaJdbcTemplate.query("SHOW SLAVE STATUS", (rs, rowNum) -> {
+                long lag = rs.getLong("Seconds_Behind_Master");
+                return rs.wasNull() ? null : lag;
+            });
+            lagSeconds = rows.isEmpty() ? null : rows.getFirst();
+            next = lagSeconds != null && lagSeconds <= maxLagSeconds;
+        } catch (Exception e) {
+            log.debug("Replica 상태 조회 실패 : {}", e.getMessage());
+            next = false;
+        }
+
+        if (next != available) {
+            if (next) {
+                log.info("Replica 읽기 재개 - 복제 지연: {}초", lagSeconds);
+            } else {
+                log.warn("Replica 읽기 중단, Primary 로 전환 - 복제 지연: {}초 (허용: {}초)", lagSeconds, maxLagSeconds);
+            }
+        }
+        available = next;
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
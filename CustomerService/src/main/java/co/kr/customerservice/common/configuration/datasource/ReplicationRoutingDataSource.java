@@ -0,0 +1,51 @@
+package co.kr.customerservice.common.configuration.datasource;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/*
+ * 트랜잭션 속성에 따라 Primary / Replica 커넥션 선택
+ * - readOnly 트랜잭션: Replica (단, 복제 지연 초과 또는 read-your-writes 고정 중이면 Primary)
+ * - 그 외 (쓰기 / 트랜잭션 없음): Primary
+ * - 유저 요청의 쓰기 트랜잭션이 커밋되면 해당 유저를 잠시 Primary 에 고정
+ */
+@RequiredArgsConstructor
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route { PRIMARY, REPLICA }
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            pinAfterCommit();
+            return Route.PRIMARY;
+        }
+
+        if (!replicaLagMonitor.isAvailable() || readYourWritesTracker.isPinned()) {
+            return Route.PRIMARY;
+        }
+        return Route.REPLICA;
+    }
+
+    // 쓰기 트랜잭션 커밋 후 현재 유저를 Primary 에 고정 (커넥션은 트랜잭션당 한 번만 가져오므로 한 번만 등록됨)
+    private void pinAfterCommit() {
+        if (readYourWritesTracker.currentUser() == null
+                || !TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWritesTracker.pin();
+            }
+        });
+    }
+}
@@ -1,5 +1,6 @@
 import pymysql
 import random
+import time
 import uuid
 import base64
 import bcrypt
@@ -84,6 +85,16 @@ DB_CONFIG = {
     'cursorclass': pymysql.cursors.DictCursor
 }
 
+# Replica 확인용 (Infra/docker-compose.yml 의 replica 프로필), host 를 비우면 건너뜀
+REPLICA_CONFIG = {
+    'host': '',
+    'port': 3307,
+    'user': '',
+    'password': '',
+    'charset': 'utf8mb4',
+    'cursorclass': pymysql.cursors.DictCursor
+}
+
 AES_KEY_STR = ""
 AES_KEY = AES_KEY_STR.encode('utf-8')[:32].ljust(32, b'\0')
 FIXED_IV_CBC = b'\0' * 16 
@@ -105,6 +116,25 @@ def encrypt_cbc(text):
 def hash_pw(pw):
     return bcrypt.hashpw(base64.b64encode(pw.encode('utf-8')), bcrypt.gensalt(4)).decode('utf-8')
 
+def wait_for_replica(timeout_sec=600):
+    if not REPLICA_CONFIG['host']: return
+    print("\n🔁 Replica 복제 따라잡기 확인 중...")
+    conn = pymysql.connect(**REPLICA_CONFIG)
+    try:
+        started = datetime.now()
+        while (datetime.now() - started).total_seconds() < timeout_sec:
+            with conn.cursor() as cur:
+                cur.execute("SHOW SLAVE STATUS")
+                status = cur.fetchone()
+            lag = status['Seconds_Behind_Master'] if status else None
+            if lag == 0:
+                print("   ✅ Replica 복제 완료 (지연 0초)"); return
+            print(f"   -> 복제 지연: {lag}초"); conn.commit()
+            time.sleep(2)
+        print("   ⚠️ 제한 시간 안에 Replica 가 따라잡지 못함")
+    finally:
+        conn.close()
+
 def get_rand_date(days_back=365):
     return datetime.now() - timedelta(days=random.randint(0, days_back), hours=random.randint(0, 23))
 
@@ -280,6 +310,7 @@ def main():
         conn.commit()
         cur.execute("SET FOREIGN_KEY_CHECKS = 1;")
         print(f"\n✨🎉 [최종 성공] 챗봇 및 CS를 제외한 약 50만 건 이상의 리얼 데이터가 완벽하게 구축되었습니다!")
+        wait_for_replica()
 
     except Exception as e:
         conn.rollback(); print(f"\n❌ 작업 중 치명적 오류 발생: {e}")
@@ -0,0 +1,74 @@
+/* =========================
+   01. 주문/정산 테이블 FK 제거 (02_Partition_Orders_By_Month.sql 의 선행 작업)
+
+   - InnoDB 는 파티션 테이블에 FK 를 걸 수도, 파티션 테이블을 참조하는 FK 를 걸 수도 없음
+     -> Orders / Orders_Item / Settlement_History 를 월 파티션으로 바꾸려면 아래 7개 FK 를 먼저 제거해야 함
+   - 파티션을 적용하지 않을 DB 에는 실행하지 않음 (Table.sql 기본 스키마는 FK 유지)
+
+   - 다른 서비스 소유 테이블이 걸린 FK 라 실행 전에 각 담당 서비스와 합의 필요
+     | FK                            | 자식 테이블 (소유)              | 부모 테이블 (소유)           |
+     |-------------------------------|---------------------------------|------------------------------|
+     | FK_Orders_Users               | Orders (Order)                  | Users (User)                 |
+     | FK_Orders_Card                | Orders (Order)                  | Users_Card (User)            |
+     | FK_OrdersItem_Orders          | Orders_Item (Order)             | Orders (Order)               |
+     | FK_Payment_Orders             | Payment (Payment)               | Orders (Order)               |
+     | FK_SettlementHistory_Seller   | Settlement_History (Order)      | Seller (User)                |
+     | FK_SettlementHistory_Payment  | Settlement_History (Order)      | Payment (Payment)            |
+     | FK_Review_OrdersItem          | Review (Product)                | Orders_Item (Order)          |
+
+   - FK 대신 애플리케이션이 보장하는 것
+     - Order   : Orders_Item 은 Orders 와 같은 트랜잭션에서 저장 (createOrder)
+                 Settlement_History 의 Seller_IDX / Payment_IDX 는 결제 완료 콜백 값 그대로 저장
+     - User    : Users / Users_Card / Seller 는 물리 삭제하지 않음 (Del 소프트 삭제 유지)
+     - Payment : Payment.Orders_IDX 는 Order API (주문 코드 -> Orders_IDX) 로 받은 값만 저장, Payment 는 물리 삭제하지 않음
+     - Product : Review.Orders_Item_IDX 는 Order API 로 받은 값만 저장
+   - 아래 고아 행 점검 쿼리를 배포 후 주기적으로 실행 (결과가 0건이어야 함)
+   ========================= */
+
+# 고아 행 점검 (FK 제거 전 / 후 동일하게 0건이어야 함)
+# SELECT COUNT(*) FROM `Orders` o LEFT JOIN `Users` u ON u.`Users_IDX` = o.`Users_IDX` WHERE u.`Users_IDX` IS NULL;
+# SELECT COUNT(*) FROM `Orders` o LEFT JOIN `Users_Card` c ON c.`Card_IDX` = o.`Card_IDX` WHERE o.`Card_IDX` IS NOT NULL AND c.`Card_IDX` IS NULL;
+# SELECT COUNT(*) FROM `Orders_Item` i LEFT JOIN `Orders` o ON o.`Orders_IDX` = i.`Orders_IDX` WHERE o.`Orders_IDX` IS NULL;
+# SELECT COUNT(*) FROM `Payment` p LEFT JOIN `Orders` o ON o.`Orders_IDX` = p.`Orders_IDX` WHERE p.`Orders_IDX` IS NOT NULL AND o.`Orders_IDX` IS NULL;
+# SELECT COUNT(*) FROM `Settlement_History` s LEFT JOIN `Seller` se ON se.`Seller_IDX` = s.`Seller_IDX` WHERE se.`Seller_IDX` IS NULL;
+# SELECT COUNT(*) FROM `Settlement_History` s LEFT JOIN `Payment` p ON p.`Payment_IDX` = s.`Payment_IDX` WHERE p.`Payment_IDX` IS NULL;
+# SELECT COUNT(*) FROM `Review` r LEFT JOIN `Orders_Item` i ON i.`Orders_Item_IDX` = r.`Orders_Item_IDX` WHERE i.`Orders_Item_IDX` IS NULL;
+# (아카이브 적용 후에는 Orders / Orders_Item 을 *_Archive 와 UNION ALL 해서 점검)
+
+ALTER TABLE `Orders`
+    DROP FOREIGN KEY `FK_Orders_Users`,
+    DROP FOREIGN KEY `FK_Orders_Card`;
+
+ALTER TABLE `Orders_Item`
+    DROP FOREIGN KEY `FK_OrdersItem_Orders`;
+
+ALTER TABLE `Payment`
+    DROP FOREIGN KEY `FK_Payment_Orders`;
+
+ALTER TABLE `Settlement_History`
+    DROP FOREIGN KEY `FK_SettlementHistory_Seller`,
+    DROP FOREIGN KEY `FK_SettlementHistory_Payment`;
+
+ALTER TABLE `Review`
+    DROP FOREIGN KEY `FK_Review_OrdersItem`;
+
+/* =========================
+   되돌리기 (02 를 적용하지 않았거나 파티션을 다시 제거한 뒤에만 가능)
+   =========================
+ALTER TABLE `Orders`
+    ADD CONSTRAINT `FK_Orders_Users` FOREIGN KEY (`Users_IDX`) REFERENCES `Users`(`Users_IDX`),
+    ADD CONSTRAINT `FK_Orders_Card` FOREIGN KEY (`Card_IDX`) REFERENCES `Users_Card`(`Card_IDX`);
+
+ALTER TABLE `Orders_Item`
+    ADD CONSTRAINT `FK_OrdersItem_Orders` FOREIGN KEY (`Orders_IDX`) REFERENCES `Orders`(`Orders_IDX`);
+
+ALTER TABLE `Payment`
+    ADD CONSTRAINT `FK_Payment_Orders` FOREIGN KEY (`Orders_IDX`) REFERENCES `Orders`(`Orders_IDX`);
+
+ALTER TABLE `Settlement_History`
+    ADD CONSTRAINT `FK_SettlementHistory_Seller` FOREIGN KEY (`Seller_IDX`) REFERENCES `Seller`(`Seller_IDX`),
+    ADD CONSTRAINT `FK_SettlementHistory_Payment` FOREIGN KEY (`Payment_IDX`) REFERENCES `Payment`(`Payment_IDX`);
+
+ALTER TABLE `Review`
+    ADD CONSTRAINT `FK_Review_OrdersItem` FOREIGN KEY (`Orders_Item_IDX`) REFERENCES `Orders_Item`(`Orders_Item_IDX`);
+*/
@@ -0,0 +1,145 @@
+/* =========================
+   02. Orders / Orders_Item / Settlement_History 월 파티션 + 아카이브 테이블 (선택 적용)
+
+   - 선행: 01_Drop_Order_Foreign_Keys.sql (파티션 테이블에는 FK 를 걸 수 없음)
+   - Created_at 기준 RANGE COLUMNS 월 파티션 (pYYYYMM + 마지막 pMax)
+     -> 파티션 테이블의 PK / UK 는 파티션 키를 포함해야 해서 PK / UK_Orders_Code 에 Created_at 추가
+     -> 주문 코드 유일성은 파티션이 없는 Orders_Code 테이블 PK 가 계속 보장
+   - 적용 후 Order 설정
+     - custom.order.partition.enabled: true         (미래 월 파티션 미리 생성)
+     - custom.order.partition.archive-enabled: true (hot-months 가 지난 달을 *_Archive 로 옮긴 뒤 파티션 DROP)
+   - 아카이브를 켜면 Hot 테이블만 조회하는 API 는 아카이브된 달을 명시적으로 거부 (아카이브 조회 경로 없음)
+     - 주문 상세 / 상태 변경 / 환불 / 결제 콜백 : ORDER_ARCHIVED (410)
+     - 주문 목록 : hot-months 이내 주문만 포함
+     - 정산 내역 / 내보내기 : 시작일이 보관 기간 이전이면 SETTLEMENT_ARCHIVED (400), 시작일이 없으면 보관 기간 시작일부터
+     - 일별 정산 재집계 배치 : 아카이브된 달은 실패 처리 (빈 집계로 덮어쓰지 않음)
+   - 대용량 테이블은 ALTER 동안 테이블이 잠기므로 점검 시간에 실행 (또는 pt-online-schema-change / gh-ost 사용)
+   ========================= */
+
+# 1. 기존 주문 코드 색인 채우기 (다시 실행해도 안전)
+INSERT IGNORE INTO `Orders_Code` (`Orders_Code`, `Orders_IDX`, `Users_IDX`, `Created_at`)
+SELECT `Orders_Code`, `Orders_IDX`, `Users_IDX`, `Created_at`
+FROM `Orders`;
+
+# 2. PK / UK 에 파티션 키 포함
+ALTER TABLE `Orders`
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (`Orders_IDX`, `Created_at`),
+    DROP INDEX `UK_Orders_Code`,
+    ADD UNIQUE KEY `UK_Orders_Code` (`Orders_Code`, `Created_at`);           # 코드만의 유일성은 Orders_Code 테이블 PK 가 보장
+
+ALTER TABLE `Orders_Item`
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (`Orders_Item_IDX`, `Created_at`),
+    DROP INDEX `IX_OrdersItem_Orders`,
+    ADD KEY `IX_OrdersItem_Orders` (`Orders_IDX`, `Created_at`);             # 주문 Created_at 이후 범위로 조회
+
+ALTER TABLE `Settlement_History`
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (`Settlement_IDX`, `Created_at`);
+
+# 3. 월 파티션 (첫 파티션은 그 이전 데이터를 모두 포함, 이후 달은 PartitionMaintenanceService 가 pMax 를 쪼개서 추가)
+ALTER TABLE `Orders`
+PARTITION BY RANGE COLUMNS (`Created_at`) (
+    PARTITION `p202501` VALUES LESS THAN ('2025-02-01'),
+    PARTITION `p202502` VALUES LESS THAN ('2025-03-01'),
+    PARTITION `p202503` VALUES LESS THAN ('2025-04-01'),
+    PARTITION `p202504` VALUES LESS THAN ('2025-05-01'),
+    PARTITION `p202505` VALUES LESS THAN ('2025-06-01'),
+    PARTITION `p202506` VALUES LESS THAN ('2025-07-01'),
+    PARTITION `p202507` VALUES LESS THAN ('2025-08-01'),
+    PARTITION `p202508` VALUES LESS THAN ('2025-09-01'),
+    PARTITION `p202509` VALUES LESS THAN ('2025-10-01'),
+    PARTITION `p202510` VALUES LESS THAN ('2025-11-01'),
+    PARTITION `p202511` VALUES LESS THAN ('2025-12-01'),
+    PARTITION `p202512` VALUES LESS THAN ('2026-01-01'),
+    PARTITION `p202601` VALUES LESS THAN ('2026-02-01'),
+    PARTITION `p202602` VALUES LESS THAN ('2026-03-01'),
+    PARTITION `p202603` VALUES LESS THAN ('2026-04-01'),
+    PARTITION `p202604` VALUES LESS THAN ('2026-05-01'),
+    PARTITION `p202605` VALUES LESS THAN ('2026-06-01'),
+    PARTITION `p202606` VALUES LESS THAN ('2026-07-01'),
+    PARTITION `p202607` VALUES LESS THAN ('2026-08-01'),
+    PARTITION `p202608` VALUES LESS THAN ('2026-09-01'),
+    PARTITION `p202609` VALUES LESS THAN ('2026-10-01'),
+    PARTITION `p202610` VALUES LESS THAN ('2026-11-01'),
+    PARTITION `p202611` VALUES LESS THAN ('2026-12-01'),
+    PARTITION `p202612` VALUES LESS THAN ('2027-01-01'),
+    PARTITION `pMax` VALUES LESS THAN (MAXVALUE)
+);
+
+ALTER TABLE `Orders_Item`
+PARTITION BY RANGE COLUMNS (`Created_at`) (
+    PARTITION `p202501` VALUES LESS THAN ('2025-02-01'),
+    PARTITION `p202502` VALUES LESS THAN ('2025-03-01'),
+    PARTITION `p202503` VALUES LESS THAN ('2025-04-01'),
+    PARTITION `p202504` VALUES LESS THAN ('2025-05-01'),
+    PARTITION `p202505` VALUES LESS THAN ('2025-06-01'),
+    PARTITION `p202506` VALUES LESS THAN ('2025-07-01'),
+    PARTITION `p202507` VALUES LESS THAN ('2025-08-01'),
+    PARTITION `p202508` VALUES LESS THAN ('2025-09-01'),
+    PARTITION `p202509` VALUES LESS THAN ('2025-10-01'),
+    PARTITION `p202510` VALUES LESS THAN ('2025-11-01'),
+    PARTITION `p202511` VALUES LESS THAN ('2025-12-01'),
+    PARTITION `p202512` VALUES LESS THAN ('2026-01-01'),
+    PARTITION `p202601` VALUES LESS THAN ('2026-02-01'),
+    PARTITION `p202602` VALUES LESS THAN ('2026-03-01'),
+    PARTITION `p202603` VALUES LESS THAN ('2026-04-01'),
+    PARTITION `p202604` VALUES LESS THAN ('2026-05-01'),
+    PARTITION `p202605` VALUES LESS THAN ('2026-06-01'),
+    PARTITION `p202606` VALUES LESS THAN ('2026-07-01'),
+    PARTITION `p202607` VALUES LESS THAN ('2026-08-01'),
+    PARTITION `p202608` VALUES LESS THAN ('2026-09-01'),
+    PARTITION `p202609` VALUES LESS THAN ('2026-10-01'),
+    PARTITION `p202610` VALUES LESS THAN ('2026-11-01'),
+    PARTITION `p202611` VALUES LESS THAN ('2026-12-01'),
+    PARTITION `p202612` VALUES LESS THAN ('2027-01-01'),
+    PARTITION `pMax` VALUES LESS THAN (MAXVALUE)
+);
+
+ALTER TABLE `Settlement_History`
+PARTITION BY RANGE COLUMNS (`Created_at`) (
+    PARTITION `p202501` VALUES LESS THAN ('2025-02-01'),
+    PARTITION `p202502` VALUES LESS THAN ('2025-03-01'),
+    PARTITION `p202503` VALUES LESS THAN ('2025-04-01'),
+    PARTITION `p202504` VALUES LESS THAN ('2025-05-01'),
+    PARTITION `p202505` VALUES LESS THAN ('2025-06-01'),
+    PARTITION `p202506` VALUES LESS THAN ('2025-07-01'),
+    PARTITION `p202507` VALUES LESS THAN ('2025-08-01'),
+    PARTITION `p202508` VALUES LESS THAN ('2025-09-01'),
+    PARTITION `p202509` VALUES LESS THAN ('2025-10-01'),
+    PARTITION `p202510` VALUES LESS THAN ('2025-11-01'),
+    PARTITION `p202511` VALUES LESS THAN ('2025-12-01'),
+    PARTITION `p202512` VALUES LESS THAN ('2026-01-01'),
+    PARTITION `p202601` VALUES LESS THAN ('2026-02-01'),
+    PARTITION `p202602` VALUES LESS THAN ('2026-03-01'),
+    PARTITION `p202603` VALUES LESS THAN ('2026-04-01'),
+    PARTITION `p202604` VALUES LESS THAN ('2026-05-01'),
+    PARTITION `p202605` VALUES LESS THAN ('2026-06-01'),
+    PARTITION `p202606` VALUES LESS THAN ('2026-07-01'),
+    PARTITION `p202607` VALUES LESS THAN ('2026-08-01'),
+    PARTITION `p202608` VALUES LESS THAN ('2026-09-01'),
+    PARTITION `p202609` VALUES LESS THAN ('2026-10-01'),
+    PARTITION `p202610` VALUES LESS THAN ('2026-11-01'),
+    PARTITION `p202611` VALUES LESS THAN ('2026-12-01'),
+    PARTITION `p202612` VALUES LESS THAN ('2027-01-01'),
+    PARTITION `pMax` VALUES LESS THAN (MAXVALUE)
+);
+
+/* =========================
+   4. Archive (Orders / Orders_Item / Settlement_History)
+   - Hot 테이블과 같은 컬럼 / 인덱스, 파티션 없음, InnoDB 페이지 압축
+   - archive-enabled 일 때 hot-months 가 지난 달을 PartitionMaintenanceService 가 옮긴 뒤 Hot 파티션 DROP
+   - Orders_Code 행은 지우지 않음 (코드 재사용 방지 + 아카이브된 주문 구분)
+   ========================= */
+CREATE TABLE `Orders_Archive` LIKE `Orders`;
+ALTER TABLE `Orders_Archive` REMOVE PARTITIONING;
+ALTER TABLE `Orders_Archive` PAGE_COMPRESSED = 1;
+
+CREATE TABLE `Orders_Item_Archive` LIKE `Orders_Item`;
+ALTER TABLE `Orders_Item_Archive` REMOVE PARTITIONING;
+ALTER TABLE `Orders_Item_Archive` PAGE_COMPRESSED = 1;
+
+CREATE TABLE `Settlement_History_Archive` LIKE `Settlement_History`;
+ALTER TABLE `Settlement_History_Archive` REMOVE PARTITIONING;
+ALTER TABLE `Settlement_History_Archive` PAGE_COMPRESSED = 1;
@@ -0,0 +1,119 @@
+import pymysql
+import time
+import uuid
+from datetime import datetime
+
+# ==========================================
+# 📊 [1] 벤치마크 설정
+# ==========================================
+# 랜덤 UUID(이전 주문 코드) vs Snowflake Base32(SnowflakeOrderCodeGenerator) 주문 코드의
+# 유니크 인덱스 INSERT 처리량 비교. Orders 와 같은 모양의 임시 테이블에 각각 넣고 구간별 처리량 / 인덱스 크기 출력
+NUM_ROWS = 2000000            # 방식별 INSERT 건수 (버퍼 풀보다 커져야 차이가 잘 보임)
+BATCH_SIZE = 1000             # 한 번에 INSERT 할 건수 (executemany)
+REPORT_EVERY = 200000         # 구간별 처리량 출력 간격
+KEEP_TABLES = False           # True 면 결과 테이블 유지
+
+DB_CONFIG = {
+    'host': '',
+    'port': 3306,
+    'user': '',
+    'password': '',
+    'db': '',
+    'charset': 'utf8mb4',
+    'cursorclass': pymysql.cursors.DictCursor
+}
+
+# ==========================================
+# 🆔 [2] 코드 생성기 (Java 구현과 같은 비트 구성)
+# ==========================================
+# 64bit = 시간(41bit, ms) + Worker ID(10bit) + 순번(12bit) -> Crockford Base32 13자
+EPOCH_MS = 1735657200000      # 2025-01-01 00:00:00 KST
+ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ"
+WORKER_ID = 1
+
+class SnowflakeCode:
+    def __init__(self, worker_id):
+        self.worker_id = worker_id
+        self.last = -1
+        self.seq = 0
+
+    def next(self):
+        now = int(time.time() * 1000)
+        if now > self.last:
+            self.last, self.seq = now, 0
+        else:
+            self.seq = (self.seq + 1) & 0xFFF
+            if self.seq == 0:
+                self.last += 1
+        value = ((self.last - EPOCH_MS) << 22) | (self.worker_id << 12) | self.seq
+        chars = []
+        for _ in range(13):
+            chars.append(ALPHABET[value & 31])
+            value >>= 5
+        return ''.join(reversed(chars))
+
+def uuid_code():
+    return str(uuid.uuid4())
+
+# ==========================================
+# 🚀 [3] 벤치마크
+# ==========================================
+def create_table(cur, table):
+    cur.execute(f"DROP TABLE IF EXISTS `{table}`")
+    cur.execute(f"""
+        CREATE TABLE `{table}` (
+            `Orders_IDX` BIGINT NOT NULL AUTO_INCREMENT,
+            `Orders_Code` VARCHAR(64) NOT NULL,
+            `Users_IDX` BIGINT NOT NULL,
+            `Created_at` DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+            PRIMARY KEY (`Orders_IDX`),
+            UNIQUE KEY `UK_{table}_Code` (`Orders_Code`)
+        )
+    """)
+
+def run(conn, table, next_code):
+    cur = conn.cursor()
+    create_table(cur, table)
+    conn.commit()
+
+    print(f"\n⏱️  {table} - {NUM_ROWS}건 INSERT 시작 ({datetime.now():%H:%M:%S})")
+    started = section_started = time.perf_counter()
+    inserted = 0
+    while inserted < NUM_ROWS:
+        rows = [(next_code(), (inserted + i) % 5000) for i in range(min(BATCH_SIZE, NUM_ROWS - inserted))]
+        cur.executemany(f"INSERT INTO `{table}` (Orders_Code, Users_IDX) VALUES (%s, %s)", rows)
+        conn.commit()
+        inserted += len(rows)
+
+        if inserted % REPORT_EVERY == 0:
+            now = time.perf_counter()
+            print(f"   -> {inserted:>9}건 | 구간 처리량: {REPORT_EVERY / (now - section_started):>10.0f} rows/s")
+            section_started = now
+
+    elapsed = time.perf_counter() - started
+    cur.execute(f"ANALYZE TABLE `{table}`")
+    cur.execute("SELECT INDEX_LENGTH FROM information_schema.TABLES WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = %s", (table,))
+    index_mb = cur.fetchone()['INDEX_LENGTH'] / 1024 / 1024
+
+    if not KEEP_TABLES:
+        cur.execute(f"DROP TABLE `{table}`")
+        conn.commit()
+
+    return elapsed, index_mb
+
+def main():
+    conn = pymysql.connect(**DB_CONFIG)
+    try:
+        snowflake = SnowflakeCode(WORKER_ID)
+        results = {
+            'UUID (36자, 랜덤)': run(conn, 'Bench_Orders_Uuid', uuid_code),
+            'Snowflake (13자, 시간순)': run(conn, 'Bench_Orders_Snowflake', snowflake.next),
+        }
+
+        print("\n📋 결과")
+        for name, (elapsed, index_mb) in results.items():
+            print(f"   {name:<24} | 전체: {NUM_ROWS / elapsed:>10.0f} rows/s | 소요: {elapsed:>8.1f}s | 보조 인덱스: {index_mb:>8.1f}MB")
+    finally:
+        conn.close()
+
+if __name__ == "__main__": main()
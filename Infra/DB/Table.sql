@@ -254,7 +254,7 @@ CREATE TABLE `Product_Option` (
    ========================= */
 CREATE TABLE `Orders` (
     `Orders_IDX` BIGINT NOT NULL AUTO_INCREMENT,
-    `Orders_Code` VARCHAR(64) NOT NULL,                 #UUID
+    `Orders_Code` VARCHAR(64) NOT NULL,                 #Snowflake Base32 13자 (시간순), 이전 데이터는 UUID
     `Users_IDX` BIGINT NOT NULL,
     `Recipient` VARCHAR(512) NULL,                      #AES-256
     `Address` VARCHAR(2048) NULL,                       #AES-256
@@ -269,20 +269,34 @@ CREATE TABLE `Orders` (
     `Created_at` DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
     `Updated_at` DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
     `Del` TINYINT(1) NOT NULL DEFAULT 0,
+    `Oversold` TINYINT(1) NOT NULL DEFAULT 0,           #만료된 재고 예약에 결제가 늦게 도착했는데 재고가 없던 주문 (보상 처리 대상)
 
     PRIMARY KEY (`Orders_IDX`),
 
     UNIQUE KEY `UK_Orders_Code` (`Orders_Code`),
 
-    KEY `IX_Orders_Users` (`Users_IDX`),
+    KEY `IX_Orders_Users_Created` (`Users_IDX`, `Created_at`, `Orders_IDX`),   # 사용자별 주문 목록 커서 페이징
     KEY `IX_Orders_Card` (`Card_IDX`),
 
     CONSTRAINT `CK_Orders_Del` CHECK (`Del` IN (0,1)),
+    CONSTRAINT `CK_Orders_Oversold` CHECK (`Oversold` IN (0,1)),
     CONSTRAINT `CK_Orders_Amounts` CHECK (
      `Items_Amount` >= 0 AND `Discount_Amount` >= 0 AND `Shipping_Fee` >= 0 AND `Total_Amount` >= 0
      )
 );
 
+/* 주문 코드 색인 (파티션 없음, 주문 코드 유일성 보장 + 코드 -> 주문 PK/파티션 조회, 아카이브 후에도 남김) */
+CREATE TABLE `Orders_Code` (
+    `Orders_Code` VARCHAR(64) NOT NULL,
+    `Orders_IDX` BIGINT NOT NULL,
+    `Users_IDX` BIGINT NOT NULL,                        #아카이브된 주문의 본인 확인용
+    `Created_at` DATETIME(6) NOT NULL,                  #Orders.Created_at (파티션 키)
+
+    PRIMARY KEY (`Orders_Code`),
+
+    KEY `IX_OrdersCode_Orders` (`Orders_IDX`)
+);
+
 CREATE TABLE `Orders_Item` (
     `Orders_Item_IDX` BIGINT NOT NULL AUTO_INCREMENT,
     `Orders_IDX` BIGINT NOT NULL,
@@ -293,6 +307,8 @@ CREATE TABLE `Orders_Item` (
     `Price` DECIMAL(19,2) NOT NULL,
     `Sale_Price` DECIMAL(19,2) NOT NULL DEFAULT 0,
     `Quantity` INT NOT NULL,
+    `Seller_IDX` BIGINT NULL,                           #주문 시점 판매자 (정산용)
+    `Amount` DECIMAL(19,2) NOT NULL DEFAULT 0,          #Price * Quantity (정산용)
     `Created_at` DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
     `Updated_at` DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
     `Del` TINYINT(1) NOT NULL DEFAULT 0,
@@ -302,13 +318,29 @@ CREATE TABLE `Orders_Item` (
     KEY `IX_OrdersItem_Orders` (`Orders_IDX`),
     KEY `IX_OrdersItem_Products` (`Products_Code`),
     KEY `IX_OrdersItem_Option` (`Option_Code`),
+    KEY `IX_OrdersItem_Seller` (`Seller_IDX`),
 
     CONSTRAINT `CK_OrdersItem_Del` CHECK (`Del` IN (0,1)),
     CONSTRAINT `CK_OrdersItem_Quantity` CHECK (`Quantity` > 0),
     CONSTRAINT `CK_OrdersItem_Price` CHECK (`Price` >= 0),
+    CONSTRAINT `CK_OrdersItem_Amount` CHECK (`Amount` >= 0),
     CONSTRAINT `CK_OrdersItem_SalePrice` CHECK (`Sale_Price` = 0 OR (`Sale_Price` >= 0 AND `Sale_Price` <= `Price`))
 );
 
+CREATE TABLE `Stock_Outbox` (
+    `Outbox_IDX` BIGINT NOT NULL AUTO_INCREMENT,
+    `Msg_Code` VARCHAR(64) NOT NULL,                    #Snowflake Base32 13자 (Consumer 중복 방지)
+    `Msg_Key` VARCHAR(200) NOT NULL,                    #Kafka 파티션 Key
+    `Payload` TEXT NOT NULL,                            #JSON
+    `Created_at` DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    `Failed_at` DATETIME(6) NULL,                       #발행할 수 없는 메시지 (Relay 대상에서 제외, 관리자 확인 후 재처리)
+    `Fail_Reason` VARCHAR(500) NULL,
+
+    PRIMARY KEY (`Outbox_IDX`),
+
+    UNIQUE KEY `UK_StockOutbox_MsgCode` (`Msg_Code`)
+);
+
 /* =========================
    Payment / Settlement_History
    ========================= */
@@ -347,7 +379,7 @@ CREATE TABLE `Settlement_History` (
 
     PRIMARY KEY (`Settlement_IDX`),
 
-    KEY `IX_SettlementHistory_Seller` (`Seller_IDX`),
+    KEY `IX_SettlementHistory_Seller_Cursor` (`Seller_IDX`, `Settlement_IDX`, `Type`, `Created_at`),   # 판매자별 커서 페이징 / 내보내기
     KEY `IX_SettlementHistory_Payment` (`Payment_IDX`),
 
     CONSTRAINT `CK_SettlementHistory_Del` CHECK (`Del` IN (0,1)),
@@ -355,6 +387,22 @@ CREATE TABLE `Settlement_History` (
     CONSTRAINT `CK_SettlementHistory_Type` CHECK (`Type` in ('ORDERS_CONFIRMED','SETTLE_PAYOUT','CANCEL_ADJUST'))
 );
 
+/* 판매자/일/유형별 정산 집계 (정산 내역 저장/환불/지급 시 같이 증감, 월 정산 배치가 읽음) */
+CREATE TABLE `Settlement_Daily` (
+    `Seller_IDX` BIGINT NOT NULL,
+    `Settle_Date` DATE NOT NULL,
+    `Type` VARCHAR(30) NOT NULL,
+    `Amount` DECIMAL(19,2) NOT NULL DEFAULT 0,
+    `Record_Count` BIGINT NOT NULL DEFAULT 0,
+    `Updated_at` DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
+
+    PRIMARY KEY (`Seller_IDX`, `Settle_Date`, `Type`),
+
+    KEY `IX_SettlementDaily_Type_Date` (`Type`, `Settle_Date`, `Seller_IDX`),
+
+    CONSTRAINT `CK_SettlementDaily_Type` CHECK (`Type` in ('ORDERS_CONFIRMED','SETTLE_PAYOUT','CANCEL_ADJUST'))
+);
+
 /* =========================
    Review
    ========================= */
@@ -10,7 +10,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDateTime;
+import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.Collections;
 import java.util.List;
@@ -38,18 +38,17 @@ public class SellerInfoCache {
             @Value("#{jobParameters['targetMonth']}") String targetMonth
     ) {
         YearMonth yearMonth = SettlementTimeUtil.resolveTargetMonth(targetMonth);
-        LocalDateTime startDate = SettlementTimeUtil.startOfMonth(yearMonth);
-        LocalDateTime endDate = SettlementTimeUtil.endOfMonth(yearMonth);
+        LocalDate startDate = yearMonth.atDay(1);
+        LocalDate endDate = yearMonth.atEndOfMonth();
 
-        // 파티션 범위 내 대상 판매자 ID 조회
+        // 파티션 범위 내 대상 판매자 ID 조회 (일별 정산 집계 기준)
         List<Long> sellerIds = jdbcTemplate.queryForList(
                 """
                 SELECT DISTINCT Seller_IDX
-                FROM Settlement_History
+                FROM Settlement_Daily
                 WHERE Type = 'ORDERS_CONFIRMED'
-                  AND Del = false
-                  AND Created_at >= ?
-                  AND Created_at <= ?
+                  AND Settle_Date >= ?
+                  AND Settle_Date <= ?
                   AND Seller_IDX >= ?
                   AND Seller_IDX <= ?
                 """,
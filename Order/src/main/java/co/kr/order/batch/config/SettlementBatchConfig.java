@@ -3,7 +3,7 @@ package co.kr.order.batch.config;
 import co.kr.order.batch.dto.SellerSettlementSummary;
 import co.kr.order.batch.listener.SettlementJobListener;
 import co.kr.order.batch.listener.SettlementStepListener;
-import co.kr.order.batch.partitioner.SellerIdxRangePartitioner;
+import co.kr.order.batch.partitioner.SellerVolumePartitioner;
 import co.kr.order.batch.processor.SettlementItemProcessor;
 import co.kr.order.batch.util.SettlementTimeUtil;
 import co.kr.order.exception.CustomException;
@@ -13,6 +13,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
@@ -20,8 +21,8 @@ import org.springframework.batch.core.partition.support.Partitioner;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.item.ItemReader;
-import org.springframework.batch.item.database.JdbcPagingItemReader;
-import org.springframework.batch.item.database.support.SqlPagingQueryProviderFactoryBean;
+import org.springframework.batch.item.database.JdbcCursorItemReader;
+import org.springframework.batch.item.database.builder.JdbcCursorItemReaderBuilder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -30,14 +31,12 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import javax.sql.DataSource;
-import java.time.LocalDateTime;
+import java.time.LocalDate;
 import java.time.YearMonth;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * Spring Batch 월간 정산 Job 설정 (Partitioning 구조)
- * - Seller_IDX 범위 기반으로 데이터를 분할하여 병렬 처리
+ * - 판매자별 정산 건수 분포로 데이터를 분할하여 병렬 처리
  * - Manager Step이 Partitioner로 범위를 분할하고, Worker Step이 각 범위를 독립 처리
  * - Reader/Processor/Writer 모두 병렬로 실행되어 I/O 병목 최소화
  */
@@ -66,51 +65,72 @@ public class SettlementBatchConfig {
                 .build();
     }
 
+    // 동시 실행 Worker Step 최대 수 (gridSize)
+    @Value("${custom.batch.settlement.max-workers:6}")
+    private int maxWorkers;
+
+    // Worker 하나가 맡을 정산 건수 기준 (전체 건수 / 이 값 = Worker 수)
+    @Value("${custom.batch.settlement.records-per-worker:50000}")
+    private long recordsPerWorker;
+
+    // Worker 하나당 파티션 수 (잘게 나눠서 먼저 끝난 Worker 가 남은 파티션을 가져감)
+    @Value("${custom.batch.settlement.partitions-per-worker:2}")
+    private int partitionsPerWorker;
+
     /**
      * Partitioning용 TaskExecutor
-     * - corePoolSize: 4 (동시 실행 Worker Step 수)
-     * - maxPoolSize: 8 (최대 Worker Step 수)
+     * - @StepScope: Manager Step 실행마다 생성, Step 종료 시 종료
+     * - 스레드 수는 Partitioner가 데이터 양으로 정한 workerCount (최대 max-workers)
      * - 각 Worker가 독립된 Reader로 DB를 병렬 조회
      */
     @Bean
-    public TaskExecutor settlementTaskExecutor() {
+    @StepScope
+    public ThreadPoolTaskExecutor settlementTaskExecutor(
+            @Value("#{stepExecutionContext['" + SellerVolumePartitioner.WORKER_COUNT_KEY + "']}") Integer workerCount
+    ) {
+        // 재시작 등으로 Partitioner가 다시 돌지 않았으면 상한으로 실행
+        int poolSize = workerCount == null ? maxWorkers : workerCount;
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(6);
-        executor.setMaxPoolSize(6);
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
         executor.setThreadNamePrefix("settlement-");
         executor.initialize();
         return executor;
     }
 
     /**
-     * Seller_IDX 범위 기반 Partitioner
-     * - 대상 기간의 Seller_IDX MIN/MAX를 조회하여 gridSize만큼 분할
+     * 정산 건수 기반 Partitioner
+     * - 판매자별 정산 건수 분포로 범위를 나누고 대형 판매자는 단독 파티션으로 분리
+     * - Worker 수를 Manager StepExecutionContext에 기록 (TaskExecutor 크기)
      */
     @Bean
     @StepScope
-    public Partitioner sellerIdxRangePartitioner(
+    public Partitioner sellerVolumePartitioner(
             DataSource dataSource,
+            @Value("#{stepExecution}") StepExecution stepExecution,
             @Value("#{jobParameters['targetMonth']}") String targetMonth
     ) {
-        return new SellerIdxRangePartitioner(dataSource, targetMonth);
+        return new SellerVolumePartitioner(dataSource, stepExecution, targetMonth, recordsPerWorker, partitionsPerWorker);
     }
 
     /**
      * Manager Step - Partitioner로 Worker Step을 분산 실행
-     * - gridSize: 4 (Seller_IDX 범위를 4등분)
+     * - gridSize: Worker 수 상한 (실제 Worker/파티션 수는 데이터 양으로 결정)
      * - TaskExecutor로 Worker Step 병렬 실행
      */
     @Bean
     public Step settlementManagerStep(
             JobRepository jobRepository,
             Step settlementWorkerStep,
-            Partitioner sellerIdxRangePartitioner
+            Partitioner sellerVolumePartitioner,
+            TaskExecutor settlementTaskExecutor
     ) {
         return new StepBuilder("settlementManagerStep", jobRepository)
-                .partitioner("settlementWorkerStep", sellerIdxRangePartitioner)
+                .partitioner("settlementWorkerStep", sellerVolumePartitioner)
                 .step(settlementWorkerStep)
-                .gridSize(6)
-                .taskExecutor(settlementTaskExecutor())
+                .gridSize(maxWorkers)
+                .taskExecutor(settlementTaskExecutor)
                 .build();
     }
 
@@ -146,62 +166,54 @@ public class SettlementBatchConfig {
      * 판매자별 집계 데이터 Reader (파티션 범위 적용)
      * - @StepScope: 각 파티션별 독립 인스턴스 생성
      * - stepExecutionContext에서 minSellerIdx/maxSellerIdx를 받아 범위 조회
-     * - 전월 ORDERS_CONFIRMED 데이터를 판매자별로 집계
+     * - 일별 정산 집계(Settlement_Daily)에서 전월 ORDERS_CONFIRMED를 판매자별로 합산
+     * - 집계 테이블은 판매자 x 일수 만큼만 있어서 거래 건수와 상관없이 한 번의 쿼리를 커서로 스트리밍
      */
     @Bean
     @StepScope
-    public ItemReader<SellerSettlementSummary> settlementReader(
+    public JdbcCursorItemReader<SellerSettlementSummary> settlementReader(
             DataSource dataSource,
             @Value("#{jobParameters['targetMonth']}") String targetMonth,
             @Value("#{stepExecutionContext['minSellerIdx']}") Long minSellerIdx,
             @Value("#{stepExecutionContext['maxSellerIdx']}") Long maxSellerIdx
-    ) throws Exception {
+    ) {
         YearMonth yearMonth = SettlementTimeUtil.resolveTargetMonth(targetMonth);
-        LocalDateTime startDate = SettlementTimeUtil.startOfMonth(yearMonth);
-        LocalDateTime endDate = SettlementTimeUtil.endOfMonth(yearMonth);
+        LocalDate startDate = yearMonth.atDay(1);
+        LocalDate endDate = yearMonth.atEndOfMonth();
 
         log.info("정산 Reader 초기화 - 기간: {} ~ {}, Seller_IDX 범위: [{} ~ {}]",
                 startDate, endDate, minSellerIdx, maxSellerIdx);
 
-        JdbcPagingItemReader<SellerSettlementSummary> reader = new JdbcPagingItemReader<>();
-        reader.setDataSource(dataSource);
-        reader.setName("settlementReader");
-        reader.setPageSize(600);
-        reader.setRowMapper((rs, rowNum) -> new SellerSettlementSummary(
-                rs.getLong("seller_idx"),
-                rs.getBigDecimal("total_amount"),
-                rs.getLong("record_count")
-        ));
-
-        SqlPagingQueryProviderFactoryBean queryProviderFactory = new SqlPagingQueryProviderFactoryBean();
-        queryProviderFactory.setDataSource(dataSource);
-        queryProviderFactory.setSelectClause("""
-                SELECT Seller_IDX AS seller_idx,
-                       SUM(Amount) AS total_amount,
-                       COUNT(*) AS record_count
-                """);
-        queryProviderFactory.setFromClause("FROM Settlement_History");
-        queryProviderFactory.setWhereClause("""
-                WHERE Type = :type
-                  AND Del = false
-                  AND Created_at >= :startDate
-                  AND Created_at <= :endDate
-                  AND Seller_IDX >= :minSellerIdx
-                  AND Seller_IDX <= :maxSellerIdx
-                """);
-        queryProviderFactory.setGroupClause("GROUP BY Seller_IDX");
-        queryProviderFactory.setSortKey("Seller_IDX");
-
-        reader.setQueryProvider(queryProviderFactory.getObject());
-
-        Map<String, Object> params = new HashMap<>();
-        params.put("type", SettlementType.ORDERS_CONFIRMED.name());
-        params.put("startDate", startDate);
-        params.put("endDate", endDate);
-        params.put("minSellerIdx", minSellerIdx);
-        params.put("maxSellerIdx", maxSellerIdx);
-        reader.setParameterValues(params);
-
-        return reader;
+        return new JdbcCursorItemReaderBuilder<SellerSettlementSummary>()
+                .name("settlementReader")
+                .dataSource(dataSource)
+                .fetchSize(600)
+                .sql("""
+                        SELECT Seller_IDX AS seller_idx,
+                               SUM(Amount) AS total_amount,
+                               SUM(Record_Count) AS record_count
+                        FROM Settlement_Daily
+                        WHERE Type = ?
+                          AND Settle_Date >= ?
+                          AND Settle_Date <= ?
+                          AND Seller_IDX >= ?
+                          AND Seller_IDX <= ?
+                        GROUP BY Seller_IDX
+                        HAVING SUM(Record_Count) > 0
+                        ORDER BY Seller_IDX
+                        """)
+                .preparedStatementSetter(ps -> {
+                    ps.setString(1, SettlementType.ORDERS_CONFIRMED.name());
+                    ps.setObject(2, startDate);
+                    ps.setObject(3, endDate);
+                    ps.setLong(4, minSellerIdx);
+                    ps.setLong(5, maxSellerIdx);
+                })
+                .rowMapper((rs, rowNum) -> new SellerSettlementSummary(
+                        rs.getLong("seller_idx"),
+                        rs.getBigDecimal("total_amount"),
+                        rs.getLong("record_count")
+                ))
+                .build();
     }
 }
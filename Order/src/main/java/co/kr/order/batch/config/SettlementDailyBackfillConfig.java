@@ -0,0 +1,103 @@
+package co.kr.order.batch.config;
+
+import co.kr.order.batch.util.SettlementTimeUtil;
+import co.kr.order.repository.SettlementDailyRepository;
+import co.kr.order.service.PartitionMaintenanceService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * 일별 정산 집계(Settlement_Daily) 재집계 배치
+ * - 집계 테이블 도입 이전 데이터 적재 / 집계가 어긋났을 때 복구용
+ * - 대상 월을 하루씩 Settlement_History 에서 다시 합산 (하루 = 한 트랜잭션)
+ * - 진행 중인 날짜는 StepExecutionContext 에 저장해서 실패 시 재시작하면 이어서 진행
+ * - 아카이브된 달은 Settlement_History 에 없어서 빈 집계로 덮어쓰게 되므로 실행하지 않음 (Job 실패)
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class SettlementDailyBackfillConfig {
+
+    private static final String CURSOR_KEY = "backfill.nextDate";
+
+    private final SettlementDailyRepository settlementDailyRepository;
+    private final PartitionMaintenanceService partitionMaintenanceService;
+
+    @Bean
+    public Job settlementDailyBackfillJob(JobRepository jobRepository, Step settlementDailyBackfillStep) {
+        return new JobBuilder("settlementDailyBackfillJob", jobRepository)
+                .incrementer(new RunIdIncrementer())
+                .start(settlementDailyBackfillStep)
+                .build();
+    }
+
+    @Bean
+    public Step settlementDailyBackfillStep(
+            JobRepository jobRepository,
+            PlatformTransactionManager transactionManager,
+            Tasklet settlementDailyBackfillTasklet
+    ) {
+        return new StepBuilder("settlementDailyBackfillStep", jobRepository)
+                .tasklet(settlementDailyBackfillTasklet, transactionManager)
+                .build();
+    }
+
+    /**
+     * 하루 재집계 Tasklet
+     * - 호출될 때마다 하루를 삭제 후 다시 합산하고, 남은 날짜가 있으면 CONTINUABLE 반환
+     */
+    @Bean
+    @StepScope
+    public Tasklet settlementDailyBackfillTasklet(
+            @Value("#{jobParameters['targetMonth']}") String targetMonth
+    ) {
+        YearMonth yearMonth = SettlementTimeUtil.resolveTargetMonth(targetMonth);
+
+        partitionMaintenanceService.archivedBefore()
+                .filter(hotFrom -> yearMonth.atDay(1).isBefore(hotFrom))
+                .ifPresent(hotFrom -> {
+                    throw new IllegalStateException(
+                            "아카이브된 달은 재집계할 수 없음 - targetMonth: " + yearMonth + ", 재집계 가능 시작일: " + hotFrom);
+                });
+
+        return (contribution, chunkContext) -> {
+            ExecutionContext context = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+
+            LocalDate date = context.containsKey(CURSOR_KEY)
+                    ? LocalDate.parse(context.getString(CURSOR_KEY))
+                    : yearMonth.atDay(1);
+
+            settlementDailyRepository.deleteBySettleDate(date);
+            int rows = settlementDailyRepository.rebuildDay(
+                    date,
+                    date.atStartOfDay(),
+                    date.plusDays(1).atStartOfDay()
+            );
+            contribution.incrementWriteCount(rows);
+
+            log.info("일별 정산 재집계 - 날짜: {}, 집계 행: {}", date, rows);
+
+            LocalDate next = date.plusDays(1);
+            context.putString(CURSOR_KEY, next.toString());
+
+            return next.isAfter(yearMonth.atEndOfMonth()) ? RepeatStatus.FINISHED : RepeatStatus.CONTINUABLE;
+        };
+    }
+}
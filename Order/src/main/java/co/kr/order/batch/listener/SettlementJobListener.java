@@ -4,6 +4,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.StepExecution;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
@@ -13,6 +14,7 @@ import java.time.LocalDateTime;
  * 월간 정산 배치 Job 리스너
  * - Job 시작/종료 시 로깅
  * - 실패 시 예외 정보 기록
+ * - Worker Step 소요 시간 합 / Job 소요 시간으로 병렬 효과(speedup) 기록
  */
 @Slf4j
 @Component
@@ -43,6 +45,7 @@ public class SettlementJobListener implements JobExecutionListener {
         log.info("Job 상태: {}", status);
         log.info("종료 시간: {}", endTime);
         log.info("소요 시간: {}초", durationSeconds);
+        logPartitionSpeedup(jobExecution, startTime, endTime);
 
         if (status == BatchStatus.FAILED) {
             log.error("Job 실패 - 예외 목록:");
@@ -52,4 +55,33 @@ public class SettlementJobListener implements JobExecutionListener {
 
         log.info("========================================");
     }
+
+    /**
+     * 파티션 병렬 효과
+     * - 직렬 실행했다면 걸렸을 시간(Worker Step 소요 시간 합) / 실제 소요 시간
+     * - 가장 오래 걸린 파티션이 전체 시간을 결정하므로 함께 기록
+     */
+    private void logPartitionSpeedup(JobExecution jobExecution, LocalDateTime startTime, LocalDateTime endTime) {
+        if (startTime == null || endTime == null) {
+            return;
+        }
+
+        long totalMs = 0;
+        long slowestMs = 0;
+        int partitionCount = 0;
+        for (StepExecution step : jobExecution.getStepExecutions()) {
+            if (!step.getStepName().startsWith("settlementWorkerStep")
+                    || step.getStartTime() == null || step.getEndTime() == null) {
+                continue;
+            }
+            long ms = Duration.between(step.getStartTime(), step.getEndTime()).toMillis();
+            totalMs += ms;
+            slowestMs = Math.max(slowestMs, ms);
+            partitionCount++;
+        }
+
+        long jobMs = Math.max(Duration.between(startTime, endTime).toMillis(), 1);
+        log.info("파티션: {}개 | Worker 소요 합: {}ms | 최장 파티션: {}ms | 병렬 효과: {}배",
+                partitionCount, totalMs, slowestMs, String.format("%.2f", (double) totalMs / jobMs));
+    }
 }
@@ -1,5 +1,8 @@
 package co.kr.order.batch.listener;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.StepExecution;
@@ -9,17 +12,22 @@ import org.springframework.stereotype.Component;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Worker Step 성능 추적 리스너
  * - 파티션별 처리 시작/종료 시간, 소요 시간
  * - Read/Write/Skip 건수
- * - 파티션 범위 (Seller_IDX min ~ max)
+ * - 파티션 범위 (Seller_IDX min ~ max), 예상 정산 건수 / 파티션 종류 (range / heavy)
+ * - 파티션 소요 시간을 Timer(settlement.batch.partition)로 기록
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class SettlementStepListener implements StepExecutionListener {
 
+    private final MeterRegistry meterRegistry;
+
     @Override
     public void beforeStep(@NonNull StepExecution stepExecution) {
         Long minSellerIdx = stepExecution.getExecutionContext().getLong("minSellerIdx", -1);
@@ -42,9 +50,19 @@ public class SettlementStepListener implements StepExecutionListener {
                 ? Duration.between(startTime, endTime).toMillis()
                 : 0;
 
-        log.info("[{}] 파티션 완료 - Seller_IDX [{} ~ {}] | 소요: {}ms | Read: {} | Write: {} | Filter: {} | Skip: {} | 상태: {}",
+        long plannedRecords = stepExecution.getExecutionContext().getLong("plannedRecords", -1);
+        String partitionKind = stepExecution.getExecutionContext().getString("partitionKind", "range");
+
+        Timer.builder("settlement.batch.partition")
+                .tag("kind", partitionKind)
+                .tag("status", stepExecution.getStatus().name())
+                .register(meterRegistry)
+                .record(durationMs, TimeUnit.MILLISECONDS);
+
+        log.info("[{}] 파티션 완료 - Seller_IDX [{} ~ {}] ({}, 예상 건수: {}) | 소요: {}ms | Read: {} | Write: {} | Filter: {} | Skip: {} | 상태: {}",
                 stepExecution.getStepName(),
                 minSellerIdx, maxSellerIdx,
+                partitionKind, plannedRecords,
                 durationMs,
                 stepExecution.getReadCount(),
                 stepExecution.getWriteCount(),
@@ -0,0 +1,145 @@
+package co.kr.order.batch.partitioner;
+
+import co.kr.order.batch.util.SettlementTimeUtil;
+import co.kr.order.model.vo.SettlementType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 정산 건수 기반 Partitioner
+ * - 일별 정산 집계(Settlement_Daily)에서 대상 기간의 판매자별 정산 건수(Record_Count)를 조회
+ * - Seller_IDX 순서로 누적 건수가 목표치(전체 / 파티션 수)에 도달할 때마다 범위를 자름 (누적 분포의 분위수)
+ * - 혼자서 목표치 이상인 대형 판매자는 단독 파티션으로 분리
+ * - Worker 수는 전체 건수 / recordsPerWorker 로 정하고 gridSize 를 상한으로 사용
+ *   (Manager StepExecutionContext 의 workerCount 로 TaskExecutor 크기 결정)
+ * - 데이터가 없으면 빈 Map 반환 (Worker Step 실행 안 됨)
+ */
+@Slf4j
+public class SellerVolumePartitioner implements Partitioner {
+
+    public static final String WORKER_COUNT_KEY = "workerCount";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StepExecution managerStepExecution;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final long recordsPerWorker;
+    private final int partitionsPerWorker;
+
+    /**
+     * 판매자 한 명의 정산 건수
+     */
+    private record SellerVolume(long sellerIdx, long recordCount) {}
+
+    public SellerVolumePartitioner(
+            DataSource dataSource,
+            StepExecution managerStepExecution,
+            String targetMonth,
+            long recordsPerWorker,
+            int partitionsPerWorker
+    ) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.managerStepExecution = managerStepExecution;
+        YearMonth yearMonth = SettlementTimeUtil.resolveTargetMonth(targetMonth);
+        this.startDate = yearMonth.atDay(1);
+        this.endDate = yearMonth.atEndOfMonth();
+        this.recordsPerWorker = Math.max(recordsPerWorker, 1);
+        this.partitionsPerWorker = Math.max(partitionsPerWorker, 1);
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, ExecutionContext> result = new HashMap<>();
+
+        List<SellerVolume> volumes = jdbcTemplate.query(
+                """
+                SELECT Seller_IDX, SUM(Record_Count) AS record_count
+                FROM Settlement_Daily
+                WHERE Type = ?
+                  AND Settle_Date >= ?
+                  AND Settle_Date <= ?
+                GROUP BY Seller_IDX
+                HAVING SUM(Record_Count) > 0
+                ORDER BY Seller_IDX
+                """,
+                (rs, rowNum) -> new SellerVolume(rs.getLong("Seller_IDX"), rs.getLong("record_count")),
+                SettlementType.ORDERS_CONFIRMED.name(), startDate, endDate
+        );
+
+        if (volumes.isEmpty()) {
+            log.info("정산 대상 데이터 없음 - 파티션 생성 건너뜀");
+            return result;
+        }
+
+        // Worker 수 / 파티션 수 결정 (파티션을 Worker 보다 잘게 나눠서 먼저 끝난 Worker 가 다음 파티션을 가져감)
+        long totalRecords = volumes.stream().mapToLong(SellerVolume::recordCount).sum();
+        long neededWorkers = (totalRecords + recordsPerWorker - 1) / recordsPerWorker;
+        int workerCount = Math.clamp(neededWorkers, 1, Math.max(gridSize, 1));
+        int partitionCount = Math.min(workerCount * partitionsPerWorker, volumes.size());
+        long target = (totalRecords + partitionCount - 1) / partitionCount;
+
+        managerStepExecution.getExecutionContext().putInt(WORKER_COUNT_KEY, workerCount);
+
+        // 누적 건수 기준으로 범위 분할
+        int heavyCount = 0;
+        long rangeStart = 0;
+        long rangeEnd = 0;
+        long rangeRecords = 0;
+        for (SellerVolume volume : volumes) {
+
+            // 대형 판매자 단독 파티션 (진행 중이던 범위는 먼저 닫음)
+            if (volume.recordCount() >= target) {
+                if (rangeRecords > 0) {
+                    addPartition(result, rangeStart, rangeEnd, rangeRecords, false);
+                    rangeRecords = 0;
+                }
+                addPartition(result, volume.sellerIdx(), volume.sellerIdx(), volume.recordCount(), true);
+                heavyCount++;
+                continue;
+            }
+
+            if (rangeRecords == 0) {
+                rangeStart = volume.sellerIdx();
+            }
+            rangeEnd = volume.sellerIdx();
+            rangeRecords += volume.recordCount();
+
+            if (rangeRecords >= target) {
+                addPartition(result, rangeStart, rangeEnd, rangeRecords, false);
+                rangeRecords = 0;
+            }
+        }
+        if (rangeRecords > 0) {
+            addPartition(result, rangeStart, rangeEnd, rangeRecords, false);
+        }
+
+        log.info("파티션 분할 - 판매자: {}명, 정산 건수: {}, Worker: {}, 파티션: {} (대형 판매자 단독: {}), 파티션당 목표 건수: {}",
+                volumes.size(), totalRecords, workerCount, result.size(), heavyCount, target);
+
+        return result;
+    }
+
+    // 파티션 하나 추가 (범위 + 예상 건수 + 대형 판매자 여부)
+    private void addPartition(Map<String, ExecutionContext> result, long start, long end, long records, boolean heavy) {
+        ExecutionContext context = new ExecutionContext();
+        context.putLong("minSellerIdx", start);
+        context.putLong("maxSellerIdx", end);
+        context.putLong("plannedRecords", records);
+        context.putString("partitionKind", heavy ? "heavy" : "range");
+
+        String name = "partition" + result.size();
+        result.put(name, context);
+
+        log.debug("{} 생성 - Seller_IDX 범위: [{} ~ {}], 예상 건수: {}, 대형: {}", name, start, end, records, heavy);
+    }
+}
@@ -3,6 +3,7 @@ package co.kr.order.batch.writer;
 import co.kr.order.batch.dto.SellerSettlementSummary;
 import co.kr.order.batch.util.SettlementTimeUtil;
 import co.kr.order.model.vo.SettlementType;
+import co.kr.order.repository.SettlementDailyRepository;
 import co.kr.order.repository.SettlementRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.configuration.annotation.StepScope;
@@ -20,6 +21,7 @@ import java.util.List;
  * 정산 처리 Writer
  * - Processor에서 검증 통과된 판매자만 수신
  * - ORDERS_CONFIRMED → SETTLE_PAYOUT으로 상태 업데이트
+ * - 일별 정산 집계도 같은 Chunk 트랜잭션에서 SETTLE_PAYOUT으로 이동
  */
 @Slf4j
 @Component
@@ -27,13 +29,16 @@ import java.util.List;
 public class SettlementItemWriter implements ItemWriter<SellerSettlementSummary> {
 
     private final SettlementRepository settlementRepository;
+    private final SettlementDailyRepository settlementDailyRepository;
     private final String targetMonth;
 
     public SettlementItemWriter(
             SettlementRepository settlementRepository,
+            SettlementDailyRepository settlementDailyRepository,
             @Value("#{jobParameters['targetMonth']}") String targetMonth
     ) {
         this.settlementRepository = settlementRepository;
+        this.settlementDailyRepository = settlementDailyRepository;
         this.targetMonth = targetMonth;
     }
 
@@ -55,6 +60,10 @@ public class SettlementItemWriter implements ItemWriter<SellerSettlementSummary>
                 endDate
         );
 
+        // 일별 집계 이동 (ORDERS_CONFIRMED 합산 -> SETTLE_PAYOUT, 이후 삭제)
+        settlementDailyRepository.copyConfirmedToPayout(sellerIdxList, startDate.toLocalDate(), endDate.toLocalDate());
+        settlementDailyRepository.deleteConfirmed(sellerIdxList, startDate.toLocalDate(), endDate.toLocalDate());
+
         log.info("Chunk 처리 완료 - 판매자 {}명, 업데이트 건수: {}", sellerIdxList.size(), updatedCount);
     }
 }
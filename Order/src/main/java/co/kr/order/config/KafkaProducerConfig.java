@@ -0,0 +1,24 @@
+package co.kr.order.config;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.DefaultKafkaProducerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Map;
+
+/*
+ * Kafka Producer 설정
+ * - send() 가 브로커 메타데이터를 기다리며 막히는 시간 (max.block.ms, 기본 60초) 제한
+ *   Outbox Relay 는 행 잠금 / DB 커넥션을 잡은 채 send() 를 호출하므로, Kafka 장애 시 빨리 실패하고 롤백해야 함
+ */
+@Configuration
+public class KafkaProducerConfig {
+
+    @Bean
+    public DefaultKafkaProducerFactoryCustomizer producerMaxBlockCustomizer(
+            @Value("${custom.kafka.producer.max-block-ms:3000}") long maxBlockMs) {
+        return factory -> factory.updateConfigs(Map.of(ProducerConfig.MAX_BLOCK_MS_CONFIG, maxBlockMs));
+    }
+}
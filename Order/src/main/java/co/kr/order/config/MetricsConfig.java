@@ -0,0 +1,26 @@
+package co.kr.order.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/*
+ * 메트릭 설정
+ * - 주문 생성 응답 시간 (대기열 입장량 조절의 기준 지표)
+ */
+@Configuration
+public class MetricsConfig {
+
+    /*
+     * 주문 생성 응답 시간 Timer
+     * p95를 애플리케이션 안에서 바로 읽을 수 있도록 percentile 을 함께 계산
+     */
+    @Bean
+    public Timer createOrderTimer(MeterRegistry meterRegistry) {
+        return Timer.builder("order.create.latency")
+                .description("주문 생성 처리 시간")
+                .publishPercentiles(0.95)
+                .register(meterRegistry);
+    }
+}
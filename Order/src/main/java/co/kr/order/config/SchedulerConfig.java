@@ -0,0 +1,29 @@
+package co.kr.order.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/*
+ * 스케쥴러 스레드 풀 설정
+ * - 기본 스케쥴러는 스레드 1개라 한 작업이 느려지면 (Kafka 장애 중 Outbox Relay 등) 대기열 입장 tick / SSE Push / 예약 회수까지 모두 멈춤
+ * - @Scheduled 작업 수(WorkerConfig + 정산 배치) 이상으로 잡아서 작업마다 스레드가 남도록 함
+ *   (fixedDelay 작업은 자기 자신과 겹쳐 실행되지 않으므로 작업 수만큼이면 서로 막지 않음)
+ */
+@Slf4j
+@Configuration
+public class SchedulerConfig {
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${custom.scheduler.pool-size:8}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("order-worker-");
+        scheduler.setErrorHandler(e -> log.error("스케쥴러 작업 실패", e));
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(10);
+        return scheduler;
+    }
+}
@@ -1,45 +1,150 @@
 package co.kr.order.config;
 
-import co.kr.order.service.QueueService;
+import co.kr.order.service.AdmissionService;
+import co.kr.order.service.OrderCodeGenerator;
+import co.kr.order.service.OrderService;
+import co.kr.order.service.OutboxService;
+import co.kr.order.service.PartitionMaintenanceService;
+import co.kr.order.service.QueueStreamService;
+import co.kr.order.service.StockReservationService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.Scheduled;
 
+import java.util.List;
+
 /*
  * 스케쥴러(Worker) 설정
  * - 대기열 시스템
- * -
+ * - 재고 예약 만료 회수
+ * - 재고 차감 Outbox 발행
+ * - 주문 코드 Worker ID Lease 연장
+ * - 주문/정산 월 파티션 생성 및 아카이브
  */
+@Slf4j
 @Configuration
 @RequiredArgsConstructor
 public class WorkerConfig {
 
-    private final QueueService queueService;
+    private final AdmissionService admissionService;
+    private final QueueStreamService queueStreamService;
+    private final StockReservationService stockReservationService;
+    private final OrderService orderService;
+    private final OutboxService outboxService;
+    private final OrderCodeGenerator orderCodeGenerator;
+    private final PartitionMaintenanceService partitionMaintenanceService;
+
+    // 한 번에 회수할 만료 예약 수
+    @Value("${custom.order.reservation.sweep-batch-size:100}")
+    private int sweepBatchSize;
+
+    // 한 번에 발행할 Outbox 메시지 수
+    @Value("${custom.order.outbox.batch-size:500}")
+    private int outboxBatchSize;
 
     /*
      * ㅡㅡㅡㅡㅡㅡㅡㅡㅡㅡ
      * 대기열 시스템 Worker
      * ㅡㅡㅡㅡㅡㅡㅡㅡㅡㅡ
      */
-    // [입장] 1초마다 1명씩 입장 (유량 제어)
-    @Scheduled(fixedDelay = 3000)
-    public void workerEnter() {
-        queueService.allowEnterUser(1L);
+    // [입장/주문/청소] 리더 인스턴스가 백엔드 상태에 맞춰 입장량/수용량을 조절하며 모든 대기실을 한 번에 처리 (AdmissionServiceImpl)
+    // 잠수탄 주문 유저 정리도 대기실별 퇴장 시간 기준으로 같은 tick 에서 처리
+    @Scheduled(fixedDelayString = "${custom.queue.admission.tick-ms:1000}")
+    public void workerAdmission() {
+        admissionService.tick();
+    }
+
+    // [Push] 1초마다 SSE 로 연결된 유저에게 순번/입장 여부 전송
+    @Scheduled(fixedDelayString = "${custom.queue.stream.push-ms:1000}")
+    public void workerQueueStream() {
+        queueStreamService.broadcast();
+    }
+
+    /*
+     * ㅡㅡㅡㅡㅡㅡㅡㅡㅡㅡㅡ
+     * 재고 예약 회수 Worker
+     * ㅡㅡㅡㅡㅡㅡㅡㅡㅡㅡㅡ
+     */
+    // [회수] 10초마다 결제 콜백 없이 만료된 예약의 재고 복구 (배치 단위로 비워질 때까지)
+    // DB 에서 주문을 먼저 취소한 뒤 재고를 복구 (취소가 실패하면 장부가 그대로 남아서 다음 주기에 다시 시도)
+    // 복구는 장부 기준이라 결제 실패 콜백과 겹치거나 재시도돼도 한 번만 반영됨
+    @Scheduled(fixedDelayString = "${custom.order.reservation.sweep-delay-ms:10000}")
+    public void releaseExpiredReservations() {
+        List<String> expired;
+        do {
+            expired = stockReservationService.findExpired(sweepBatchSize);
+            if (expired.isEmpty()) {
+                return;
+            }
+            orderService.cancelExpiredOrders(expired);
+
+            int released = 0;
+            for (String orderCode : expired) {
+                if (stockReservationService.release(orderCode)) {
+                    released++;
+                }
+            }
+            log.info("만료된 재고 예약 {}건 회수 완료", released);
+        } while (expired.size() >= sweepBatchSize);
     }
 
-    // [주문] 1초마다 빈 자리(50명 제한) 체크해서 입장
-    @Scheduled(fixedDelay = 1000)
-    public void workerOrder() {
-        // 최대 동시 주문 가능 인원을 2명으로 가정
-        queueService.allowOrderUser(2L);
+    /*
+     * ㅡㅡㅡㅡㅡㅡㅡㅡㅡㅡㅡㅡ
+     * 재고 Outbox Relay Worker
+     * ㅡㅡㅡㅡㅡㅡㅡㅡㅡㅡㅡㅡ
+     */
+    // [발행] 0.5초마다 쌓인 재고 차감 메시지를 묶어서 Kafka로 발행 (밀려 있으면 비워질 때까지)
+    // 스케쥴러 풀(SchedulerConfig)이라 Kafka 장애로 느려져도 다른 Worker 는 계속 실행됨
+    @Scheduled(fixedDelayString = "${custom.order.outbox.poll-delay-ms:500}")
+    public void relayStockOutbox() {
+        int relayed;
+        try {
+            do {
+                relayed = outboxService.relayStockUpdates(outboxBatchSize);
+            } while (relayed >= outboxBatchSize);
+        } catch (Exception e) {
+            // 롤백된 메시지는 Outbox 에 그대로 남아서 다음 주기에 재발행
+            log.warn("Outbox 재고 메시지 발행 실패, 다음 주기에 재시도 : {}", e.getMessage());
+        }
     }
 
-    // [청소] 1분마다 잠수탄 주문 유저 정리
-    @Scheduled(fixedDelay = 60000)
-    public void evictUsers() {
-        // 10분(600,000ms) 동안 반응 없으면 주문 대기열에서 쫓아냄
-        long minute = 10L;
-        long time = 60000L * minute;
-        queueService.evictInactiveUsers(time);
+    /*
+     * ㅡㅡㅡㅡㅡㅡㅡㅡㅡㅡㅡㅡㅡㅡ
+     * 주문 코드 Worker ID Lease Worker
+     * ㅡㅡㅡㅡㅡㅡㅡㅡㅡㅡㅡㅡㅡㅡ
+     */
+    // [연장] 10초마다 Worker ID Lease 연장 (Lease TTL 보다 짧게, 유실됐으면 새로 획득)
+    @Scheduled(fixedDelayString = "${custom.order.code.renew-ms:10000}")
+    public void renewOrderCodeLease() {
+        try {
+            orderCodeGenerator.renewLease();
+        } catch (Exception e) {
+            // 연장 실패해도 Lease 만료 전까지는 발급 가능, 만료되면 발급 시점에 다시 시도
+            log.warn("주문 코드 Worker ID Lease 연장 실패 : {}", e.getMessage());
+        }
+    }
+
+    /*
+     * ㅡㅡㅡㅡㅡㅡㅡㅡㅡㅡㅡㅡ
+     * 월 파티션 관리 Worker
+     * ㅡㅡㅡㅡㅡㅡㅡㅡㅡㅡㅡㅡ
+     */
+    // [생성/아카이브] 매일 새벽 미래 월 파티션을 미리 만들고, 보관 기간이 지난 달은 아카이브 테이블로 옮긴 뒤 DROP
+    @Scheduled(cron = "${custom.order.partition.cron:0 30 4 * * *}")
+    public void maintainPartitions() {
+        try {
+            partitionMaintenanceService.createFuturePartitions();
+        } catch (Exception e) {
+            // 미리 만들어 둔 달이 남아 있으므로 다음 날 다시 시도
+            log.error("월 파티션 생성 실패", e);
+        }
+        try {
+            partitionMaintenanceService.archiveClosedMonths();
+        } catch (Exception e) {
+            // 복사는 INSERT IGNORE 라 다음 실행에서 이어서 진행
+            log.error("월 파티션 아카이브 실패", e);
+        }
     }
-}
\ No newline at end of file
+}
@@ -3,18 +3,19 @@ package co.kr.order.controller;
 import co.kr.order.controller.swagger.order.OrderCreateDocs;
 import co.kr.order.controller.swagger.order.OrderDetailDocs;
 import co.kr.order.controller.swagger.order.OrderListDocs;
+import co.kr.order.model.dto.AdmissionPass;
 import co.kr.order.model.dto.request.OrderReq;
 import co.kr.order.model.dto.response.BaseResponse;
+import co.kr.order.model.dto.response.OrderPageRes;
 import co.kr.order.model.dto.response.OrderRes;
+import co.kr.order.service.AdmissionPassService;
 import co.kr.order.service.OrderService;
+import io.micrometer.core.instrument.Timer;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.web.PageableDefault;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -26,6 +27,13 @@ import org.springframework.web.bind.annotation.*;
 public class OrderController {
 
     private final OrderService orderService;
+    private final Timer createOrderTimer;
+    private final AdmissionPassService admissionPassService;
+
+    // 주문 생성 시 대기열 입장권 검증 여부
+    // (재사용 방지는 인스턴스별 메모리라 입장권 유효 시간 안에는 인스턴스 수만큼 주문 가능, application yml 참고)
+    @Value("${custom.queue.pass.enabled:true}")
+    private boolean admissionPassEnabled;
 
     /*
      * 주문 요청 (POST)
@@ -42,8 +50,23 @@ public class OrderController {
         String headerValue = servletRequest.getHeader("X-USERS-IDX");
         Long userIdx = (headerValue != null) ? Long.parseLong(headerValue) : null;
 
-        // 주문 생성
-        OrderRes info = orderService.createOrder(userIdx, request);
+        // 대기열 입장권 검증 (서명만 확인, Redis 조회 없음 / 대기실은 주문 상품을 읽은 뒤 확인)
+        AdmissionPass pass = admissionPassEnabled
+                ? admissionPassService.consume(servletRequest.getHeader("X-ADMISSION-PASS"), userIdx)
+                : null;
+        String admittedRoom = pass != null ? pass.queueId() : null;
+
+        // 주문 생성 (응답 시간은 대기열 입장량 조절에 사용)
+        OrderRes info;
+        try {
+            info = createOrderTimer.record(() -> orderService.createOrder(userIdx, request, admittedRoom));
+        } catch (RuntimeException e) {
+            // 주문이 만들어지지 않았으면 같은 입장권으로 재시도할 수 있도록 반납
+            if (pass != null) {
+                admissionPassService.restore(pass.nonce());
+            }
+            throw e;
+        }
         BaseResponse<OrderRes> body = new BaseResponse<>("ok", info);
 
         // 주문 정보 응답 (CREATED)
@@ -52,16 +75,18 @@ public class OrderController {
 
     /*
      * 주문 리스트 정보 요청 (GET)
-     * @param pageable: 페이징
+     * 생성일 내림차순 커서 페이징 (응답의 nextCursor 를 다음 요청의 cursor 로 전달)
+     * @param cursor: 이전 페이지의 nextCursor (첫 페이지는 생략)
+     * @param size: 페이지 크기 (기본 10개)
+     * @param withTotal: 전체 주문 수 포함 여부 (기본 false, COUNT 쿼리 발생)
      */
     @OrderListDocs
     @GetMapping
-    public ResponseEntity<BaseResponse<Page<OrderRes>>> getOrderList (
+    public ResponseEntity<BaseResponse<OrderPageRes>> getOrderList (
             HttpServletRequest servletRequest,
-            @PageableDefault(
-                    size = 10,  // 10개씩
-                    sort = "createdAt",  // 생성일 기준으로
-                    direction = Sort.Direction.DESC) Pageable pageable  // 내림차순
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "10") Integer size,
+            @RequestParam(value = "withTotal", defaultValue = "false") boolean withTotal
     ) {
 
         // 해더의 Key가 "X-USERS-IDX"인 Value 가져오기
@@ -69,8 +94,8 @@ public class OrderController {
         Long userIdx = (headerValue != null) ? Long.parseLong(headerValue) : null;
 
         // 상품 리스트 조회
-        Page<OrderRes> info = orderService.findOrderList(userIdx, pageable);
-        BaseResponse<Page<OrderRes>> body = new BaseResponse<>("ok", info);
+        OrderPageRes info = orderService.findOrderList(userIdx, cursor, size, withTotal);
+        BaseResponse<OrderPageRes> body = new BaseResponse<>("ok", info);
 
         // 상품 리스트 정보 응답 (OK)
         return ResponseEntity.ok(body);
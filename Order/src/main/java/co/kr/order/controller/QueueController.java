@@ -1,12 +1,16 @@
 package co.kr.order.controller;
 
 import co.kr.order.controller.swagger.queue.*;
+import co.kr.order.model.redis.QueueRoom;
 import co.kr.order.model.redis.WaitingQueue;
 import co.kr.order.service.QueueService;
+import co.kr.order.service.QueueStreamService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.UUID;
 
@@ -17,11 +21,13 @@ import java.util.UUID;
 public class QueueController {
 
     private final QueueService queueService;
+    private final QueueStreamService queueStreamService;
 
     /*
      * ㅡㅡㅡㅡㅡㅡㅡㅡㅡㅡㅡㅡㅡ
      * 입장 대기열 (Rate Limiter)
      * 1초마다 N명씩 접근 가능
+     * room: 대기실 ID (이벤트 / 상품 코드, 생략 시 기본 대기실)
      * ㅡㅡㅡㅡㅡㅡㅡㅡㅡㅡㅡㅡㅡ
      */
 
@@ -29,6 +35,7 @@ public class QueueController {
     @QueueEnterRegisterDocs
     @PostMapping("/enter/register")
     public String enterQueue(
+            @RequestParam(value = "room", defaultValue = QueueRoom.DEFAULT_ROOM) String roomId,
             HttpServletRequest servletRequest
     ) {
         // 해더의 Key가 "X-USERS-IDX"인 Value 가져오기
@@ -45,7 +52,7 @@ public class QueueController {
         }
 
         // 입장 대기열 등록
-        queueService.registerEnter(queueToken);
+        queueService.registerEnter(roomId, queueToken);
 
         // 토큰 반환
         return queueToken;
@@ -55,11 +62,23 @@ public class QueueController {
     @QueueEnterStatusDocs
     @GetMapping("/enter/status")
     public WaitingQueue getEnterStatus(
+            @RequestParam(value = "room", defaultValue = QueueRoom.DEFAULT_ROOM) String roomId,
             // Header의 Key가 "X-QUEUE-TOKEN"
             @RequestHeader("X-QUEUE-TOKEN") String queueToken
     ) {
         // 대기열 번호 조회 후 응답
-        return queueService.getEnterStatus(queueToken);
+        return queueService.getEnterStatus(roomId, queueToken);
+    }
+
+    // 대기열 번호 구독 (SSE)
+    @QueueEnterStreamDocs
+    @GetMapping(value = "/enter/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEnterStatus(
+            @RequestParam(value = "room", defaultValue = QueueRoom.DEFAULT_ROOM) String roomId,
+            @RequestParam("token") String queueToken
+    ) {
+        // 연결 후 tick 마다 순번/입장 허용 Push
+        return queueStreamService.subscribeEnter(roomId, queueToken);
     }
 
 
@@ -74,14 +93,12 @@ public class QueueController {
     @QueueOrderEnterDocs
     @PostMapping("/orders/enter")
     public String orderQueue(
-            HttpServletRequest servletRequest
+            @RequestParam(value = "room", defaultValue = QueueRoom.DEFAULT_ROOM) String roomId,
+            // 주문 대기열은 회원 전용 (헤더가 없거나 숫자가 아니면 400)
+            @RequestHeader("X-USERS-IDX") Long userIdx
     ) {
-        // 해더의 Key가 "X-USERS-IDX"인 Value 가져오기
-        String headerValue = servletRequest.getHeader("X-USERS-IDX");
-        Long userIdx = (headerValue != null) ? Long.parseLong(headerValue) : null;
-
         // 주문 대기열 등록
-        queueService.registerOrder(userIdx);
+        queueService.registerOrder(roomId, userIdx);
 
         // 메시지 응답
         return "주문 대기열 진입";
@@ -91,28 +108,33 @@ public class QueueController {
     @QueueOrderStatusDocs
     @GetMapping("/orders/status")
     public WaitingQueue getOrderStatus(
-            HttpServletRequest servletRequest
+            @RequestParam(value = "room", defaultValue = QueueRoom.DEFAULT_ROOM) String roomId,
+            @RequestHeader("X-USERS-IDX") Long userIdx
     ) {
-        // 해더의 Key가 "X-USERS-IDX"인 Value 가져오기
-        String headerValue = servletRequest.getHeader("X-USERS-IDX");
-        Long userIdx = (headerValue != null) ? Long.parseLong(headerValue) : null;
-
         // 대기열 번호 조회 후 응답
-        return queueService.getOrderStatus(userIdx);
+        return queueService.getOrderStatus(roomId, userIdx);
+    }
+
+    // 대기열 번호 구독 (SSE)
+    @QueueOrderStreamDocs
+    @GetMapping(value = "/orders/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamOrderStatus(
+            @RequestParam(value = "room", defaultValue = QueueRoom.DEFAULT_ROOM) String roomId,
+            @RequestHeader("X-USERS-IDX") Long userIdx
+    ) {
+        // 연결 후 tick 마다 순번/주문 가능 여부 Push (연결 유지 = Heartbeat)
+        return queueStreamService.subscribeOrder(roomId, userIdx);
     }
 
     // 주문 완료 시 대기열 퇴장
     @QueueOrderSuccessDocs
     @PostMapping("/orders/success")
     public String exitOrder(
-            HttpServletRequest servletRequest
+            @RequestParam(value = "room", defaultValue = QueueRoom.DEFAULT_ROOM) String roomId,
+            @RequestHeader("X-USERS-IDX") Long userIdx
     ) {
-        // 해더의 Key가 "X-USERS-IDX"인 Value 가져오기
-        String headerValue = servletRequest.getHeader("X-USERS-IDX");
-        Long userIdx = (headerValue != null) ? Long.parseLong(headerValue) : null;
-
         // 대기열 퇴장
-        queueService.exitQueue(userIdx);
+        queueService.exitQueue(roomId, userIdx);
 
         // 메시지 응답
         return "결제 완료 (대기열 퇴장)";
@@ -0,0 +1,57 @@
+package co.kr.order.controller;
+
+import co.kr.order.model.dto.request.QueueRoomReq;
+import co.kr.order.model.redis.QueueRoom;
+import co.kr.order.service.QueueRoomService;
+import io.swagger.v3.oas.annotations.Hidden;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Pattern;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/*
+ * 대기실 관리 (내부 서비스 / 운영용, Gateway 미노출)
+ * 이벤트 / 상품 드롭 시작 전에 대기실을 열고, 끝나면 닫음
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/client/queue/rooms")
+@Hidden
+public class QueueRoomController {
+
+    private final QueueRoomService queueRoomService;
+
+    /*
+     * 열려 있는 대기실 목록 (GET)
+     */
+    @GetMapping
+    public List<QueueRoom> getRooms() {
+        return queueRoomService.getRooms();
+    }
+
+    /*
+     * 대기실 생성/수정 (PUT)
+     * @param roomId: 대기실 ID (이벤트 코드 / 상품 코드, 영문/숫자/_/- 1~64자)
+     * @param request: 입장량/수용량/퇴장 시간
+     */
+    @PutMapping("/{roomId}")
+    public QueueRoom openRoom(
+            @PathVariable("roomId") @Pattern(regexp = QueueRoom.ROOM_ID_REGEX) String roomId,
+            @Valid @RequestBody QueueRoomReq request
+    ) {
+        return queueRoomService.openRoom(roomId, request);
+    }
+
+    /*
+     * 대기실 종료 (DELETE)
+     * @param roomId: 대기실 ID
+     */
+    @DeleteMapping("/{roomId}")
+    public void closeRoom(
+            @PathVariable("roomId") @Pattern(regexp = QueueRoom.ROOM_ID_REGEX) String roomId
+    ) {
+        queueRoomService.closeRoom(roomId);
+    }
+}
@@ -1,29 +1,39 @@
 package co.kr.order.controller;
 
 import co.kr.order.batch.util.SettlementTimeUtil;
+import co.kr.order.controller.swagger.settlement.SettlementBackfillDocs;
 import co.kr.order.controller.swagger.settlement.SettlementDetailDocs;
+import co.kr.order.controller.swagger.settlement.SettlementExportDocs;
 import co.kr.order.controller.swagger.settlement.SettlementListDocs;
 import co.kr.order.controller.swagger.settlement.SettlementManualDocs;
 import co.kr.order.model.dto.SettlementInfo;
 import co.kr.order.model.dto.response.BaseResponse;
+import co.kr.order.model.dto.response.SettlementPageRes;
+import co.kr.order.model.vo.SettlementExportFormat;
+import co.kr.order.model.vo.SettlementType;
 import co.kr.order.service.SettlementService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.*;
 import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
-import java.util.List;
 
 /**
  * 정산 관련 API 컨트롤러
- *- 판매자 정산 내역 목록 조회
+ *- 판매자 정산 내역 목록 조회 (커서 페이징) / 내보내기 (CSV, NDJSON)
  *- 특정 결제 건 정산 상세 조회
  *- 정산 배치 수동 실행 (운영/데모 목적)
+ *- 일별 정산 집계 재집계 (운영 목적)
  * 수동 배치는 동기 방식으로 실행되며,
  * 기본 대상 월은 전월 기준으로 고정한다.
  */
@@ -37,17 +47,50 @@ public class SettlementController {
     private final SettlementService settlementService;
     private final JobLauncher jobLauncher;
     private final Job monthlySettlementJob;
+    private final Job settlementDailyBackfillJob;
 
     /**
-     * 특정 판매자의 정산 내역 목록을 조회한다.
+     * 특정 판매자의 정산 내역 목록을 최신순으로 조회한다.
+     * - Settlement_IDX 커서 페이징 (응답의 nextCursor 를 다음 요청의 cursor 로 전달)
+     * - 유형 / 기간 필터 (선택)
      */
     @SettlementListDocs
     @GetMapping("/{sellerIdx}")
-    public ResponseEntity<BaseResponse<List<SettlementInfo>>> getSettlementList(
-            @PathVariable("sellerIdx") Long sellerIdx) {
+    public ResponseEntity<BaseResponse<SettlementPageRes>> getSettlementList(
+            @PathVariable("sellerIdx") Long sellerIdx,
+            @RequestParam(value = "type", required = false) SettlementType type,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(value = "cursor", required = false) Long cursor,
+            @RequestParam(value = "size", required = false) Integer size
+    ) {
 
-        List<SettlementInfo> info = settlementService.getSettlementList(sellerIdx);
-        return ResponseEntity.ok(new BaseResponse<>("ok", info));
+        SettlementPageRes page = settlementService.getSettlementPage(sellerIdx, type, from, to, cursor, size);
+        return ResponseEntity.ok(new BaseResponse<>("ok", page));
+    }
+
+    /**
+     * 특정 판매자의 정산 내역을 CSV / NDJSON 으로 내려받는다.
+     * - 응답 스트림에 한 건씩 바로 출력 (전체 내역을 메모리에 올리지 않음)
+     */
+    @SettlementExportDocs
+    @GetMapping("/{sellerIdx}/export")
+    public ResponseEntity<StreamingResponseBody> exportSettlementList(
+            @PathVariable("sellerIdx") Long sellerIdx,
+            @RequestParam(value = "format", defaultValue = "CSV") SettlementExportFormat format,
+            @RequestParam(value = "type", required = false) SettlementType type,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+
+        StreamingResponseBody body = outputStream ->
+                settlementService.exportSettlements(sellerIdx, type, from, to, format, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"settlement-" + sellerIdx + "." + format.getExtension() + "\"")
+                .body(body);
     }
 
     /**
@@ -115,4 +158,47 @@ public class SettlementController {
                             "수동 정산 실행 실패: " + e.getMessage()));
         }
     }
+
+    /**
+     * 대상 월의 일별 정산 집계를 정산 내역에서 다시 합산한다.
+     * - 집계 테이블 도입 이전 데이터 적재 / 집계 복구 목적
+     * - 요청 스레드에서 동기 실행
+     */
+    @SettlementBackfillDocs
+    @PostMapping("/daily/backfill")
+    public ResponseEntity<BaseResponse<String>> runDailyBackfill(
+            @RequestParam(value = "targetMonth", required = false) String targetMonth) {
+
+        String targetMonthStr = SettlementTimeUtil.resolveTargetMonth(targetMonth)
+                .format(DateTimeFormatter.ofPattern("yyyy-MM"));
+
+        try {
+            JobExecution execution = jobLauncher.run(
+                    settlementDailyBackfillJob,
+                    new JobParametersBuilder()
+                            .addString("targetMonth", targetMonthStr)
+                            .addLong("timestamp", System.currentTimeMillis())
+                            .toJobParameters()
+            );
+
+            if (execution.getStatus() == BatchStatus.COMPLETED) {
+                long rowCount = execution.getStepExecutions().stream()
+                        .mapToLong(StepExecution::getWriteCount)
+                        .sum();
+
+                String message = String.format("재집계 완료 (대상월: %s) - 집계 행: %d", targetMonthStr, rowCount);
+                return ResponseEntity.ok(new BaseResponse<>("ok", message));
+            }
+
+            return ResponseEntity.internalServerError()
+                    .body(new BaseResponse<>("fail",
+                            "재집계 실패: " + execution.getStatus()));
+
+        } catch (Exception e) {
+            log.error("일별 정산 재집계 실행 중 예외 발생", e);
+            return ResponseEntity.internalServerError()
+                    .body(new BaseResponse<>("fail",
+                            "재집계 실행 실패: " + e.getMessage()));
+        }
+    }
 }
\ No newline at end of file
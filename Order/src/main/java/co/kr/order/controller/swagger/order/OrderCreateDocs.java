@@ -35,6 +35,12 @@ import java.lang.annotation.*;
                 description = "사용자 idx",
                 required = true,
                 example = "1"
+        ),
+        @Parameter(
+                name = "X-ADMISSION-PASS",
+                in = ParameterIn.HEADER,
+                description = "대기열 통과 시 발급된 입장권 (상품 코드로 열린 대기실이 있으면 그 대기실의 입장권)",
+                required = true
         )
 })
 
@@ -76,6 +82,19 @@ import java.lang.annotation.*;
                                     }
                                     """)
                 )),
+        @ApiResponse(responseCode = "403", description = """
+                - INVALID_ADMISSION_PASS: 입장권이 없거나 만료/위조/재사용됨
+                - ADMISSION_ROOM_MISMATCH: 주문 상품의 전용 대기실 입장권이 아님""",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = BaseResponse.class),
+                        examples = @ExampleObject(value = """
+                                    {
+                                      "resultCode": "INVALID_ADMISSION_PASS",
+                                      "data": "대기열 입장 정보가 없거나 만료되었습니다."
+                                    }
+                                    """)
+                )),
         @ApiResponse(responseCode = "404", description = """
                 - PRODUCT_NOT_FOUND: 제품을 찾을 수 없음""",
                 content = @Content(
@@ -15,10 +15,12 @@ import java.lang.annotation.*;
 @Operation(
         summary = "주문 목록 조회",
         description = """
-                사용자의 주문 목록을 페이징으로 조회한다.
+                사용자의 주문 목록을 커서 페이징으로 조회한다.
 
                 - 사용자 idx 필수 (헤더)
                 - 기본 10개씩, 생성일 내림차순 정렬
+                - 응답의 nextCursor 를 다음 요청의 cursor 로 전달 (페이지 깊이와 상관없이 같은 속도)
+                - 전체 주문 수는 withTotal=true 일 때만 포함
                 """
 )
 
@@ -31,22 +33,21 @@ import java.lang.annotation.*;
                 example = "1"
         ),
         @Parameter(
-                name = "page",
+                name = "cursor",
                 in = ParameterIn.QUERY,
-                description = "페이지 번호 (0부터 시작)",
-                example = "0"
+                description = "이전 페이지의 nextCursor (첫 페이지는 생략)"
         ),
         @Parameter(
                 name = "size",
                 in = ParameterIn.QUERY,
-                description = "페이지 크기",
+                description = "페이지 크기 (최대 50)",
                 example = "10"
         ),
         @Parameter(
-                name = "sort",
+                name = "withTotal",
                 in = ParameterIn.QUERY,
-                description = "정렬 기준 (예: createdAt,desc)",
-                example = "createdAt,desc"
+                description = "전체 주문 수 포함 여부",
+                example = "false"
         )
 })
 
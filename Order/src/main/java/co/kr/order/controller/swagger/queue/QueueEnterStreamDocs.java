@@ -0,0 +1,41 @@
+package co.kr.order.controller.swagger.queue;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.Parameters;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+import java.lang.annotation.*;
+
+@Target({ElementType.METHOD, ElementType.ANNOTATION_TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Operation(
+        summary = "입장 대기열 상태 구독 (SSE)",
+        description = """
+                입장 대기열 순번을 서버에서 Push 받는다. (Polling 대체)
+
+                - rank 이벤트: 순번이 바뀔 때 전송
+                - admitted 이벤트: 입장 허용 시 전송 후 연결 종료
+                - EventSource는 헤더를 보낼 수 없으므로 토큰은 Query로 전달
+                """
+)
+
+@Parameters({
+        @Parameter(
+                name = "token",
+                in = ParameterIn.QUERY,
+                description = "입장 대기열 토큰",
+                required = true,
+                example = "1"
+        )
+})
+
+// 예시 응답들 설정
+@ApiResponses({
+        @ApiResponse(responseCode = "200", description = "구독 성공 (text/event-stream)")
+})
+public @interface QueueEnterStreamDocs {
+}
@@ -0,0 +1,41 @@
+package co.kr.order.controller.swagger.queue;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.Parameters;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+import java.lang.annotation.*;
+
+@Target({ElementType.METHOD, ElementType.ANNOTATION_TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Operation(
+        summary = "주문 대기열 상태 구독 (SSE)",
+        description = """
+                주문 대기열 순번 및 입장 가능 여부를 서버에서 Push 받는다. (Polling 대체)
+
+                - rank 이벤트: 순번이 바뀔 때 전송
+                - admitted 이벤트: 주문 가능 시 전송
+                - 연결이 유지되는 동안 Heartbeat로 간주 (끊기면 일정 시간 후 자동 퇴장)
+                """
+)
+
+@Parameters({
+        @Parameter(
+                name = "X-USERS-IDX",
+                in = ParameterIn.HEADER,
+                description = "사용자 idx",
+                required = true,
+                example = "1"
+        )
+})
+
+// 예시 응답들 설정
+@ApiResponses({
+        @ApiResponse(responseCode = "200", description = "구독 성공 (text/event-stream)")
+})
+public @interface QueueOrderStreamDocs {
+}
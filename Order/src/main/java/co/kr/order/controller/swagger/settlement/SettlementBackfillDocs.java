@@ -0,0 +1,43 @@
+package co.kr.order.controller.swagger.settlement;
+
+import co.kr.order.model.dto.response.BaseResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.*;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+import java.lang.annotation.*;
+
+@Target({ElementType.METHOD, ElementType.ANNOTATION_TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Operation(
+        summary = "일별 정산 집계 재집계",
+        description = """
+                대상 월의 일별 정산 집계(Settlement_Daily)를 정산 내역에서 다시 합산한다.
+
+                - 집계 테이블 도입 이전 데이터 적재 / 집계 복구 목적
+                - 요청 스레드에서 동기 실행
+                - targetMonth 미입력 시 전월
+                """,
+        parameters = @Parameter(name = "targetMonth", description = "대상 월 (yyyy-MM)", example = "2026-01")
+)
+
+// 예시 응답들 설정
+@ApiResponses({
+        @ApiResponse(responseCode = "200", description = "재집계 완료"),
+        @ApiResponse(responseCode = "500", description = "재집계 실패",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = BaseResponse.class),
+                        examples = @ExampleObject(value = """
+                                    {
+                                      "resultCode": "fail",
+                                      "data": "재집계 실패: FAILED"
+                                    }
+                                    """)
+                ))
+})
+public @interface SettlementBackfillDocs {
+}
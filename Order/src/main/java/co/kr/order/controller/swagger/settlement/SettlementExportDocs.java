@@ -0,0 +1,39 @@
+package co.kr.order.controller.swagger.settlement;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.Parameters;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+import java.lang.annotation.*;
+
+@Target({ElementType.METHOD, ElementType.ANNOTATION_TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Operation(
+        summary = "판매자 정산 내역 내보내기",
+        description = """
+                특정 판매자의 정산 내역을 CSV / NDJSON 파일로 내려받는다.
+
+                - 판매자 idx 필수
+                - 정산 유형 / 기간 필터 (선택)
+                - Settlement_IDX 오름차순으로 한 건씩 스트리밍
+                """
+)
+
+@Parameters({
+        @Parameter(name = "sellerIdx", in = ParameterIn.PATH, description = "판매자 idx", required = true, example = "1"),
+        @Parameter(name = "format", in = ParameterIn.QUERY, description = "파일 형식 (CSV, NDJSON)", example = "CSV"),
+        @Parameter(name = "type", in = ParameterIn.QUERY, description = "정산 유형 (미입력 시 전체)", example = "SETTLE_PAYOUT"),
+        @Parameter(name = "from", in = ParameterIn.QUERY, description = "조회 시작일 (yyyy-MM-dd, 포함)", example = "2026-01-01"),
+        @Parameter(name = "to", in = ParameterIn.QUERY, description = "조회 종료일 (yyyy-MM-dd, 포함)", example = "2026-01-31")
+})
+
+// 예시 응답들 설정
+@ApiResponses({
+        @ApiResponse(responseCode = "200", description = "정산 내역 파일 스트리밍")
+})
+public @interface SettlementExportDocs {
+}
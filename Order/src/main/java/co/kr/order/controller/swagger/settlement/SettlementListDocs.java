@@ -15,10 +15,11 @@ import java.lang.annotation.*;
 @Operation(
         summary = "판매자 정산 내역 목록 조회",
         description = """
-                특정 판매자의 정산 내역 목록을 조회한다.
+                특정 판매자의 정산 내역 목록을 최신순으로 조회한다.
 
                 - 판매자 idx 필수
-                - 정산 유형(ORDERS_CONFIRMED, SETTLE_PAYOUT, CANCEL_ADJUST) 포함
+                - 정산 유형(ORDERS_CONFIRMED, SETTLE_PAYOUT, CANCEL_ADJUST) / 기간 필터 (선택)
+                - Settlement_IDX 커서 페이징: 응답의 nextCursor 를 다음 요청의 cursor 로 전달
                 """
 )
 
@@ -29,7 +30,12 @@ import java.lang.annotation.*;
                 description = "판매자 idx",
                 required = true,
                 example = "1"
-        )
+        ),
+        @Parameter(name = "type", in = ParameterIn.QUERY, description = "정산 유형 (미입력 시 전체)", example = "ORDERS_CONFIRMED"),
+        @Parameter(name = "from", in = ParameterIn.QUERY, description = "조회 시작일 (yyyy-MM-dd, 포함)", example = "2026-01-01"),
+        @Parameter(name = "to", in = ParameterIn.QUERY, description = "조회 종료일 (yyyy-MM-dd, 포함)", example = "2026-01-31"),
+        @Parameter(name = "cursor", in = ParameterIn.QUERY, description = "이전 페이지의 nextCursor (첫 페이지는 생략)"),
+        @Parameter(name = "size", in = ParameterIn.QUERY, description = "페이지 크기 (기본 50, 최대 200)", example = "50")
 })
 
 // 예시 응답들 설정
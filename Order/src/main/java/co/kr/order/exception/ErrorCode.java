@@ -9,8 +9,15 @@ public enum ErrorCode {
     PAYMENT_FAILED("PAYMENT_FAILED", "결제를 실패했습니다."),
     PRODUCT_NOT_FOUND("PRODUCT_NOT_FOUND", "제품을 찾을 수 없습니다."),
     OUT_OF_STOCK("OUT_OF_STOCK", "재고가 부족합니다."),
+    QUEUE_ROOM_NOT_FOUND("QUEUE_ROOM_NOT_FOUND", "열려 있는 대기실이 아닙니다."),
+    INVALID_QUEUE_ROOM_ID("INVALID_QUEUE_ROOM_ID", "대기실 ID는 영문, 숫자, '_', '-' 로 1~64자까지 가능합니다."),
+    INVALID_ADMISSION_PASS("INVALID_ADMISSION_PASS", "대기열 입장 정보가 없거나 만료되었습니다."),
+    ADMISSION_ROOM_MISMATCH("ADMISSION_ROOM_MISMATCH", "이 상품의 대기열을 통과한 입장권이 아닙니다."),
     ORDER_REFUND_EXCEPTION("ORDER_REFUND_EXCEPTION","주문 후처리 중 오류가 발생하여 자동 환불되었습니다."),
-    SETTLEMENT_NOT_FOUND("SETTLEMENT_NOT_FOUND", "정산 정보를 찾을 수 없습니다.");
+    SETTLEMENT_NOT_FOUND("SETTLEMENT_NOT_FOUND", "정산 정보를 찾을 수 없습니다."),
+    ORDER_ARCHIVED("ORDER_ARCHIVED", "보관 기간이 지나 아카이브된 주문입니다. 조회/변경/환불할 수 없습니다."),
+    SETTLEMENT_ARCHIVED("SETTLEMENT_ARCHIVED", "보관 기간이 지나 아카이브된 정산 내역은 조회할 수 없습니다."),
+    INVALID_CURSOR("INVALID_CURSOR", "잘못된 페이지 커서입니다.");
 
 
     private final String code;
@@ -32,6 +32,14 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
     }
 
+    // 아카이브된 주문 (Orders_Code 에는 있지만 Hot 테이블에서 옮겨짐)
+    @ExceptionHandler(OrderArchivedException.class)
+    public ResponseEntity<BaseResponse<String>> orderArchivedException(OrderArchivedException e) {
+        BaseResponse<String> response = new BaseResponse<>(e.getErrorCode().getCode(), e.getMessage());
+
+        return new ResponseEntity<>(response, HttpStatus.GONE);
+    }
+
     @ExceptionHandler(OrderItemNotFoundException.class)
     public ResponseEntity<BaseResponse<String>> orderItemNotFoundException(OrderItemNotFoundException e) {
         BaseResponse<String> response = new BaseResponse<>(e.getErrorCode().getCode(), e.getMessage());
@@ -80,4 +88,11 @@ public class GlobalExceptionHandler {
 
         return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
     }
+
+    @ExceptionHandler(InvalidAdmissionPassException.class)
+    public ResponseEntity<BaseResponse<String>> invalidAdmissionPassException(InvalidAdmissionPassException e) {
+        BaseResponse<String> response = new BaseResponse<>(e.getErrorCode().getCode(), e.getMessage());
+
+        return new ResponseEntity<>(response, HttpStatus.FORBIDDEN);
+    }
 }
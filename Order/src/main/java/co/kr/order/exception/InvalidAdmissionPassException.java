@@ -0,0 +1,12 @@
+package co.kr.order.exception;
+
+public class InvalidAdmissionPassException extends RuntimeException {
+    private final ErrorCode errorCode;
+
+    public InvalidAdmissionPassException(ErrorCode errorCode) {
+        super(errorCode.getMsg());
+        this.errorCode = errorCode;
+    }
+
+    public ErrorCode getErrorCode() { return errorCode; }
+}
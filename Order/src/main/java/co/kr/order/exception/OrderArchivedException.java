@@ -0,0 +1,13 @@
+package co.kr.order.exception;
+
+import lombok.Getter;
+
+@Getter
+public class OrderArchivedException extends RuntimeException {
+    private final ErrorCode errorCode;
+
+    public OrderArchivedException(ErrorCode errorCode) {
+        super(errorCode.getMsg());
+        this.errorCode = errorCode;
+    }
+}
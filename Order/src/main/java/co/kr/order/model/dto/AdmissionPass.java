@@ -0,0 +1,11 @@
+package co.kr.order.model.dto;
+
+/*
+ * 검증된 입장권 정보
+ * @param nonce: 사용 처리된 nonce (주문 실패 시 반납)
+ * @param queueId: 입장권을 발급한 대기실 ID (주문 상품의 대기실과 비교)
+ */
+public record AdmissionPass(
+        String nonce,
+        String queueId
+) {}
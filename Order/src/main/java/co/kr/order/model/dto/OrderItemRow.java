@@ -0,0 +1,23 @@
+package co.kr.order.model.dto;
+
+import java.math.BigDecimal;
+
+/*
+ * 주문 상품 한 줄 (여러 주문의 상품을 IN 조회한 결과)
+ * @param orderIdx: 주문 인덱스
+ * @param productCode: 상품 코드
+ * @param optionCode: 옵션 코드
+ * @param productName: 상품명
+ * @param optionName: 옵션명
+ * @param price: 주문 시점 가격
+ * @param quantity: 수량
+ */
+public record OrderItemRow(
+        Long orderIdx,
+        String productCode,
+        String optionCode,
+        String productName,
+        String optionName,
+        BigDecimal price,
+        Integer quantity
+) {}
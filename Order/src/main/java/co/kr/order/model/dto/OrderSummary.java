@@ -0,0 +1,15 @@
+package co.kr.order.model.dto;
+
+import java.time.LocalDateTime;
+
+/*
+ * 주문 목록 한 줄 (커서 페이징 조회 결과)
+ * @param orderIdx: 주문 인덱스
+ * @param orderCode: 주문 코드
+ * @param createdAt: 주문일
+ */
+public record OrderSummary(
+        Long orderIdx,
+        String orderCode,
+        LocalDateTime createdAt
+) {}
@@ -0,0 +1,13 @@
+package co.kr.order.model.dto;
+
+import java.math.BigDecimal;
+
+/*
+ * 판매자별 합계 금액 (주문 상품 GROUP BY 결과)
+ * @param sellerIdx: 판매자 인덱스
+ * @param amount: 합계 금액
+ */
+public record SellerAmount(
+        Long sellerIdx,
+        BigDecimal amount
+) {}
@@ -0,0 +1,21 @@
+package co.kr.order.model.dto.event;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+/*
+ * 상품 변경 이벤트 수신 정보 (Product 에서 발행)
+ * 상품 스냅샷 캐시 무효화에 사용
+ * @param productCode: 상품 코드
+ * @param optionCodes: 변경된 옵션 코드들
+ * @param type: UPDATED / DELETED
+ * @param changedAt: 변경 시각 (epoch ms, 커밋 직후 / 이보다 먼저 시작된 조회 결과는 캐시에 넣지 않음)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ProductChangeMsg(
+        String productCode,
+        List<String> optionCodes,
+        String type,
+        Long changedAt
+) {}
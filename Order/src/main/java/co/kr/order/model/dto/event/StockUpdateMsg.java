@@ -1,15 +1,16 @@
 package co.kr.order.model.dto.event;
 
+import java.util.List;
+
 /*
- * 재고 감소 이벤트 발행 정보
- * @param productCode: 제품 코드
- * @param optionCode: 제품 옵션 코드
- * @param quantity: 감소할 개수
+ * 재고 감소 이벤트 발행 정보 (주문 단위)
+ * 주문 하나당 메시지 하나, 중복 체크 Key도 하나
+ * @param msgCode: 메시지 코드 (Consumer 중복 처리 방지)
+ * @param orderCode: 주문 코드 (Kafka 메시지 Key)
+ * @param items: 주문한 상품 옵션 별 감소할 개수
  */
 public record StockUpdateMsg (
-        // 10~15 자리
         String msgCode,
-        String productCode,
-        String optionCode,
-        Long quantity
+        String orderCode,
+        List<StockUpdateItem> items
 ) {}
@@ -0,0 +1,21 @@
+package co.kr.order.model.dto.request;
+
+import jakarta.validation.constraints.Positive;
+
+/*
+ * 대기실 생성/수정 요청 정보 (값이 없으면 기본 설정 사용)
+ * @param enterRate: tick 당 입장 인원
+ * @param orderCapacity: 동시 주문 가능 인원
+ * @param evictTimeoutMs: 주문 Active 유저 무응답 퇴장 시간
+ */
+public record QueueRoomReq(
+
+        @Positive(message = "입장 인원은 1 이상이어야 합니다.")
+        Long enterRate,
+
+        @Positive(message = "주문 가능 인원은 1 이상이어야 합니다.")
+        Long orderCapacity,
+
+        @Positive(message = "퇴장 시간은 1 이상이어야 합니다.")
+        Long evictTimeoutMs
+) {}
@@ -13,6 +13,8 @@ import java.math.BigDecimal;
  * @param optionContent: 상품 옵션 내용
  * @param price: 상품 가격
  * @param stock: 재고 수
+ * @param status: 옵션 판매 상태
+ * @param readAt: Product 조회 시작 시각 (epoch ms, 스냅샷 버전 / 없으면 가장 오래된 값으로 취급)
  */
 public record ClientProductRes(
         Long productIdx,
@@ -24,5 +26,7 @@ public record ClientProductRes(
 //        String imageUrl,
         String optionContent,
         BigDecimal price,
-        Integer stock
+        Integer stock,
+        String status,
+        Long readAt
 ) {}
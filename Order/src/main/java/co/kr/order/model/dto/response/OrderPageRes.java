@@ -0,0 +1,17 @@
+package co.kr.order.model.dto.response;
+
+import java.util.List;
+
+/*
+ * return 할 주문 목록 한 페이지 (주문일 + 주문 인덱스 기준 커서 페이징, 최신순)
+ * @param items: 주문 정보
+ * @param nextCursor: 다음 페이지 요청 시 cursor 로 전달할 값 (없으면 null)
+ * @param hasNext: 다음 페이지 존재 여부
+ * @param totalCount: 전체 주문 수 (withTotal=true 로 요청한 경우만, 아니면 null)
+ */
+public record OrderPageRes(
+        List<OrderRes> items,
+        String nextCursor,
+        boolean hasNext,
+        Long totalCount
+) {}
@@ -0,0 +1,17 @@
+package co.kr.order.model.dto.response;
+
+import co.kr.order.model.dto.SettlementInfo;
+
+import java.util.List;
+
+/*
+ * return 할 정산 내역 한 페이지 (Settlement_IDX 기준 커서 페이징, 최신순)
+ * @param items: 정산 내역
+ * @param nextCursor: 다음 페이지 요청 시 cursor 로 전달할 값 (마지막 Settlement_IDX, 없으면 null)
+ * @param hasNext: 다음 페이지 존재 여부
+ */
+public record SettlementPageRes(
+        List<SettlementInfo> items,
+        Long nextCursor,
+        boolean hasNext
+) {}
@@ -0,0 +1,38 @@
+package co.kr.order.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 코드 색인 엔티티 (Orders_Code -> Orders_IDX, Users_IDX, Created_at)
+ * - 파티션이 없는 작은 테이블이라 PK 로 주문 코드 유일성을 DB 에서 보장
+ *   (월 파티션 Orders 의 UK 는 Created_at 을 포함해야 해서 코드만으로는 유일성을 걸 수 없음)
+ * - 주문이 아카이브로 옮겨진 뒤에도 남겨서 같은 코드 재사용을 막고, 아카이브된 주문을 구분하는 데 사용
+ *   (색인에는 있는데 Orders 에 없으면 아카이브된 주문 -> ORDER_ARCHIVED)
+ * - 저장은 OrderCodeJpaRepository.insert (save 는 merge 라 중복 코드를 덮어씀)
+ */
+@Entity
+@Table(name = "Orders_Code")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderCodeEntity {
+
+    @Id
+    @Column(name = "Orders_Code", length = 64)
+    private String orderCode;
+
+    @Column(name = "Orders_IDX", nullable = false)
+    private Long orderIdx;
+
+    // 주문한 유저 (아카이브된 주문도 본인 주문인지 확인)
+    @Column(name = "Users_IDX", nullable = false)
+    private Long userIdx;
+
+    // 주문 Created_at (파티션 키, 주문 조회 시 해당 월 파티션만 조회)
+    @Column(name = "Created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
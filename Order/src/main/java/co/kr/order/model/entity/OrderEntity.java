@@ -78,6 +78,11 @@ public class OrderEntity {
     @ColumnDefault("0")
     private Boolean del = false;
 
+    // 예약이 만료된 뒤 결제가 도착했는데 재고를 다시 차감하지 못한 주문 (보상 처리 대상)
+    @Column(name = "Oversold", nullable = false)
+    @ColumnDefault("0")
+    private Boolean oversold = false;
+
     @Builder
     public OrderEntity(Long userIdx, String orderCode, BigDecimal itemsAmount, BigDecimal totalAmount) {
         this.userIdx = userIdx;
@@ -117,4 +122,8 @@ public class OrderEntity {
     public void setDel(Boolean del) {
         this.del = del;
     }
+
+    public void markOversold() {
+        this.oversold = true;
+    }
 }
@@ -8,6 +8,7 @@ import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.DynamicInsert;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 @Getter
 @Entity
@@ -46,6 +47,19 @@ public class OrderItemEntity {
     @Column(name = "Quantity", nullable = false)
     private Integer quantity;
 
+    // 주문 시점 판매자 (정산 시 Product 재조회 없이 사용)
+    @Column(name = "Seller_IDX")
+    private Long sellerIdx;
+
+    // 정산 금액 (Price * Quantity)
+    @Column(name = "Amount", precision = 19, scale = 2, nullable = false)
+    private BigDecimal amount;
+
+    // 파티션 키 (DB 기본값으로 저장, 조회 범위 조건용)
+    @Column(name = "Created_at", insertable = false, updatable = false)
+    @ColumnDefault("CURRENT_TIMESTAMP")
+    private LocalDateTime createdAt;
+
     @Column(name = "Del", nullable = false)
     @ColumnDefault("0")
     private Boolean del = false;
@@ -53,7 +67,7 @@ public class OrderItemEntity {
     @Builder
     public OrderItemEntity(OrderEntity order, String productCode, String optionCode,
                            String productName, String optionName, BigDecimal price,
-                           Integer quantity, Boolean del) {
+                           Integer quantity, Long sellerIdx, Boolean del) {
         this.order = order;
         this.productCode = productCode;
         this.optionCode = optionCode;
@@ -61,6 +75,8 @@ public class OrderItemEntity {
         this.optionName = optionName;
         this.price = price != null ? price : BigDecimal.ZERO;
         this.quantity = quantity != null ? quantity : 0;
+        this.sellerIdx = sellerIdx;
+        this.amount = this.price.multiply(BigDecimal.valueOf(this.quantity));
     }
 
     public void setOrder(OrderEntity order) {
@@ -0,0 +1,34 @@
+package co.kr.order.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 일별 정산 집계 엔티티 (Settlement_History 의 판매자/날짜/유형별 합계)
+ * - 정산 레코드 생성/환불/지급 시 같은 트랜잭션에서 증감 (SettlementDailyRepository)
+ * - 월간 정산 배치는 이 테이블만 읽음 (판매자 수 x 일수 만큼만 조회)
+ * - 날짜는 Settlement_History.Created_at 기준
+ */
+@Entity
+@Table(name = "Settlement_Daily")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SettlementDailyEntity {
+
+    @EmbeddedId
+    private SettlementDailyId id;
+
+    @Column(name = "Amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal amount;
+
+    @Column(name = "Record_Count", nullable = false)
+    private Long recordCount;
+
+    @Column(name = "Updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,36 @@
+package co.kr.order.model.entity;
+
+import co.kr.order.model.vo.SettlementType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 일별 정산 집계 PK (판매자, 날짜, 정산 유형)
+ */
+@Embeddable
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SettlementDailyId implements Serializable {
+
+    @Column(name = "Seller_IDX", nullable = false)
+    private Long sellerIdx;
+
+    @Column(name = "Settle_Date", nullable = false)
+    private LocalDate settleDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "Type", nullable = false, length = 30)
+    private SettlementType type;
+}
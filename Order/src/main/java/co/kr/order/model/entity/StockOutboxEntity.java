@@ -0,0 +1,64 @@
+package co.kr.order.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재고 차감 이벤트 Outbox 엔티티
+ * - 주문 확정(orderSuccess) 트랜잭션 안에서 함께 저장
+ * - Relay 스케쥴러가 Kafka 발행 성공(ack) 후 삭제
+ * - 역직렬화 실패 등 다시 시도해도 발행할 수 없는 메시지는 삭제하지 않고 실패 상태(Failed_at)로 남김 (재고 차감 유실 방지)
+ */
+@Entity
+@Table(name = "Stock_Outbox")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StockOutboxEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "Outbox_IDX")
+    private Long id;
+
+    // 메시지 고유 코드 (Consumer 중복 처리 방지용)
+    @Column(name = "Msg_Code", nullable = false, length = 64)
+    private String msgCode;
+
+    // Kafka 메시지 Key (파티션 결정)
+    @Column(name = "Msg_Key", nullable = false, length = 200)
+    private String msgKey;
+
+    // 메시지 본문 (JSON)
+    @Column(name = "Payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "Created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // 발행 실패 처리 시각 (null 이면 발행 대기)
+    @Column(name = "Failed_at")
+    private LocalDateTime failedAt;
+
+    // 발행 실패 사유
+    @Column(name = "Fail_Reason", length = 500)
+    private String failReason;
+
+    @Builder
+    public StockOutboxEntity(String msgCode, String msgKey, String payload) {
+        this.msgCode = msgCode;
+        this.msgKey = msgKey;
+        this.payload = payload;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    // 발행 실패 처리 (Relay 대상에서 제외)
+    public void markFailed(String reason) {
+        this.failedAt = LocalDateTime.now();
+        this.failReason = reason == null || reason.length() <= 500 ? reason : reason.substring(0, 500);
+    }
+}
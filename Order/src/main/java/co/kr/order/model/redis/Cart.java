@@ -7,8 +7,8 @@ import lombok.NoArgsConstructor;
 import java.math.BigDecimal;
 
 /*
- * Redis에 저장 될
- * 장바구니 정보
+ * 이전 형식 장바구니 정보 (cart:user:{userIdx})
+ * - 지금은 수량만 저장 (CartItem), 남아있는 이전 장바구니를 읽어서 옮길 때만 사용
  */
 @Getter
 @NoArgsConstructor
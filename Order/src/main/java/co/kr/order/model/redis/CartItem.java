@@ -0,0 +1,14 @@
+package co.kr.order.model.redis;
+
+/*
+ * Redis 장바구니 한 줄 (수량만 저장)
+ * - 상품명/옵션/가격은 저장하지 않고 조회 시 상품 스냅샷 캐시에서 채움
+ * @param productCode: 제품 코드
+ * @param optionCode: 제품 옵션 코드
+ * @param quantity: 개수
+ */
+public record CartItem(
+        String productCode,
+        String optionCode,
+        Integer quantity
+) {}
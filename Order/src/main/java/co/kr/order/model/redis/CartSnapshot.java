@@ -0,0 +1,43 @@
+package co.kr.order.model.redis;
+
+import co.kr.order.model.dto.request.ClientProductReq;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/*
+ * 주문 시점에 한 번 읽은 장바구니 (불변)
+ * - 상품 조회 / 재고 예약 / 주문 상품 생성이 모두 같은 값을 사용
+ * - version: 읽은 시점의 장바구니 버전 (결제 중 수정 여부 확인용)
+ * @param userIdx: 유저 인덱스
+ * @param version: 장바구니 버전
+ * @param items: 장바구니 상품들
+ */
+public record CartSnapshot(
+        Long userIdx,
+        long version,
+        List<CartItem> items
+) {
+
+    public CartSnapshot {
+        items = List.copyOf(items);
+    }
+
+    public boolean isEmpty() {
+        return items.isEmpty();
+    }
+
+    // FeignClient 상품 요청 정보
+    public List<ClientProductReq> productRequests() {
+        return items.stream()
+                .map(item -> new ClientProductReq(item.productCode(), item.optionCode()))
+                .toList();
+    }
+
+    // Map(key:optionCode, value:quantity)
+    public Map<String, Integer> quantities() {
+        return items.stream()
+                .collect(Collectors.toUnmodifiableMap(CartItem::optionCode, CartItem::quantity));
+    }
+}
@@ -0,0 +1,45 @@
+package co.kr.order.model.redis;
+
+import java.util.regex.Pattern;
+
+/*
+ * 대기실 (이벤트 / 상품 드롭 단위 대기열)
+ * 대기실마다 Redis Key 가 분리되어 있어 동시에 열린 이벤트끼리 대기열을 공유하지 않음
+ * Key 에 Hash Tag({roomId})를 사용하여, 한 대기실의 Key 는 같은 슬롯(Lua 스크립트 가능)에,
+ * 서로 다른 대기실은 다른 슬롯으로 분산
+ *
+ * @param roomId: 대기실 ID (이벤트 코드 / 상품 코드)
+ * @param enterRate: tick 당 입장 인원
+ * @param orderCapacity: 동시 주문 가능 인원
+ * @param evictTimeoutMs: 주문 Active 유저 무응답 퇴장 시간
+ */
+public record QueueRoom(
+    String roomId,
+    long enterRate,
+    long orderCapacity,
+    long evictTimeoutMs
+) {
+    // 대기실 지정 없이 호출한 경우 사용하는 기본 대기실
+    public static final String DEFAULT_ROOM = "default";
+
+    // 대기실 ID 형식 (':' 는 입장권 구분자, '{' '}' 는 Key 의 Hash Tag 를 깨뜨리므로 허용하지 않음)
+    public static final String ROOM_ID_REGEX = "[A-Za-z0-9_-]{1,64}";
+    private static final Pattern ROOM_ID_PATTERN = Pattern.compile(ROOM_ID_REGEX);
+
+    public static boolean isValidRoomId(String roomId) {
+        return roomId != null && ROOM_ID_PATTERN.matcher(roomId).matches();
+    }
+
+    // 입장 대기열 Key
+    public String waitEnterKey() { return "queue:{" + roomId + "}:wait:enter"; }
+    public String activeEnterKey() { return "queue:{" + roomId + "}:active:enter"; }
+
+    // 주문 대기열 Key
+    public String waitOrderKey() { return "queue:{" + roomId + "}:wait:order"; }
+    public String activeOrderKey() { return "queue:{" + roomId + "}:active:order"; }
+
+    // 입장량/수용량만 바꾼 대기실 (Admission Controller 가 배분한 값 적용)
+    public QueueRoom withQuota(long enterRate, long orderCapacity) {
+        return new QueueRoom(roomId, enterRate, orderCapacity, evictTimeoutMs);
+    }
+}
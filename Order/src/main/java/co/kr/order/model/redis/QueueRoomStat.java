@@ -0,0 +1,19 @@
+package co.kr.order.model.redis;
+
+/*
+ * 대기실 tick 처리 결과
+ * @param roomId: 대기실 ID
+ * @param entered: 이번 tick 입장 인원
+ * @param ordered: 이번 tick 주문 진입 인원
+ * @param evicted: 이번 tick 무응답 퇴장 인원
+ * @param waitingEnters: 입장 대기 인원
+ * @param activeOrders: 주문 진행 중인 인원
+ */
+public record QueueRoomStat(
+    String roomId,
+    long entered,
+    long ordered,
+    long evicted,
+    long waitingEnters,
+    long activeOrders
+) {}
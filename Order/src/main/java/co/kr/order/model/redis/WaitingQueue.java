@@ -5,9 +5,15 @@ package co.kr.order.model.redis;
  * @param rank: 남은 대기열 번호
  * @param isAllowed: 입장 가능 여부
  * @param message: 화면 출력 메시지
+ * @param admissionPass: 입장 허용 시 발급되는 입장권 (주문 생성 시 X-ADMISSION-PASS 헤더로 전달)
  */
 public record WaitingQueue(
     Long rank,
     boolean isAllowed,
-    String message
-) {}
+    String message,
+    String admissionPass
+) {
+    public WaitingQueue(Long rank, boolean isAllowed, String message) {
+        this(rank, isAllowed, message, null);
+    }
+}
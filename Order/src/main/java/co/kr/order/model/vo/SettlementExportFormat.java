@@ -0,0 +1,19 @@
+package co.kr.order.model.vo;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/*
+ * 정산 내역 내보내기 형식
+ * CSV: 헤더 + 한 줄에 한 건 (text/csv)
+ * NDJSON: 한 줄에 JSON 한 건 (application/x-ndjson)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum SettlementExportFormat {
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+}
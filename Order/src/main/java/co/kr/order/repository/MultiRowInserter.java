@@ -0,0 +1,48 @@
+package co.kr.order.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/*
+ * 다중 VALUES INSERT 공통 처리 (Batch Repository 구현에서 사용)
+ * - INSERT INTO t (c1, c2) VALUES (?, ?), (?, ?), ... 를 chunkSize 건씩 한 문장으로 실행
+ * - 생성 키는 받지 않음 (저장한 행을 다시 엔티티로 쓰지 않음, 필요하면 조회)
+ */
+final class MultiRowInserter {
+
+    // 한 문장에 넣을 최대 행 수 (max_allowed_packet / 바인딩 파라미터 수 제한 대비)
+    static final int CHUNK_SIZE = 500;
+
+    private MultiRowInserter() {
+    }
+
+    // @return 저장된 행 수
+    static <T> int insert(JdbcTemplate jdbcTemplate, String table, List<String> columns,
+                          List<T> rows, Function<T, Object[]> values) {
+
+        int inserted = 0;
+        for (int from = 0; from < rows.size(); from += CHUNK_SIZE) {
+            List<T> chunk = rows.subList(from, Math.min(from + CHUNK_SIZE, rows.size()));
+            inserted += insertChunk(jdbcTemplate, table, columns, chunk, values);
+        }
+        return inserted;
+    }
+
+    private static <T> int insertChunk(JdbcTemplate jdbcTemplate, String table, List<String> columns,
+                                       List<T> chunk, Function<T, Object[]> values) {
+
+        String placeholders = "(" + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+        String sql = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES "
+                + String.join(", ", Collections.nCopies(chunk.size(), placeholders));
+
+        List<Object> args = new ArrayList<>(chunk.size() * columns.size());
+        for (T row : chunk) {
+            Collections.addAll(args, values.apply(row));
+        }
+        return jdbcTemplate.update(sql, args.toArray());
+    }
+}
@@ -0,0 +1,28 @@
+package co.kr.order.repository;
+
+import co.kr.order.model.entity.OrderCodeEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface OrderCodeJpaRepository extends JpaRepository<OrderCodeEntity, String> {
+
+    /**
+     * 주문 코드 등록
+     * 이미 있는 코드면 PK 중복으로 DataIntegrityViolationException (주문 저장 트랜잭션 롤백)
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO Orders_Code (Orders_Code, Orders_IDX, Users_IDX, Created_at)
+            VALUES (:orderCode, :orderIdx, :userIdx, :createdAt)
+            """, nativeQuery = true)
+    int insert(@Param("orderCode") String orderCode,
+               @Param("orderIdx") Long orderIdx,
+               @Param("userIdx") Long userIdx,
+               @Param("createdAt") LocalDateTime createdAt);
+}
@@ -0,0 +1,15 @@
+package co.kr.order.repository;
+
+import co.kr.order.model.entity.OrderItemEntity;
+
+import java.util.List;
+
+/*
+ * 주문 상품 일괄 저장 (OrderItemJpaRepository 에 붙는 Fragment)
+ * - IDENTITY 전략이라 Hibernate 배치가 꺼져서 saveAll 은 한 건씩 INSERT -> 다중 VALUES INSERT 한 번으로 저장
+ */
+public interface OrderItemBatchRepository {
+
+    // 주문 상품 일괄 저장, 저장된 행 수 반환
+    int insertAll(List<OrderItemEntity> items);
+}
@@ -0,0 +1,38 @@
+package co.kr.order.repository;
+
+import co.kr.order.model.entity.OrderItemEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+/*
+ * 주문 상품 일괄 저장 구현 (JdbcTemplate 다중 VALUES INSERT)
+ * - JPA 트랜잭션과 같은 커넥션을 사용 (주문 저장과 한 트랜잭션)
+ * - Created_at / Updated_at / Del 은 DB 기본값 사용
+ */
+@RequiredArgsConstructor
+public class OrderItemBatchRepositoryImpl implements OrderItemBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final List<String> COLUMNS = List.of(
+            "Orders_IDX", "Products_Code", "Option_Code", "Products_Name", "Option_Name",
+            "Price", "Quantity", "Seller_IDX", "Amount"
+    );
+
+    @Override
+    public int insertAll(List<OrderItemEntity> items) {
+        return MultiRowInserter.insert(jdbcTemplate, "Orders_Item", COLUMNS, items, item -> new Object[]{
+                item.getOrder().getId(),
+                item.getProductCode(),
+                item.getOptionCode(),
+                item.getProductName(),
+                item.getOptionName(),
+                item.getPrice(),
+                item.getQuantity(),
+                item.getSellerIdx(),
+                item.getAmount()
+        });
+    }
+}
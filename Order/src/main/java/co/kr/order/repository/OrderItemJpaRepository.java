@@ -1,17 +1,60 @@
 package co.kr.order.repository;
 
+import co.kr.order.model.dto.OrderItemRow;
+import co.kr.order.model.dto.SellerAmount;
 import co.kr.order.model.entity.OrderEntity;
 import co.kr.order.model.entity.OrderItemEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface OrderItemJpaRepository extends JpaRepository<OrderItemEntity, Long> {
+public interface OrderItemJpaRepository extends JpaRepository<OrderItemEntity, Long>, OrderItemBatchRepository {
 
     List<OrderItemEntity> findAllByOrder(OrderEntity order);
 
+    // 주문 상품 조회 + Created_at 범위 (주문과 같은 트랜잭션에서 저장되므로 주문 Created_at 직후 -> 해당 월 파티션만 조회)
+    List<OrderItemEntity> findAllByOrderAndCreatedAtBetween(OrderEntity order, LocalDateTime from, LocalDateTime to);
+
     Optional<OrderItemEntity> findByProductCode(String productsCode);
+
+    /**
+     * 여러 주문의 상품을 한 번에 조회 (주문 목록 한 페이지 분량)
+     * - 페이지 주문들의 Created_at 범위로 파티션을 좁힘
+     */
+    @Query("""
+            SELECT new co.kr.order.model.dto.OrderItemRow(
+                i.order.id, i.productCode, i.optionCode, i.productName, i.optionName, i.price, i.quantity)
+            FROM OrderItemEntity i
+            WHERE i.order.id IN :orderIdxList
+              AND i.createdAt >= :from
+              AND i.createdAt < :to
+            ORDER BY i.order.id, i.id
+            """)
+    List<OrderItemRow> findRowsByOrderIdxIn(
+            @Param("orderIdxList") List<Long> orderIdxList,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    /** 주문의 판매자별 정산 금액 (주문 시점 판매자/금액 기준) */
+    @Query("""
+            SELECT new co.kr.order.model.dto.SellerAmount(i.sellerIdx, SUM(i.amount))
+            FROM OrderItemEntity i
+            WHERE i.order = :order
+              AND i.del = false
+              AND i.createdAt >= :from
+              AND i.createdAt < :to
+            GROUP BY i.sellerIdx
+            """)
+    List<SellerAmount> sumAmountBySeller(
+            @Param("order") OrderEntity order,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
 }
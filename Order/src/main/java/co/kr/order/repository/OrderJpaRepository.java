@@ -1,15 +1,18 @@
 package co.kr.order.repository;
 
+import co.kr.order.model.dto.OrderSummary;
 import co.kr.order.model.entity.OrderEntity;
 import jakarta.persistence.LockModeType;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -18,7 +21,49 @@ public interface OrderJpaRepository extends JpaRepository<OrderEntity, Long> {
     Optional<OrderEntity> findByOrderCode(String orderCode);
     Optional<OrderEntity> findByUserIdxAndOrderCode(Long userIdx, String orderCode);
 
-    Page<OrderEntity> findAllByUserIdx(Long userIdx, Pageable pageable);
+    // 주문 코드 + Created_at 범위 조회 (Snowflake 코드의 발급 시각으로 범위를 잡아서 해당 월 파티션만 조회)
+    Optional<OrderEntity> findByOrderCodeAndCreatedAtBetween(String orderCode, LocalDateTime from, LocalDateTime to);
+    Optional<OrderEntity> findByUserIdxAndOrderCodeAndCreatedAtBetween(Long userIdx, String orderCode, LocalDateTime from, LocalDateTime to);
+
+    // PK + Created_at 조회 (Orders_Code 색인으로 찾은 주문, 해당 월 파티션의 PK 로 바로 조회)
+    Optional<OrderEntity> findByIdAndCreatedAt(Long id, LocalDateTime createdAt);
+
+    /**
+     * 사용자 주문 목록 커서 페이징 (최신순)
+     * - (Created_at, Orders_IDX) 가 커서보다 작은 주문만 조회 (첫 페이지는 cursorAt = null)
+     * - createdAt <= cursorAt 조건으로 IX_Orders_Users_Created (Users_IDX, Created_at, Orders_IDX) 범위 스캔
+     */
+    @Query("""
+            SELECT new co.kr.order.model.dto.OrderSummary(o.id, o.orderCode, o.createdAt)
+            FROM OrderEntity o
+            WHERE o.userIdx = :userIdx
+              AND (:cursorAt IS NULL
+                   OR (o.createdAt <= :cursorAt AND (o.createdAt < :cursorAt OR o.id < :cursorIdx)))
+            ORDER BY o.createdAt DESC, o.id DESC
+            """)
+    List<OrderSummary> findPageByUserIdx(
+            @Param("userIdx") Long userIdx,
+            @Param("cursorAt") LocalDateTime cursorAt,
+            @Param("cursorIdx") Long cursorIdx,
+            Limit limit
+    );
+
+    long countByUserIdx(Long userIdx);
+
+    /**
+     * 재고 예약이 만료된 주문 일괄 취소 (CREATED -> CANCELLED)
+     * 이미 결제/실패 처리된 주문은 건드리지 않음
+     * 예약 만료 대상은 최근 주문뿐이라 since 이후 파티션만 조회
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE OrderEntity o
+            SET o.status = co.kr.order.model.vo.OrderStatus.CANCELLED
+            WHERE o.orderCode IN :orderCodes
+              AND o.status = co.kr.order.model.vo.OrderStatus.CREATED
+              AND o.createdAt >= :since
+            """)
+    int cancelCreatedOrders(@Param("orderCodes") List<String> orderCodes, @Param("since") LocalDateTime since);
 
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT o FROM OrderEntity o WHERE o.orderCode = :orderCode")
@@ -0,0 +1,34 @@
+package co.kr.order.repository;
+
+import co.kr.order.model.entity.SettlementHistoryEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+/*
+ * 정산 내역 일괄 저장 구현 (JdbcTemplate 다중 VALUES INSERT)
+ * - JPA 트랜잭션과 같은 커넥션을 사용 (결제 후처리와 한 트랜잭션)
+ * - Updated_at 은 DB 기본값 사용
+ */
+@RequiredArgsConstructor
+public class SettlementBatchRepositoryImpl implements SettlementBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final List<String> COLUMNS = List.of(
+            "Seller_IDX", "Payment_IDX", "Type", "Amount", "Created_at", "Del"
+    );
+
+    @Override
+    public int insertAll(List<SettlementHistoryEntity> settlements) {
+        return MultiRowInserter.insert(jdbcTemplate, "Settlement_History", COLUMNS, settlements, settlement -> new Object[]{
+                settlement.getSellerIdx(),
+                settlement.getPaymentIdx(),
+                settlement.getType().name(),
+                settlement.getAmount(),
+                settlement.getCreatedAt(),
+                settlement.getDel()
+        });
+    }
+}
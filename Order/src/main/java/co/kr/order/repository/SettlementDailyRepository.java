@@ -0,0 +1,103 @@
+package co.kr.order.repository;
+
+import co.kr.order.model.entity.SettlementDailyEntity;
+import co.kr.order.model.entity.SettlementDailyId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface SettlementDailyRepository extends JpaRepository<SettlementDailyEntity, SettlementDailyId> {
+
+    /**
+     * 일별 집계 증감 (없으면 생성)
+     * 환불처럼 빠지는 경우는 amount/count 를 음수로 전달
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO Settlement_Daily (Seller_IDX, Settle_Date, Type, Amount, Record_Count, Updated_at)
+            VALUES (:sellerIdx, :settleDate, :type, :amount, :recordCount, NOW(6))
+            ON DUPLICATE KEY UPDATE
+                Amount = Amount + VALUES(Amount),
+                Record_Count = Record_Count + VALUES(Record_Count),
+                Updated_at = NOW(6)
+            """, nativeQuery = true)
+    int addAmount(
+            @Param("sellerIdx") Long sellerIdx,
+            @Param("settleDate") LocalDate settleDate,
+            @Param("type") String type,
+            @Param("amount") BigDecimal amount,
+            @Param("recordCount") long recordCount
+    );
+
+    /**
+     * 정산 지급 처리 (ORDERS_CONFIRMED -> SETTLE_PAYOUT)
+     * 1. 기간 내 ORDERS_CONFIRMED 집계를 SETTLE_PAYOUT 집계에 합산
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO Settlement_Daily (Seller_IDX, Settle_Date, Type, Amount, Record_Count, Updated_at)
+            SELECT d.Seller_IDX, d.Settle_Date, 'SETTLE_PAYOUT', d.Amount, d.Record_Count, NOW(6)
+            FROM Settlement_Daily d
+            WHERE d.Seller_IDX IN (:sellerIdxList)
+              AND d.Type = 'ORDERS_CONFIRMED'
+              AND d.Settle_Date >= :startDate
+              AND d.Settle_Date <= :endDate
+            ON DUPLICATE KEY UPDATE
+                Amount = Settlement_Daily.Amount + VALUES(Amount),
+                Record_Count = Settlement_Daily.Record_Count + VALUES(Record_Count),
+                Updated_at = NOW(6)
+            """, nativeQuery = true)
+    int copyConfirmedToPayout(
+            @Param("sellerIdxList") List<Long> sellerIdxList,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    /**
+     * 정산 지급 처리 (ORDERS_CONFIRMED -> SETTLE_PAYOUT)
+     * 2. 합산한 ORDERS_CONFIRMED 집계 삭제
+     */
+    @Modifying
+    @Query(value = """
+            DELETE FROM Settlement_Daily
+            WHERE Seller_IDX IN (:sellerIdxList)
+              AND Type = 'ORDERS_CONFIRMED'
+              AND Settle_Date >= :startDate
+              AND Settle_Date <= :endDate
+            """, nativeQuery = true)
+    int deleteConfirmed(
+            @Param("sellerIdxList") List<Long> sellerIdxList,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    /** 재집계(backfill) 1. 해당 날짜 집계 삭제 */
+    @Modifying
+    @Query(value = "DELETE FROM Settlement_Daily WHERE Settle_Date = :settleDate", nativeQuery = true)
+    int deleteBySettleDate(@Param("settleDate") LocalDate settleDate);
+
+    /** 재집계(backfill) 2. 해당 날짜 Settlement_History 를 판매자/유형별로 다시 합산 */
+    @Modifying
+    @Query(value = """
+            INSERT INTO Settlement_Daily (Seller_IDX, Settle_Date, Type, Amount, Record_Count, Updated_at)
+            SELECT Seller_IDX, :settleDate, Type, SUM(Amount), COUNT(*), NOW(6)
+            FROM Settlement_History
+            WHERE Del = false
+              AND Created_at >= :startAt
+              AND Created_at < :endAt
+            GROUP BY Seller_IDX, Type
+            """, nativeQuery = true)
+    int rebuildDay(
+            @Param("settleDate") LocalDate settleDate,
+            @Param("startAt") LocalDateTime startAt,
+            @Param("endAt") LocalDateTime endAt
+    );
+}
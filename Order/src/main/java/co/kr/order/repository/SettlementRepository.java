@@ -2,6 +2,7 @@ package co.kr.order.repository;
 
 import co.kr.order.model.entity.SettlementHistoryEntity;
 import co.kr.order.model.vo.SettlementType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -13,10 +14,31 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface SettlementRepository extends JpaRepository<SettlementHistoryEntity, Long> {
+public interface SettlementRepository extends JpaRepository<SettlementHistoryEntity, Long>, SettlementBatchRepository {
 
-    /** 판매자의 전체 정산 내역 조회 */
-    List<SettlementHistoryEntity> findAllBySellerIdx(Long sellerIdx);
+    /**
+     * 판매자 정산 내역 커서 페이징 (최신순)
+     * - cursor 보다 작은 Settlement_IDX 만 조회 (첫 페이지는 cursor = null)
+     * - IX_SettlementHistory_Seller_Cursor (Seller_IDX, Settlement_IDX, Type, Created_at) 를 역순으로 범위 스캔
+     */
+    @Query("""
+            SELECT s FROM SettlementHistoryEntity s
+            WHERE s.sellerIdx = :sellerIdx
+              AND s.del = false
+              AND (:cursor IS NULL OR s.settlementIdx < :cursor)
+              AND (:type IS NULL OR s.type = :type)
+              AND (:startAt IS NULL OR s.createdAt >= :startAt)
+              AND (:endAt IS NULL OR s.createdAt < :endAt)
+            ORDER BY s.settlementIdx DESC
+            """)
+    List<SettlementHistoryEntity> findPageBySellerIdx(
+            @Param("sellerIdx") Long sellerIdx,
+            @Param("type") SettlementType type,
+            @Param("startAt") LocalDateTime startAt,
+            @Param("endAt") LocalDateTime endAt,
+            @Param("cursor") Long cursor,
+            Limit limit
+    );
 
     /** 판매자의 특정 결제 건 정산 조회 */
     Optional<SettlementHistoryEntity> findBySellerIdxAndPaymentIdx(Long sellerIdx, Long paymentIdx);
@@ -0,0 +1,26 @@
+package co.kr.order.repository;
+
+import co.kr.order.model.entity.StockOutboxEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface StockOutboxRepository extends JpaRepository<StockOutboxEntity, Long> {
+
+    /**
+     * 발행 대기 중인 Outbox 조회 (오래된 순, 실패 처리된 메시지 제외)
+     * SKIP LOCKED: 다른 Order 인스턴스가 잡고 있는 행은 건너뛰어서 같은 메시지를 동시에 발행하지 않음
+     */
+    @Query(value = """
+            SELECT * FROM Stock_Outbox
+            WHERE Failed_at IS NULL
+            ORDER BY Outbox_IDX
+            LIMIT :size
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<StockOutboxEntity> findPendingForUpdate(@Param("size") int size);
+}
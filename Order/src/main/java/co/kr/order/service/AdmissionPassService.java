@@ -0,0 +1,10 @@
+package co.kr.order.service;
+
+import co.kr.order.model.dto.AdmissionPass;
+
+public interface AdmissionPassService {
+
+    String issue(Long userIdx, String queueId);
+    AdmissionPass consume(String pass, Long userIdx);
+    void restore(String nonce);
+}
@@ -0,0 +1,6 @@
+package co.kr.order.service;
+
+public interface AdmissionService {
+
+    void tick();
+}
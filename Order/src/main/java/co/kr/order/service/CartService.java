@@ -1,11 +1,10 @@
 package co.kr.order.service;
 
 import co.kr.order.model.dto.ProductInfo;
-import co.kr.order.model.dto.request.ClientProductReq;
 import co.kr.order.model.dto.response.CartItemRes;
+import co.kr.order.model.redis.CartSnapshot;
 
 import java.util.List;
-import java.util.Map;
 
 public interface CartService {
 
@@ -13,9 +12,9 @@ public interface CartService {
     CartItemRes plusCartItem(Long userIdx, String optionCode);
     CartItemRes minusCartItem(Long userIdx, String optionCode);
     void deleteCartItem(Long userIdx, String optionCode);
-    void deleteCartAll(Long userIdx);
     List<CartItemRes> getCartList(Long userIdx);
 
-    List<ClientProductReq> getProductByCart(Long userIdx);
-    Map<Long, Integer> getCartItemQuantities(Long userIdx);
+    // 주문용 (한 번 읽고, 주문한 만큼만 비우기)
+    CartSnapshot getCartSnapshot(Long userIdx);
+    void clearCart(CartSnapshot snapshot);
 }
@@ -1,8 +1,11 @@
 package co.kr.order.service;
 
 import co.kr.order.model.dto.event.StockUpdateMsg;
+import org.springframework.kafka.support.SendResult;
+
+import java.util.concurrent.CompletableFuture;
 
 public interface KafkaService {
-    void sendStockUpdate(StockUpdateMsg stockUpdateMsg);
+    CompletableFuture<SendResult<String, Object>> sendStockUpdate(StockUpdateMsg stockUpdateMsg);
 
 }
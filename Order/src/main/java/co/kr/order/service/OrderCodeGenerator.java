@@ -0,0 +1,22 @@
+package co.kr.order.service;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/*
+ * 주문 코드 / 메시지 코드 발급기
+ * - custom.order.code.generator 로 구현 선택 (snowflake: 기본, uuid: 이전 방식)
+ */
+public interface OrderCodeGenerator {
+
+    // 새 코드 발급
+    String nextCode();
+
+    // 발급 자격 유지 (Worker ID Lease 연장 등, 필요 없는 구현은 아무것도 안 함)
+    default void renewLease() {}
+
+    // 코드에서 발급 시각 추출 (시간이 들어있지 않은 코드 / 구현은 empty -> 기간 조건 없이 조회)
+    default Optional<Instant> issuedAt(String code) {
+        return Optional.empty();
+    }
+}
@@ -2,15 +2,16 @@ package co.kr.order.service;
 
 import co.kr.order.model.dto.UserInfo;
 import co.kr.order.model.dto.request.OrderReq;
+import co.kr.order.model.dto.response.OrderPageRes;
 import co.kr.order.model.dto.response.OrderRes;
 import jakarta.validation.Valid;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+
+import java.util.List;
 
 public interface OrderService {
 
-    OrderRes createOrder(Long userIdx, @Valid OrderReq request);
-    Page<OrderRes> findOrderList(Long userIdx, Pageable pageable);
+    OrderRes createOrder(Long userIdx, @Valid OrderReq request, String admittedRoom);
+    OrderPageRes findOrderList(Long userIdx, String cursor, Integer size, boolean withTotal);
     OrderRes findOrder(Long userIdx, String orderCode);
 
     void updateOrderStatus(String orderCode, String status);
@@ -18,6 +19,7 @@ public interface OrderService {
 
     void orderSuccess(String orderCode, Long paymentIdx, UserInfo userInfo);
     void orderFail(String orderCode);
+    int cancelExpiredOrders(List<String> orderCodes);
     void orderRefund(String orderCode, Long paymentIdx);
 
     Long findOrderItemIdxByProduct(String productsCode);
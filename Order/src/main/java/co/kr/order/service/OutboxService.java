@@ -0,0 +1,9 @@
+package co.kr.order.service;
+
+import co.kr.order.model.dto.event.StockUpdateMsg;
+
+public interface OutboxService {
+
+    void saveStockUpdate(StockUpdateMsg message);
+    int relayStockUpdates(int batchSize);
+}
@@ -0,0 +1,13 @@
+package co.kr.order.service;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+public interface PartitionMaintenanceService {
+
+    int createFuturePartitions();
+    int archiveClosedMonths();
+
+    // 아카이브를 켠 경우 Hot 테이블에 남는 첫 날 (이 날짜 이전은 *_Archive 로 옮겨졌거나 옮겨질 달), 꺼져 있으면 empty
+    Optional<LocalDate> archivedBefore();
+}
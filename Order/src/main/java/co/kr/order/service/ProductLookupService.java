@@ -0,0 +1,13 @@
+package co.kr.order.service;
+
+import co.kr.order.model.dto.request.ClientProductReq;
+import co.kr.order.model.dto.response.ClientProductRes;
+
+import java.util.List;
+import java.util.Map;
+
+public interface ProductLookupService {
+
+    // optionCode -> 상품 정보 (Product에 없는 상품은 빠짐)
+    Map<String, ClientProductRes> getProducts(List<ClientProductReq> products);
+}
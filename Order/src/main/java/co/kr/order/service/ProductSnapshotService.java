@@ -0,0 +1,22 @@
+package co.kr.order.service;
+
+import co.kr.order.model.dto.request.ClientProductReq;
+import co.kr.order.model.dto.response.ClientProductRes;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface ProductSnapshotService {
+
+    // optionCode -> 상품 스냅샷 (Product에 없는 상품은 빠짐)
+    // 화면용: 만료된 값도 잠시 그대로 쓰고 뒤에서 갱신
+    Map<String, ClientProductRes> getSnapshots(List<ClientProductReq> products);
+    // 주문/정산용: 만료된 값은 쓰지 않음
+    Map<String, ClientProductRes> getFreshSnapshots(List<ClientProductReq> products);
+
+    // 상품 변경 이벤트: 로컬 캐시는 인스턴스마다, Redis 는 한 번만 무효화
+    // changedAt 보다 먼저 시작된 조회 결과는 무효화 뒤에 도착해도 캐시에 넣지 않음
+    void evictLocal(Collection<String> optionCodes, long changedAt);
+    void evictShared(Collection<String> optionCodes, long changedAt);
+}
@@ -0,0 +1,17 @@
+package co.kr.order.service;
+
+import co.kr.order.model.dto.request.QueueRoomReq;
+import co.kr.order.model.redis.QueueRoom;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface QueueRoomService {
+
+    List<QueueRoom> getRooms();
+    QueueRoom getRoom(String roomId);
+    QueueRoom openRoom(String roomId, QueueRoomReq request);
+    void closeRoom(String roomId);
+    void refresh();
+    void checkAdmission(String roomId, Collection<String> productCodes);
+}
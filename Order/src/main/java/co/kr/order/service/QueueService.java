@@ -1,17 +1,26 @@
 package co.kr.order.service;
 
+import co.kr.order.model.redis.QueueRoom;
+import co.kr.order.model.redis.QueueRoomStat;
 import co.kr.order.model.redis.WaitingQueue;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
 public interface QueueService {
     // 입장 대기열
-    WaitingQueue getEnterStatus(String queueToken);
-    void registerEnter(String queueToken);
-    void allowEnterUser(Long capacity);
+    WaitingQueue getEnterStatus(String roomId, String queueToken);
+    void registerEnter(String roomId, String queueToken);
+    Map<String, WaitingQueue> getEnterStatuses(String roomId, Collection<String> queueTokens);
+    boolean consumeEnter(String roomId, String queueToken);
 
     // 주문 대기열
-    WaitingQueue getOrderStatus(Long userIdx);
-    void registerOrder(Long userIdx);
-    void allowOrderUser(Long capacity);
-    void exitQueue(Long userIdx);
-    void evictInactiveUsers(long time);
+    WaitingQueue getOrderStatus(String roomId, Long userIdx);
+    void registerOrder(String roomId, Long userIdx);
+    Map<Long, WaitingQueue> getOrderStatuses(String roomId, Collection<Long> userIdxs);
+    void exitQueue(String roomId, Long userIdx);
+
+    // 대기실 일괄 처리 (입장 / 주문 진입 / 무응답 퇴장)
+    List<QueueRoomStat> processRooms(List<QueueRoom> rooms);
 }
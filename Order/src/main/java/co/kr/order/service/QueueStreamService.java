@@ -0,0 +1,10 @@
+package co.kr.order.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface QueueStreamService {
+
+    SseEmitter subscribeEnter(String roomId, String queueToken);
+    SseEmitter subscribeOrder(String roomId, Long userIdx);
+    void broadcast();
+}
@@ -1,9 +1,14 @@
 package co.kr.order.service;
 
 import co.kr.order.model.dto.SettlementInfo;
+import co.kr.order.model.dto.response.SettlementPageRes;
+import co.kr.order.model.vo.SettlementExportFormat;
+import co.kr.order.model.vo.SettlementType;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
-import java.util.List;
+import java.time.LocalDate;
 import java.util.Map;
 
 /**
@@ -32,9 +37,22 @@ public interface SettlementService {
     void refundSettlement(Long orderId, Long paymentIdx);
 
     /**
-     * 판매자별 정산 내역 목록 조회
+     * 판매자별 정산 내역 목록 조회 (Settlement_IDX 커서 페이징, 최신순)
+     *
+     * @param type 정산 유형 (null 이면 전체)
+     * @param from 조회 시작일 (포함, null 이면 제한 없음)
+     * @param to 조회 종료일 (포함, null 이면 제한 없음)
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     */
+    SettlementPageRes getSettlementPage(Long sellerIdx, SettlementType type, LocalDate from, LocalDate to, Long cursor, Integer size);
+
+    /**
+     * 판매자별 정산 내역 내보내기 (CSV / NDJSON)
+     * - 전방향 JDBC 커서로 한 건씩 읽어서 바로 출력 (내역 건수와 상관없이 메모리 일정)
      */
-    List<SettlementInfo> getSettlementList(Long sellerIdx);
+    void exportSettlements(Long sellerIdx, SettlementType type, LocalDate from, LocalDate to,
+                           SettlementExportFormat format, OutputStream outputStream) throws IOException;
 
     /**
      * 판매자의 특정 결제 건 정산 상세 조회
@@ -0,0 +1,15 @@
+package co.kr.order.service;
+
+import co.kr.order.model.dto.ProductInfo;
+import co.kr.order.model.dto.RemainStockInfo;
+
+import java.util.List;
+
+public interface StockReservationService {
+
+    List<RemainStockInfo> reserve(String orderCode, List<ProductInfo> request);
+    boolean confirm(String orderCode);
+    boolean release(String orderCode);
+
+    List<String> findExpired(int batchSize);
+}
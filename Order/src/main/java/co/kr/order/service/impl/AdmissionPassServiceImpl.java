@@ -0,0 +1,167 @@
+package co.kr.order.service.impl;
+
+import co.kr.order.exception.ErrorCode;
+import co.kr.order.exception.InvalidAdmissionPassException;
+import co.kr.order.model.dto.AdmissionPass;
+import co.kr.order.service.AdmissionPassService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * 대기열 입장권 (Admission Pass)
+ * 대기열을 통과한 유저에게 HMAC 서명된 입장권을 발급하고, 주문 생성 시 서명만 검증 (Redis 조회 없음)
+ *
+ * 형식: base64url(userIdx:queueId:만료시각(ms):nonce) + "." + base64url(HMAC-SHA256)
+ * - 다른 유저의 입장권, 만료된 입장권, 위조된 입장권은 거부
+ * - queueId 는 주문 상품의 대기실과 비교 (QueueRoomService.checkAdmission, 주문 생성 시)
+ * - 재사용 방지: 사용한 nonce 를 만료 시각까지 인스턴스 메모리에 보관 (주문 실패 시 반납하여 재시도 허용)
+ *   ※ 인스턴스 간에는 공유하지 않으므로, 만료 전에는 같은 입장권으로 인스턴스 수만큼 주문이 가능
+ *     -> 유효 시간(ttl-seconds)을 수십 초로 짧게 두어 그 범위를 제한
+ */
+@Slf4j
+@Service
+public class AdmissionPassServiceImpl implements AdmissionPassService {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String DELIMITER = ":";
+
+    private final SecretKeySpec secretKey;
+    private final long ttlMillis;
+
+    // 스레드마다 Mac 재사용 (매 검증마다 생성하지 않도록)
+    private final ThreadLocal<Mac> macHolder;
+
+    // 사용된 nonce [Key: nonce, Value: 입장권 만료 시각]
+    private final Map<String, Long> usedNonces = new ConcurrentHashMap<>();
+    private volatile long lastPurgedAt = 0L;
+
+    public AdmissionPassServiceImpl(
+            @Value("${custom.queue.pass.secret}") String secret,
+            @Value("${custom.queue.pass.ttl-seconds:30}") long ttlSeconds
+    ) {
+        this.secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        this.ttlMillis = ttlSeconds * 1000L;
+        this.macHolder = ThreadLocal.withInitial(this::newMac);
+    }
+
+    /*
+     * 입장권 발급 (대기열 통과 시)
+     * @param userIdx: 유저 인덱스
+     * @param queueId: 통과한 대기열
+     * @return 서명된 입장권
+     */
+    @Override
+    public String issue(Long userIdx, String queueId) {
+
+        long expiresAt = System.currentTimeMillis() + ttlMillis;
+        String nonce = UUID.randomUUID().toString();
+        String payload = String.join(DELIMITER, String.valueOf(userIdx), queueId, String.valueOf(expiresAt), nonce);
+
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        byte[] payloadBytes = payload.getBytes(StandardCharsets.UTF_8);
+        return encoder.encodeToString(payloadBytes) + "." + encoder.encodeToString(sign(payloadBytes));
+    }
+
+    /*
+     * 입장권 검증 및 사용 처리 (주문 생성 시)
+     * @param pass: 입장권
+     * @param userIdx: 요청한 유저 인덱스
+     * @return 사용 처리된 nonce (주문 실패 시 restore 로 반납) + 발급한 대기실 ID
+     */
+    @Override
+    public AdmissionPass consume(String pass, Long userIdx) {
+
+        if (pass == null || userIdx == null) {
+            throw new InvalidAdmissionPassException(ErrorCode.INVALID_ADMISSION_PASS);
+        }
+
+        int dot = pass.indexOf('.');
+        if (dot < 0) {
+            throw new InvalidAdmissionPassException(ErrorCode.INVALID_ADMISSION_PASS);
+        }
+
+        // 1. 서명 검증 (비교 시간이 입력에 따라 달라지지 않도록 MessageDigest.isEqual 사용)
+        byte[] payloadBytes;
+        byte[] signature;
+        try {
+            Base64.Decoder decoder = Base64.getUrlDecoder();
+            payloadBytes = decoder.decode(pass.substring(0, dot));
+            signature = decoder.decode(pass.substring(dot + 1));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidAdmissionPassException(ErrorCode.INVALID_ADMISSION_PASS);
+        }
+
+        if (!MessageDigest.isEqual(sign(payloadBytes), signature)) {
+            log.warn("입장권 서명 불일치: userIdx={}", userIdx);
+            throw new InvalidAdmissionPassException(ErrorCode.INVALID_ADMISSION_PASS);
+        }
+
+        // 2. 내용 검증 (본인 / 만료)
+        String[] fields = new String(payloadBytes, StandardCharsets.UTF_8).split(DELIMITER);
+        if (fields.length != 4) {
+            throw new InvalidAdmissionPassException(ErrorCode.INVALID_ADMISSION_PASS);
+        }
+        long now = System.currentTimeMillis();
+        long expiresAt;
+        try {
+            expiresAt = Long.parseLong(fields[2]);
+        } catch (NumberFormatException e) {
+            throw new InvalidAdmissionPassException(ErrorCode.INVALID_ADMISSION_PASS);
+        }
+        if (!fields[0].equals(String.valueOf(userIdx)) || expiresAt < now) {
+            throw new InvalidAdmissionPassException(ErrorCode.INVALID_ADMISSION_PASS);
+        }
+
+        // 3. 재사용 방지
+        purgeExpiredNonces(now);
+        String nonce = fields[3];
+        if (usedNonces.putIfAbsent(nonce, expiresAt) != null) {
+            log.warn("입장권 재사용 시도: userIdx={}", userIdx);
+            throw new InvalidAdmissionPassException(ErrorCode.INVALID_ADMISSION_PASS);
+        }
+
+        return new AdmissionPass(nonce, fields[1]);
+    }
+
+    /*
+     * 입장권 반납 (주문 생성 실패 시 같은 입장권으로 재시도 허용)
+     * @param nonce: consume 에서 반환된 nonce
+     */
+    @Override
+    public void restore(String nonce) {
+        usedNonces.remove(nonce);
+    }
+
+    // 만료된 nonce 정리 (1초에 한 번)
+    private void purgeExpiredNonces(long now) {
+        if (now - lastPurgedAt < 1000L) return;
+
+        lastPurgedAt = now;
+        usedNonces.values().removeIf(expiresAt -> expiresAt < now);
+    }
+
+    private byte[] sign(byte[] payload) {
+        return macHolder.get().doFinal(payload);
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(secretKey);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("입장권 서명 키 초기화 실패", e);
+        }
+    }
+}
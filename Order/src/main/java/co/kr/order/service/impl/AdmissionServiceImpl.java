@@ -0,0 +1,330 @@
+package co.kr.order.service.impl;
+
+import co.kr.order.model.redis.QueueRoom;
+import co.kr.order.model.redis.QueueRoomStat;
+import co.kr.order.service.AdmissionService;
+import co.kr.order.service.QueueRoomService;
+import co.kr.order.service.QueueService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * 대기열 입장량 조절 (Adaptive Admission Controller)
+ * - 모든 Order 인스턴스가 tick 을 실행하지만, Redis Lease 를 가진 리더 한 대만 입장 처리
+ * - 입장량/수용량은 전체 대기실 합계 기준이며, 대기실별 설정 비율로 나눠서 적용
+ * - AIMD: 백엔드가 건강하면 입장량을 조금씩 늘리고(+), 느려지거나 장애가 보이면 크게 줄임(x)
+ *
+ * 판단 지표:
+ * - 주문 Active 인원 (수용량을 실제로 다 쓰고 있을 때만 늘림)
+ * - 주문 생성 p95 응답 시간 (인스턴스별 값을 Redis에 모아서 가장 느린 값 기준)
+ * - Redis 응답 시간 / DB 연결 상태
+ *
+ * Redis 구조:
+ * - queue:admission:leader (String) [리더 인스턴스 ID, TTL = lease-ttl-ms]
+ * - queue:admission:state (Hash) [enterRate, orderCapacity] -> 리더가 바뀌어도 이어서 조절
+ * - queue:admission:latency (Hash) [Field: 인스턴스 ID, Value: "p95(ms):기록 시각(ms)"]
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AdmissionServiceImpl implements AdmissionService {
+
+    private final StringRedisTemplate redisTemplate;
+    private final QueueService queueService;
+    private final QueueRoomService queueRoomService;
+    private final DataSource dataSource;
+    private final Timer createOrderTimer;
+    private final MeterRegistry meterRegistry;
+
+    private static final String LEADER_KEY = "queue:admission:leader";
+    private static final String STATE_KEY = "queue:admission:state";
+    private static final String LATENCY_KEY = "queue:admission:latency";
+
+    private static final String ENTER_RATE_FIELD = "enterRate";
+    private static final String ORDER_CAPACITY_FIELD = "orderCapacity";
+
+    // 리더 Lease 유지 시간 (리더가 죽으면 이 시간 뒤에 다른 인스턴스가 이어받음)
+    @Value("${custom.queue.admission.lease-ttl-ms:5000}")
+    private long leaseTtlMs;
+
+    // 입장 대기열: tick 당 입장 인원
+    @Value("${custom.queue.admission.enter.min:1}")
+    private long enterMin;
+    @Value("${custom.queue.admission.enter.max:200}")
+    private long enterMax;
+    @Value("${custom.queue.admission.enter.initial:5}")
+    private long enterInitial;
+    @Value("${custom.queue.admission.enter.increase:2}")
+    private long enterIncrease;
+
+    // 주문 대기열: 동시 주문 가능 인원
+    @Value("${custom.queue.admission.order.min:2}")
+    private long orderMin;
+    @Value("${custom.queue.admission.order.max:500}")
+    private long orderMax;
+    @Value("${custom.queue.admission.order.initial:10}")
+    private long orderInitial;
+    @Value("${custom.queue.admission.order.increase:2}")
+    private long orderIncrease;
+
+    // 감소 비율 (Multiplicative Decrease)
+    @Value("${custom.queue.admission.decrease-factor:0.5}")
+    private double decreaseFactor;
+
+    // 주문 생성 p95 목표치 (넘으면 감소)
+    @Value("${custom.queue.admission.target-p95-ms:800}")
+    private long targetP95Ms;
+
+    // Redis 응답이 이보다 느리면 감소
+    @Value("${custom.queue.admission.redis-slow-ms:50}")
+    private long redisSlowMs;
+
+    // 수용량 대비 Active 비율이 이 이상일 때만 주문 수용량을 늘림 (놀고 있는 수용량은 늘리지 않음)
+    @Value("${custom.queue.admission.order.utilization:0.8}")
+    private double orderUtilization;
+
+    // 인스턴스 식별자 (Lease 소유자)
+    private final String instanceId = UUID.randomUUID().toString();
+
+    // 현재 적용 중인 값 (Gauge 노출용)
+    private final AtomicLong enterRate = new AtomicLong();
+    private final AtomicLong orderCapacity = new AtomicLong();
+    private volatile boolean leader = false;
+
+    /*
+     * Lease 획득 또는 연장
+     * 내가 가진 Lease 면 TTL 연장, 비어 있으면 획득, 다른 인스턴스가 가지고 있으면 실패
+     * KEYS[1]: 리더 Key, ARGV[1]: 인스턴스 ID, ARGV[2]: TTL(ms)
+     */
+    private static final String LEASE_SCRIPT =
+            "local owner = redis.call('get', KEYS[1]) " +
+                    "if owner == ARGV[1] then " +
+                    "    redis.call('pexpire', KEYS[1], ARGV[2]) " +
+                    "    return 1 " +
+                    "end " +
+                    "if not owner then " +
+                    "    redis.call('set', KEYS[1], ARGV[1], 'PX', ARGV[2]) " +
+                    "    return 1 " +
+                    "end " +
+                    "return 0";
+
+    private DefaultRedisScript<Long> leaseScript;
+
+    @PostConstruct
+    public void init() {
+        leaseScript = new DefaultRedisScript<>(LEASE_SCRIPT, Long.class);
+
+        enterRate.set(enterInitial);
+        orderCapacity.set(orderInitial);
+        meterRegistry.gauge("queue.admission.enter.rate", enterRate);
+        meterRegistry.gauge("queue.admission.order.capacity", orderCapacity);
+
+        log.info("Admission Controller Initialized. instanceId={}", instanceId);
+    }
+
+    /*
+     * tick (스케쥴러)
+     * 1. 내 p95 를 Redis에 기록 (리더가 모든 인스턴스 지표를 볼 수 있도록) + 대기실 목록 갱신
+     * 2. 리더 Lease 확인, 리더가 아니면 종료
+     * 3. 전체 입장량/수용량을 대기실별 설정 비율로 나눠서 모든 대기실을 한 번에 처리
+     * 4. 지표 수집 -> AIMD 로 다음 tick 의 입장량/수용량 조절
+     */
+    @Override
+    public void tick() {
+
+        // 1. Redis 응답 시간 측정을 겸해서 p95 기록
+        long p95Ms = localP95Ms();
+        long redisMs;
+        try {
+            long start = System.nanoTime();
+            redisTemplate.opsForHash().put(LATENCY_KEY, instanceId, p95Ms + ":" + System.currentTimeMillis());
+            redisMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            // 대기열 등록/조회 시 사용할 대기실 목록 (모든 인스턴스)
+            queueRoomService.refresh();
+        } catch (RuntimeException e) {
+            // Redis 장애 시 대기열 자체가 동작할 수 없으므로 이번 tick 은 건너뜀
+            log.warn("대기열 입장 조절: Redis 응답 없음, 이번 tick 건너뜀", e);
+            leader = false;
+            return;
+        }
+
+        // 2. 리더 확인
+        if (!acquireLease()) {
+            return;
+        }
+
+        // 3. 입장 처리 (대기실 수와 상관없이 Pipeline 1회)
+        List<QueueRoom> rooms = queueRoomService.getRooms();
+        long enter = enterRate.get();
+        long capacity = orderCapacity.get();
+        List<QueueRoomStat> stats = queueService.processRooms(distribute(rooms, enter, capacity));
+
+        // 4. 지표 수집
+        long clusterP95Ms = clusterP95Ms();
+        boolean dbHealthy = isDbHealthy();
+        long activeOrders = stats.stream().mapToLong(QueueRoomStat::activeOrders).sum();
+        long waitingEnters = stats.stream().mapToLong(QueueRoomStat::waitingEnters).sum();
+
+        boolean overloaded = !dbHealthy || redisMs > redisSlowMs || clusterP95Ms > targetP95Ms;
+
+        // 5. AIMD (대기실 설정 합계보다 크게 늘리지 않음)
+        long enterLimit = Math.min(enterMax, rooms.stream().mapToLong(QueueRoom::enterRate).sum());
+        long capacityLimit = Math.min(orderMax, rooms.stream().mapToLong(QueueRoom::orderCapacity).sum());
+        if (overloaded) {
+            enter = Math.max(enterMin, (long) (enter * decreaseFactor));
+            capacity = Math.max(orderMin, (long) (capacity * decreaseFactor));
+
+            log.warn("대기열 입장 조절: 과부하 감지 (p95={}ms, redis={}ms, db={}) -> 입장={}/tick, 수용량={}",
+                    clusterP95Ms, redisMs, dbHealthy ? "UP" : "DOWN", enter, capacity);
+        } else {
+            // 기다리는 사람이 있을 때만 입장량을 늘림
+            if (waitingEnters > enter) {
+                enter = Math.min(enterLimit, enter + enterIncrease);
+            }
+            // 수용량을 거의 다 쓰고 있을 때만 늘림
+            if (activeOrders >= capacity * orderUtilization) {
+                capacity = Math.min(capacityLimit, capacity + orderIncrease);
+            }
+        }
+        enter = Math.max(enterMin, enter);
+        capacity = Math.max(orderMin, capacity);
+
+        enterRate.set(enter);
+        orderCapacity.set(capacity);
+        redisTemplate.opsForHash().putAll(STATE_KEY, Map.of(
+                ENTER_RATE_FIELD, String.valueOf(enter),
+                ORDER_CAPACITY_FIELD, String.valueOf(capacity)
+        ));
+
+        if (log.isDebugEnabled()) {
+            log.debug("대기열 입장 처리: 대기실={}, 입장={}, 주문={}, 대기={}, Active={}, p95={}ms",
+                    rooms.size(),
+                    stats.stream().mapToLong(QueueRoomStat::entered).sum(),
+                    stats.stream().mapToLong(QueueRoomStat::ordered).sum(),
+                    waitingEnters, activeOrders, clusterP95Ms);
+        }
+    }
+
+    /*
+     * 전체 입장량/수용량을 대기실별 설정 비율대로 배분
+     * 여유가 있으면 대기실 설정값 그대로, 부족하면 같은 비율로 줄임 (대기실마다 최소 1명)
+     */
+    private List<QueueRoom> distribute(List<QueueRoom> rooms, long enterBudget, long capacityBudget) {
+
+        long enterTotal = rooms.stream().mapToLong(QueueRoom::enterRate).sum();
+        long capacityTotal = rooms.stream().mapToLong(QueueRoom::orderCapacity).sum();
+
+        double enterScale = enterTotal == 0 ? 0 : Math.min(1.0, (double) enterBudget / enterTotal);
+        double capacityScale = capacityTotal == 0 ? 0 : Math.min(1.0, (double) capacityBudget / capacityTotal);
+
+        return rooms.stream()
+                .map(room -> room.withQuota(
+                        Math.max(1L, (long) (room.enterRate() * enterScale)),
+                        Math.max(1L, (long) (room.orderCapacity() * capacityScale))))
+                .toList();
+    }
+
+    /*
+     * 리더 Lease 획득/연장
+     * 새로 리더가 되면 이전 리더가 남긴 상태(입장량/수용량)를 이어받음
+     */
+    private boolean acquireLease() {
+
+        Long result = redisTemplate.execute(
+                leaseScript,
+                List.of(LEADER_KEY),
+                instanceId,
+                String.valueOf(leaseTtlMs)
+        );
+        boolean acquired = result != null && result == 1L;
+
+        if (acquired && !leader) {
+            restoreState();
+            log.info("대기열 입장 조절: 리더 선출 (instanceId={}, 입장={}/tick, 수용량={})",
+                    instanceId, enterRate.get(), orderCapacity.get());
+        } else if (!acquired && leader) {
+            log.info("대기열 입장 조절: 리더 권한 상실 (instanceId={})", instanceId);
+        }
+
+        leader = acquired;
+        return acquired;
+    }
+
+    // 이전 리더가 저장한 상태 복구 (없으면 초기값)
+    private void restoreState() {
+        List<Object> values = redisTemplate.opsForHash()
+                .multiGet(STATE_KEY, List.of(ENTER_RATE_FIELD, ORDER_CAPACITY_FIELD));
+
+        enterRate.set(clamp(parseOrDefault(values.get(0), enterInitial), enterMin, enterMax));
+        orderCapacity.set(clamp(parseOrDefault(values.get(1), orderInitial), orderMin, orderMax));
+    }
+
+    // 이 인스턴스의 주문 생성 p95 (ms), 최근 요청이 없으면 0
+    private long localP95Ms() {
+        for (ValueAtPercentile value : createOrderTimer.takeSnapshot().percentileValues()) {
+            if (value.percentile() == 0.95) {
+                return (long) value.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        return 0L;
+    }
+
+    /*
+     * 전체 인스턴스 중 가장 느린 p95 (ms)
+     * 일정 시간 이상 갱신되지 않은 값(죽은 인스턴스)은 제외하고 삭제
+     */
+    private long clusterP95Ms() {
+
+        long staleBefore = System.currentTimeMillis() - leaseTtlMs;
+        long max = 0L;
+
+        for (Map.Entry<Object, Object> entry : redisTemplate.opsForHash().entries(LATENCY_KEY).entrySet()) {
+            String[] value = ((String) entry.getValue()).split(":");
+            long p95 = Long.parseLong(value[0]);
+            long updatedAt = Long.parseLong(value[1]);
+
+            if (updatedAt < staleBefore) {
+                redisTemplate.opsForHash().delete(LATENCY_KEY, entry.getKey());
+                continue;
+            }
+            max = Math.max(max, p95);
+        }
+        return max;
+    }
+
+    // DB 연결 확인 (1초 안에 응답이 없으면 장애로 판단)
+    private boolean isDbHealthy() {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.isValid(1);
+        } catch (SQLException e) {
+            log.warn("대기열 입장 조절: DB 연결 실패", e);
+            return false;
+        }
+    }
+
+    private long parseOrDefault(Object value, long defaultValue) {
+        return value == null ? defaultValue : Long.parseLong((String) value);
+    }
+
+    private long clamp(long value, long min, long max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
@@ -1,6 +1,5 @@
 package co.kr.order.service.impl;
 
-import co.kr.order.client.ProductClient;
 import co.kr.order.exception.CartNotFoundException;
 import co.kr.order.exception.ErrorCode;
 import co.kr.order.exception.ProductNotFoundException;
@@ -10,10 +9,17 @@ import co.kr.order.model.dto.request.ClientProductReq;
 import co.kr.order.model.dto.response.CartItemRes;
 import co.kr.order.model.dto.response.ClientProductRes;
 import co.kr.order.model.redis.Cart;
+import co.kr.order.model.redis.CartItem;
+import co.kr.order.model.redis.CartSnapshot;
 import co.kr.order.service.CartService;
-import feign.FeignException;
+import co.kr.order.service.ProductSnapshotService;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
@@ -21,17 +27,123 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
 
+/*
+ * 장바구니 (Redis Hash)
+ * - Key: cart:items:{userIdx}
+ * - Field: q:{optionCode} -> 수량, p:{optionCode} -> 상품 코드, v -> 장바구니 버전 (변경될 때마다 +1)
+ * - 상품명/옵션/가격은 저장하지 않고 조회 시 상품 스냅샷 캐시(ProductSnapshotService)에서 채움
+ * - 수량 변경은 Lua 스크립트 하나로 처리 (동시에 눌러도 유실 없음)
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class CartServiceImpl implements CartService {
 
+    private final StringRedisTemplate stringRedisTemplate;
     private final RedisTemplate<String, Object> redisTemplate;
-    private final ProductClient productClient;
+    private final ProductSnapshotService productSnapshotService;
 
     // Redis의 Key Default 값
-    private final static String KEY = "cart:user:";
+    private final static String KEY = "cart:items:";
+    // 이전 형식(Cart 객체 통째로 저장) 장바구니 Key - 읽을 때 새 형식으로 옮기고 삭제
+    private final static String LEGACY_KEY = "cart:user:";
+
+    // Hash Field 접두사 (수량 / 상품 코드)
+    private final static String QUANTITY_FIELD = "q:";
+    private final static String PRODUCT_FIELD = "p:";
+    private final static String VERSION_FIELD = "v";
+
+    // 장바구니 상품 최대/최소 개수
+    @Value("${custom.order.cart.max-quantity:100}")
+    private int maxQuantity;
+    private final static int MIN_QUANTITY = 1;
+
+    // 장바구니 TTL (일)
+    @Value("${custom.order.cart.ttl-days:30}")
+    private long ttlDays;
+
+    /**
+     * 장바구니 상품 추가 (수량 덮어쓰기)
+     * KEYS[1]: 장바구니 Key
+     * ARGV[1]: 옵션 코드, ARGV[2]: 상품 코드, ARGV[3]: 수량, ARGV[4]: TTL(초)
+     * return: 기존에 장바구니 Key 가 있었으면 1, 새로 만들었으면 0
+     */
+    private static final String ADD_SCRIPT =
+            "local existed = redis.call('exists', KEYS[1]) " +
+                    "redis.call('hset', KEYS[1], 'q:' .. ARGV[1], ARGV[3], 'p:' .. ARGV[1], ARGV[2]) " +
+                    "redis.call('hincrby', KEYS[1], 'v', 1) " +
+                    "redis.call('expire', KEYS[1], ARGV[4]) " +
+                    "return existed";
+
+    /**
+     * 장바구니 상품 수량 증감 (범위 안에서만 HINCRBY)
+     * KEYS[1]: 장바구니 Key
+     * ARGV[1]: 옵션 코드, ARGV[2]: 증감량, ARGV[3]: 최소 수량, ARGV[4]: 최대 수량, ARGV[5]: TTL(초)
+     * return: {변경 후 수량, 상품 코드} / 장바구니에 없으면 {-1}
+     */
+    private static final String INCR_SCRIPT =
+            "local qty = redis.call('hget', KEYS[1], 'q:' .. ARGV[1]) " +
+                    "if not qty then return {-1} end " +
+                    "qty = tonumber(qty) " +
+                    "local next = qty + tonumber(ARGV[2]) " +
+                    "if next >= tonumber(ARGV[3]) and next <= tonumber(ARGV[4]) then " +
+                    "    qty = redis.call('hincrby', KEYS[1], 'q:' .. ARGV[1], ARGV[2]) " +
+                    "    redis.call('hincrby', KEYS[1], 'v', 1) " +
+                    "end " +
+                    "redis.call('expire', KEYS[1], ARGV[5]) " +
+                    "return {qty, redis.call('hget', KEYS[1], 'p:' .. ARGV[1])}";
+
+    /**
+     * 장바구니 상품 삭제
+     * KEYS[1]: 장바구니 Key
+     * ARGV[1]: 옵션 코드, ARGV[2]: TTL(초)
+     */
+    private static final String DELETE_SCRIPT =
+            "if redis.call('hdel', KEYS[1], 'q:' .. ARGV[1], 'p:' .. ARGV[1]) > 0 then " +
+                    "    redis.call('hincrby', KEYS[1], 'v', 1) " +
+                    "    redis.call('expire', KEYS[1], ARGV[2]) " +
+                    "end " +
+                    "return 1";
+
+    /**
+     * 주문한 장바구니 비우기
+     * - 읽은 뒤로 바뀐 게 없으면 (버전 같음) 통째로 삭제
+     * - 결제 중에 수정됐으면 주문한 수량 그대로인 상품만 삭제 (새로 담거나 수량을 바꾼 상품은 남김)
+     * KEYS[1]: 장바구니 Key
+     * ARGV[1]: 읽은 시점 버전, ARGV[2i]: 옵션 코드, ARGV[2i+1]: 주문 수량
+     * return: 통째로 삭제했으면 1, 일부만 삭제했으면 0
+     */
+    private static final String CLEAR_SCRIPT =
+            "if redis.call('hget', KEYS[1], 'v') == ARGV[1] then " +
+                    "    redis.call('del', KEYS[1]) " +
+                    "    return 1 " +
+                    "end " +
+                    "for i = 2, #ARGV, 2 do " +
+                    "    if redis.call('hget', KEYS[1], 'q:' .. ARGV[i]) == ARGV[i + 1] then " +
+                    "        redis.call('hdel', KEYS[1], 'q:' .. ARGV[i], 'p:' .. ARGV[i]) " +
+                    "    end " +
+                    "end " +
+                    "if redis.call('hlen', KEYS[1]) <= 1 then " +
+                    "    redis.call('del', KEYS[1]) " +
+                    "else " +
+                    "    redis.call('hincrby', KEYS[1], 'v', 1) " +
+                    "end " +
+                    "return 0";
+
+    private DefaultRedisScript<Long> addScript;
+    @SuppressWarnings("rawtypes")
+    private DefaultRedisScript<List> incrScript;
+    private DefaultRedisScript<Long> deleteScript;
+    private DefaultRedisScript<Long> clearScript;
+
+    @PostConstruct
+    public void init() {
+        addScript = new DefaultRedisScript<>(ADD_SCRIPT, Long.class);
+        incrScript = new DefaultRedisScript<>(INCR_SCRIPT, List.class);
+        deleteScript = new DefaultRedisScript<>(DELETE_SCRIPT, Long.class);
+        clearScript = new DefaultRedisScript<>(CLEAR_SCRIPT, Long.class);
+    }
 
     /*
      * 장바구니에 상품 추가
@@ -41,49 +153,37 @@ public class CartServiceImpl implements CartService {
     @Override
     public CartItemRes addCartItem(Long userIdx, ProductInfo request) {
 
-        // 상품 정보 가져오기 (FeignClient)
-        ClientProductRes productResponse;
-        try {
-            productResponse = productClient.getProduct(request.productCode(), request.optionCode());
-        } catch (FeignException.NotFound e) {
+        // 상품 정보 가져오기 (상품 스냅샷 캐시, 없으면 FeignClient)
+        ClientProductRes productResponse = productSnapshotService
+                .getSnapshots(List.of(new ClientProductReq(request.productCode(), request.optionCode())))
+                .get(request.optionCode());
+        if (productResponse == null || !productResponse.productCode().equals(request.productCode())) {
             // 없을 경우 ProductNotFoundException
             throw new ProductNotFoundException(ErrorCode.PRODUCT_NOT_FOUND);
         }
 
-        // 장바구니 Key, Field 세팅
-        String cartKey = KEY + userIdx;
-        String field = request.optionCode();
-
-        // Redis에 저장 할 장바구니 정보 세팅
-        Cart cartItem = Cart.builder()
-                .userIdx(userIdx)
-                .productIdx(productResponse.productIdx())
-                .optionIdx(productResponse.optionIdx())
-                .productCode(request.productCode())
-                .optionCode(request.optionCode())
-                .productName(productResponse.productName())
-                .optionContent(productResponse.optionContent())
-                .price(productResponse.price())
-                .quantity(request.quantity())
-                .build();
-
-        // put(Key, Field, Data) - Redis에 장바구니 데이터 저장
-        redisTemplate.opsForHash().put(cartKey, field, cartItem);
-        // TTL 설정 (30일)
-        redisTemplate.expire(cartKey, 30, TimeUnit.DAYS);
+        // 장바구니 최대 개수를 넘지 않도록 세팅
+        int quantity = Math.min(request.quantity(), maxQuantity);
+
+        // 수량/상품 코드 저장 + TTL 설정
+        Long existed = stringRedisTemplate.execute(
+                addScript,
+                List.of(KEY + userIdx),
+                request.optionCode(),
+                request.productCode(),
+                String.valueOf(quantity),
+                String.valueOf(ttlSeconds())
+        );
+
+        // 새로 만든 장바구니면 이전 형식 장바구니가 남아있는지 확인 후 옮기기
+        if (Long.valueOf(0L).equals(existed)) {
+            migrateLegacyCart(userIdx);
+        }
 
         // 장바구니에 저장한 상품 정보 return
-        return new CartItemRes(
-                new ItemInfo(
-                        request.productCode(),
-                        request.optionCode(),
-                        productResponse.productName(),
-                        productResponse.optionContent(),
-                        productResponse.price()
-                ),
-                cartItem.getQuantity(),
-                productResponse.price()
-                        .multiply(BigDecimal.valueOf(cartItem.getQuantity()))
+        return toCartItemRes(
+                new CartItem(request.productCode(), request.optionCode(), quantity),
+                productResponse
         );
     }
 
@@ -94,37 +194,7 @@ public class CartServiceImpl implements CartService {
      */
     @Override
     public CartItemRes plusCartItem(Long userIdx, String optionCode) {
-
-        // 장바구니 Key 세팅
-        String cartKey = KEY + userIdx;
-
-        // Key로 장바구니 조회
-        Cart cartItem = getCartItem(cartKey, optionCode);
-        if (cartItem == null) {
-            // 없을 경우 CartNotFoundException
-            throw new CartNotFoundException(ErrorCode.CART_NOT_FOUND);
-        }
-
-        // 장바구니 최대 개수 100으로 지정
-        if (cartItem.getQuantity() < 100) {
-            cartItem.plusQuantity();  // 장바구니 상품 +1
-            redisTemplate.opsForHash().put(cartKey, optionCode, cartItem);  // 저장
-            redisTemplate.expire(cartKey, 30, TimeUnit.DAYS);  // TTL 설정 (30일)
-        }
-
-        // 장바구니 상품 정보 return
-        return new CartItemRes(
-                new ItemInfo(
-                        cartItem.getProductCode(),
-                        cartItem.getOptionCode(),
-                        cartItem.getProductName(),
-                        cartItem.getOptionContent(),
-                        cartItem.getPrice()
-                ),
-                cartItem.getQuantity(),
-                cartItem.getPrice()
-                        .multiply(BigDecimal.valueOf(cartItem.getQuantity()))
-        );
+        return changeQuantity(userIdx, optionCode, 1);
     }
 
     /*
@@ -134,37 +204,7 @@ public class CartServiceImpl implements CartService {
      */
     @Override
     public CartItemRes minusCartItem(Long userIdx, String optionCode) {
-
-        // 장바구니 Key 세팅
-        String cartKey = KEY + userIdx;
-
-        // Key로 장바구니 조회
-        Cart cartItem = getCartItem(cartKey, optionCode);
-        if (cartItem == null) {
-            // 없을 경우 CartNotFoundException
-            throw new CartNotFoundException(ErrorCode.CART_NOT_FOUND);
-        }
-
-        // 1개 이하로 감소할 수 없음
-        if (cartItem.getQuantity() > 1) {
-            cartItem.minusQuantity();  // 장바구니 상품 -1
-            redisTemplate.opsForHash().put(cartKey, optionCode, cartItem);  // 저장
-            redisTemplate.expire(cartKey, 30, TimeUnit.DAYS);  // TTL 설정 (30일)
-        }
-
-        // 장바구니 상품 정보 return
-        return new CartItemRes(
-                new ItemInfo(
-                        cartItem.getProductCode(),
-                        cartItem.getOptionCode(),
-                        cartItem.getProductName(),
-                        cartItem.getOptionContent(),
-                        cartItem.getPrice()
-                ),
-                cartItem.getQuantity(),
-                cartItem.getPrice()
-                        .multiply(BigDecimal.valueOf(cartItem.getQuantity()))
-        );
+        return changeQuantity(userIdx, optionCode, -1);
     }
 
     /*
@@ -175,135 +215,238 @@ public class CartServiceImpl implements CartService {
     @Override
     public void deleteCartItem(Long userIdx, String optionCode) {
 
-        // 장바구니 Key 세팅
-        String cartKey = KEY + userIdx;
-
-        redisTemplate.opsForHash().delete(cartKey, optionCode);  // 저장
-        redisTemplate.expire(cartKey, 30, TimeUnit.DAYS);  // TTL 설정(30일)
-    }
-
-    /*
-     * 장바구니 상품 전체 삭제 (결제완료)
-     * @param userIdx: 유저 인덱스
-     */
-    @Override
-    public void deleteCartAll(Long userIdx) {
-
-        // 장바구니 Key 세팅
-        String cartKey = KEY + userIdx;
+        // 삭제 + 버전 증가 + TTL 설정
+        stringRedisTemplate.execute(
+                deleteScript,
+                List.of(KEY + userIdx),
+                optionCode,
+                String.valueOf(ttlSeconds())
+        );
 
-        redisTemplate.delete(cartKey);  // 삭제
+        // 아직 옮겨지지 않은 이전 형식 장바구니에서도 삭제
+        redisTemplate.opsForHash().delete(LEGACY_KEY + userIdx, optionCode);
     }
 
     /*
      * 장바구니 상품 리스트 조회
+     * 1. 장바구니에서 수량 읽기 (HGETALL 한 번)
+     * 2. 상품 스냅샷 캐시에서 상품명/옵션/가격 채우기 (없는 것만 Product bulk 요청)
      * @param userIdx: 유저 인덱스
      */
     @Override
     public List<CartItemRes> getCartList(Long userIdx) {
 
-        // 장바구니 Key 세팅
-        String cartKey = KEY + userIdx;
         // 장바구니 정보 가져오기 (전부)
-        List<Object> values = redisTemplate.opsForHash().values(cartKey);
+        CartSnapshot cartSnapshot = readCart(userIdx);
+        List<CartItem> cartItems = cartSnapshot.items();
 
         // 비어있으면 빈 list로 return
-        if (values.isEmpty()) {
+        if (cartItems.isEmpty()) {
             return List.of();
         }
 
+        // 상품 정보 채우기
+        Map<String, ClientProductRes> snapshots = productSnapshotService.getSnapshots(cartSnapshot.productRequests());
+
         // 장바구니 상품 리스트 정보 세팅
         List<CartItemRes> cartList = new ArrayList<>();
-        for (Object value : values) {
-            Cart cartItem = (Cart) value;
-
-            CartItemRes cartItemResponse = new CartItemRes(
-                    new ItemInfo(
-                            cartItem.getProductCode(),
-                            cartItem.getOptionCode(),
-                            cartItem.getProductName(),
-                            cartItem.getOptionContent(),
-                            cartItem.getPrice()
-                    ),
-                    cartItem.getQuantity(),
-                    cartItem.getPrice()
-                            .multiply(BigDecimal.valueOf(cartItem.getQuantity()))
-            );
-            cartList.add(cartItemResponse);
+        for (CartItem cartItem : cartItems) {
+            ClientProductRes snapshot = snapshots.get(cartItem.optionCode());
+            if (snapshot == null) {
+                // Product 에서 내려간 상품은 보여주지 않음
+                log.warn("장바구니 상품 정보 없음 : userIdx={}, optionCode={}", userIdx, cartItem.optionCode());
+                continue;
+            }
+            cartList.add(toCartItemRes(cartItem, snapshot));
         }
 
         // 장바구니 상품 리스트 return
         return cartList;
     }
 
-    // FeignClient를 위한 상품 요청 정보 DTO 세팅
+    /*
+     * 주문용 장바구니 스냅샷 (HGETALL 한 번)
+     * 상품 조회 / 재고 예약 / 주문 상품 생성에 같은 값을 사용
+     * @param userIdx: 유저 인덱스
+     */
     @Override
-    public List<ClientProductReq> getProductByCart(Long userIdx) {
+    public CartSnapshot getCartSnapshot(Long userIdx) {
 
-        // 장바구니 Key 세팅
-        String cartKey = KEY + userIdx;
-        // 장바구니 정보 가져오기 (전부)
-        List<Object> values = redisTemplate.opsForHash().values(cartKey);
+        CartSnapshot snapshot = readCart(userIdx);
 
         // 비어있으면 ProductNotFoundException
-        if (values.isEmpty()) {
+        if (snapshot.isEmpty()) {
             throw new ProductNotFoundException(ErrorCode.PRODUCT_NOT_FOUND);
         }
 
-        // 반복문 순회하면서 ClientProductReq의 getProductIdx, getOptionIdx 값 세팅
-        List<ClientProductReq> products = new ArrayList<>();
-        for (Object value : values) {
-            Cart cart = (Cart) value;
+        return snapshot;
+    }
 
-            // 실제 상품 데이터를(최신화 된) 가져옴
-            ClientProductReq product = new ClientProductReq(
-                    cart.getProductCode(),
-                    cart.getOptionCode()
-            );
+    /*
+     * 주문한 장바구니 비우기 (주문 완료)
+     * 스냅샷을 읽은 뒤 장바구니가 바뀌었으면 주문한 상품만 삭제
+     * @param snapshot: 주문에 사용한 장바구니 스냅샷
+     */
+    @Override
+    public void clearCart(CartSnapshot snapshot) {
 
-            products.add(product);
+        List<String> args = new ArrayList<>(snapshot.items().size() * 2 + 1);
+        args.add(String.valueOf(snapshot.version()));
+        for (CartItem cartItem : snapshot.items()) {
+            args.add(cartItem.optionCode());
+            args.add(String.valueOf(cartItem.quantity()));
         }
 
-        // ClientProductReq 리스트 return
-        return products;
+        Long cleared = stringRedisTemplate.execute(clearScript, List.of(KEY + snapshot.userIdx()), args.toArray());
+        if (Long.valueOf(0L).equals(cleared)) {
+            log.info("주문 중 장바구니 변경됨. 주문한 상품만 삭제 : userIdx={}", snapshot.userIdx());
+        }
     }
 
     /*
-     * 장바구니 상품에 맞는 개수 가져오기
+     * Helper Method
+     * 장바구니 상품 수량 증감 (스크립트 한 번)
+     * 장바구니에 없으면 이전 형식 장바구니를 옮긴 뒤 한 번 더 시도
      * @param userIdx: 유저 인덱스
+     * @param optionCode: 옵션 코드
+     * @param delta: 증감량 (+1 / -1)
      */
-    @Override
-    public Map<Long, Integer> getCartItemQuantities(Long userIdx) {
+    private CartItemRes changeQuantity(Long userIdx, String optionCode, int delta) {
 
-        // 장바구니 Key 세팅
-        String cartKey = KEY + userIdx;
-        // 장바구니 정보 가져오기 (전부)
-        List<Object> values = redisTemplate.opsForHash().values(cartKey);
+        List<Object> result = incrementQuantity(userIdx, optionCode, delta);
+        if (result == null && migrateLegacyCart(userIdx)) {
+            result = incrementQuantity(userIdx, optionCode, delta);
+        }
 
+        if (result == null) {
+            // 없을 경우 CartNotFoundException
+            throw new CartNotFoundException(ErrorCode.CART_NOT_FOUND);
+        }
 
-        // 비어있으면 ProductNotFoundException
-        if (values.isEmpty()) {
+        CartItem cartItem = new CartItem(
+                (String) result.get(1),
+                optionCode,
+                ((Long) result.get(0)).intValue()
+        );
+
+        // 상품 정보 채우기
+        ClientProductRes snapshot = productSnapshotService
+                .getSnapshots(List.of(new ClientProductReq(cartItem.productCode(), optionCode)))
+                .get(optionCode);
+        if (snapshot == null) {
             throw new ProductNotFoundException(ErrorCode.PRODUCT_NOT_FOUND);
         }
 
-        // stream 돌면서 optionIdx와 quantity를 Map으로 세팅하고 return
-        // Map(key:optionIdx, value:quantity)
-        return values.stream()
-                .map(value -> (Cart) value)
-                .collect(Collectors.toMap(
-                        Cart::getOptionIdx,
-                        Cart::getQuantity
-                ));
+        // 장바구니 상품 정보 return
+        return toCartItemRes(cartItem, snapshot);
     }
 
     /*
      * Helper Method
-     * 장바구니 특정 상품하나 가져오기
-     * @param cartKey: 장바구니 Key
-     * @param optionCode: 옵션 코드
+     * 수량 증감 스크립트 실행
+     * @return {수량, 상품 코드} / 장바구니에 없으면 null
+     */
+    @SuppressWarnings("unchecked")
+    private List<Object> incrementQuantity(Long userIdx, String optionCode, int delta) {
+
+        List<Object> result = stringRedisTemplate.execute(
+                incrScript,
+                List.of(KEY + userIdx),
+                optionCode,
+                String.valueOf(delta),
+                String.valueOf(MIN_QUANTITY),
+                String.valueOf(maxQuantity),
+                String.valueOf(ttlSeconds())
+        );
+
+        if (result == null || result.size() < 2) {
+            return null;
+        }
+        return result;
+    }
+
+    /*
+     * Helper Method
+     * 장바구니 전체 읽기 (HGETALL 한 번)
+     * 비어있으면 이전 형식 장바구니를 옮겨서 return
+     * @param userIdx: 유저 인덱스
      */
-    private Cart getCartItem(String cartKey, String optionCode) {
-        Object cartItem = redisTemplate.opsForHash().get(cartKey, optionCode);
-        return (Cart) cartItem;
+    private CartSnapshot readCart(Long userIdx) {
+
+        Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(KEY + userIdx);
+        if (entries.isEmpty()) {
+            return migrateLegacyCart(userIdx) ? readCart(userIdx) : new CartSnapshot(userIdx, 0L, List.of());
+        }
+
+        // q:{optionCode} 기준으로 p:{optionCode} 를 짝지어서 세팅
+        List<CartItem> cartItems = new ArrayList<>();
+        for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+            String field = (String) entry.getKey();
+            if (!field.startsWith(QUANTITY_FIELD)) {
+                continue;
+            }
+
+            String optionCode = field.substring(QUANTITY_FIELD.length());
+            cartItems.add(new CartItem(
+                    (String) entries.get(PRODUCT_FIELD + optionCode),
+                    optionCode,
+                    Integer.parseInt((String) entry.getValue())
+            ));
+        }
+
+        Object version = entries.get(VERSION_FIELD);
+        return new CartSnapshot(userIdx, version == null ? 0L : Long.parseLong((String) version), cartItems);
+    }
+
+    /*
+     * Helper Method
+     * 이전 형식(Cart 객체) 장바구니를 새 형식으로 옮기기
+     * - 새 장바구니에 이미 있는 상품은 덮어쓰지 않음 (HSETNX)
+     * - 옮긴 뒤 이전 Key 삭제
+     * @return 옮긴 상품이 있으면 true
+     */
+    private boolean migrateLegacyCart(Long userIdx) {
+
+        String legacyKey = LEGACY_KEY + userIdx;
+        List<Object> values = redisTemplate.opsForHash().values(legacyKey);
+        if (values.isEmpty()) {
+            return false;
+        }
+
+        String cartKey = KEY + userIdx;
+        for (Object value : values) {
+            Cart cart = (Cart) value;
+            stringRedisTemplate.opsForHash().putIfAbsent(cartKey, QUANTITY_FIELD + cart.getOptionCode(), String.valueOf(cart.getQuantity()));
+            stringRedisTemplate.opsForHash().putIfAbsent(cartKey, PRODUCT_FIELD + cart.getOptionCode(), cart.getProductCode());
+        }
+        stringRedisTemplate.opsForHash().increment(cartKey, VERSION_FIELD, 1);
+        stringRedisTemplate.expire(cartKey, ttlDays, TimeUnit.DAYS);
+        redisTemplate.delete(legacyKey);
+
+        log.info("이전 형식 장바구니 이전 완료 : userIdx={}, 상품 수={}", userIdx, values.size());
+        return true;
+    }
+
+    /*
+     * Helper Method
+     * 장바구니 한 줄 + 상품 정보 -> 응답 DTO
+     */
+    private CartItemRes toCartItemRes(CartItem cartItem, ClientProductRes product) {
+        return new CartItemRes(
+                new ItemInfo(
+                        cartItem.productCode(),
+                        cartItem.optionCode(),
+                        product.productName(),
+                        product.optionContent(),
+                        product.price()
+                ),
+                cartItem.quantity(),
+                product.price()
+                        .multiply(BigDecimal.valueOf(cartItem.quantity()))
+        );
+    }
+
+    private long ttlSeconds() {
+        return TimeUnit.DAYS.toSeconds(ttlDays);
     }
 }
@@ -45,8 +45,35 @@ public class DeductStockServiceImpl implements DeductStockService {
                     "    return -1 " +
                     "end";
 
+    /*
+     * 다중 상품 Lua Script 정의 (장바구니 주문)
+     * KEYS[i]: 재고 Key, ARGV[i]: 주문 개수
+     *
+     * 로직:
+     * 1. 같은 Key가 여러 번 들어와도 합산된 수량으로 검사
+     * 2. 모든 Key를 먼저 검사해서 재고가 없거나(nil) 부족하면 {-i} 반환 (아무것도 차감하지 않음)
+     * 3. 전부 통과하면 차감 수행 후 상품별 남은 재고 리스트 반환
+     * 검사와 차감이 하나의 스크립트 안에서 끝나므로, 다른 구매자가 음수 재고를 볼 일이 없음
+     */
+    private static final String DECREASE_STOCKS_SCRIPT =
+            "local need = {} " +
+                    "for i = 1, #KEYS do " +
+                    "    need[KEYS[i]] = (need[KEYS[i]] or 0) + tonumber(ARGV[i]) " +
+                    "end " +
+                    "for i = 1, #KEYS do " +
+                    "    local stock = tonumber(redis.call('get', KEYS[i])) " +
+                    "    if stock == nil or stock < need[KEYS[i]] then return {-i} end " +
+                    "end " +
+                    "local result = {} " +
+                    "for i = 1, #KEYS do " +
+                    "    result[i] = redis.call('decrby', KEYS[i], ARGV[i]) " +
+                    "end " +
+                    "return result";
+
     // 스크립트 실행 객체 (싱글톤으로 관리하여 성능 최적화)
     private DefaultRedisScript<Long> redisScript;
+    @SuppressWarnings("rawtypes")
+    private DefaultRedisScript<List> multiRedisScript;
 
     /*
      * 빈 생성 시 Lua Script 초기화
@@ -61,6 +88,11 @@ public class DeductStockServiceImpl implements DeductStockService {
         // Lua 스크립트 실행 후 반환되는 값의 타입 설정
         redisScript.setResultType(Long.class);
 
+        // 다중 상품 차감 스크립트 (결과: 남은 재고 리스트)
+        multiRedisScript = new DefaultRedisScript<>();
+        multiRedisScript.setScriptText(DECREASE_STOCKS_SCRIPT);
+        multiRedisScript.setResultType(List.class);
+
         log.info("Redis Script Initialized");
     }
 
@@ -99,71 +131,52 @@ public class DeductStockServiceImpl implements DeductStockService {
 
     /*
      * 다중 상품 재고 차감 (장바구니)
+     * 모든 옵션 Key를 Lua Script 한 번으로 검사/차감 (Redis 왕복 1회)
+     * 하나라도 재고가 부족하면 아무것도 차감하지 않음 (All or Nothing)
      * @param request: 주문한 상품들 정보
      */
     @Override
+    @SuppressWarnings("unchecked")
     public List<RemainStockInfo> decreaseStocks(List<ProductInfo> request) {
 
         // 상품 별 남은 재고량 저장 (return 용)
         List<RemainStockInfo> remainStock = new ArrayList<>();
 
-        // 재고 감소에 성공한 상품
-        List<ProductInfo> success = new ArrayList<>();
-        // redis에 저장된 상품 재고
-        ValueOperations<String, String> ops = redisTemplate.opsForValue();
-
-        try {
-            // 반복문 돌면서 재고 차감 진행
-            for (ProductInfo item : request) {
-
-                // 재고 Key 세팅
-                String key = STOCK_KEY + item.optionCode();
-
-                // 상품 재고 주문 개수만큼 감소
-                Long stock = ops.decrement(key, item.quantity());
-
-                // 알 수 없는 오류 (null이 될일이 없음)
-                if (stock == null) {
-                    throw new RuntimeException("재고 감소 중 알수없는 오류");
-                }
+        if (request.isEmpty()) {
+            return remainStock;
+        }
 
-                // 재고 부족 시
-                if (stock < 0) {
+        // KEYS: 재고 Key 리스트, ARGV: 주문 개수 리스트 (같은 순서)
+        List<String> keys = new ArrayList<>(request.size());
+        Object[] quantities = new Object[request.size()];
+        for (int i = 0; i < request.size(); i++) {
+            ProductInfo item = request.get(i);
+            keys.add(STOCK_KEY + item.optionCode());
+            quantities[i] = String.valueOf(item.quantity());
+        }
 
-                    // 재고 감소에 성공한 상품 다시 롤백(직접 increment) 후 OutOfStockException
-                    log.info("재고 부족 발생. 즉시 복구 후 롤백 진입. Item: {}", item.optionCode());
-                    ops.increment(key, item.quantity());
+        List<Long> result = redisTemplate.execute(multiRedisScript, keys, quantities);
 
-                    throw new OutOfStockException(ErrorCode.OUT_OF_STOCK);
-                }
+        // 알 수 없는 오류 (null이 될일이 없음)
+        if (result == null || result.isEmpty()) {
+            throw new RuntimeException("재고 감소 중 알수없는 오류");
+        }
 
-                // 성공한 상품 재고 세팅
-                success.add(item);
-                remainStock.add(
-                        new RemainStockInfo (
-                                item.optionCode(),
-                                stock
-                        )
-                );
-            }
-        } catch (RuntimeException e) {
-
-            // 재고 차감 중 오류 발생 시
-            log.error("재고 차감 중 오류 발생! 전체 롤백 수행. Error: {}", e.getMessage());
-
-            try {
-                // 재고 차감이 진행된 (성공한) 상품 다시 rollback
-                for (ProductInfo item : success) {
-                    String key = STOCK_KEY + item.optionCode();
-                    // 직접 increment
-                    ops.increment(key, item.quantity());
-                }
-            } catch (RuntimeException rollback) {
-                // 만약 위의 try 작업중 한번더 터지면 정말 문제. 리자가 직접 처리해야함
-                log.error("CRITICAL: 롤백 중 2차 오류. 관리자 개입 필요: {}", rollback.getMessage());
-            }
+        // 음수면 재고 부족 (-N: N번째 상품에서 실패), 스크립트 내부에서 차감 자체가 일어나지 않았으므로 롤백 불필요
+        if (result.get(0) < 0) {
+            int failIndex = (int) (-result.get(0)) - 1;
+            log.info("재고 부족 발생. 전체 차감 취소. Item: {}", request.get(failIndex).optionCode());
+            throw new OutOfStockException(ErrorCode.OUT_OF_STOCK);
+        }
 
-            throw e;
+        // 성공한 상품 재고 세팅
+        for (int i = 0; i < request.size(); i++) {
+            remainStock.add(
+                    new RemainStockInfo(
+                            request.get(i).optionCode(),
+                            result.get(i)
+                    )
+            );
         }
 
         return remainStock;
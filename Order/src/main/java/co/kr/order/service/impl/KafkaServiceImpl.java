@@ -5,8 +5,11 @@ import co.kr.order.service.KafkaService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -15,11 +18,12 @@ public class KafkaServiceImpl implements KafkaService {
     private final KafkaTemplate<String, Object> kafkaTemplate;
     private static final String TOPIC = "product-stock-update";  // topic
 
-    public void sendStockUpdate(StockUpdateMsg message) {
+    public CompletableFuture<SendResult<String, Object>> sendStockUpdate(StockUpdateMsg message) {
         log.info("Kafka 메시지 발행 시작: {}", message);
 
         // send(토픽, 키, 메시지)
-        // 키를 productCode로 주면, 같은 상품은 같은 파티션으로 가서 순서가 보장
-        kafkaTemplate.send(TOPIC, message.productCode(), message);
+        // 키를 orderCode로 주면, 같은 주문의 재발행 메시지는 같은 파티션으로 가서 중복 체크가 한 Consumer에서 처리됨
+        // 발행 결과(ack)는 Outbox Relay에서 확인
+        return kafkaTemplate.send(TOPIC, message.orderCode(), message);
     }
 }
@@ -1,44 +1,56 @@
 package co.kr.order.service.impl;
 
-import co.kr.order.client.ProductClient;
+import co.kr.order.exception.CustomException;
 import co.kr.order.exception.ErrorCode;
+import co.kr.order.exception.OrderArchivedException;
 import co.kr.order.exception.OrderNotFoundException;
+import co.kr.order.exception.OutOfStockException;
+import co.kr.order.exception.ProductNotFoundException;
 import co.kr.order.model.dto.ItemInfo;
+import co.kr.order.model.dto.OrderItemRow;
+import co.kr.order.model.dto.OrderSummary;
 import co.kr.order.model.dto.ProductInfo;
+import co.kr.order.model.dto.SellerAmount;
 import co.kr.order.model.dto.UserInfo;
-import co.kr.order.model.dto.event.StockUpdateEvent;
+import co.kr.order.model.dto.event.StockUpdateItem;
 import co.kr.order.model.dto.event.StockUpdateMsg;
 import co.kr.order.model.dto.request.ClientProductReq;
 import co.kr.order.model.dto.request.OrderReq;
 import co.kr.order.model.dto.response.ClientProductRes;
 import co.kr.order.model.dto.response.OrderItemRes;
+import co.kr.order.model.dto.response.OrderPageRes;
 import co.kr.order.model.dto.response.OrderRes;
+import co.kr.order.model.entity.OrderCodeEntity;
 import co.kr.order.model.entity.OrderEntity;
 import co.kr.order.model.entity.OrderItemEntity;
+import co.kr.order.model.redis.CartSnapshot;
 import co.kr.order.model.vo.OrderStatus;
 import co.kr.order.model.vo.OrderType;
+import co.kr.order.repository.OrderCodeJpaRepository;
 import co.kr.order.repository.OrderItemJpaRepository;
 import co.kr.order.repository.OrderJpaRepository;
 import co.kr.order.service.CartService;
 import co.kr.order.service.DeductStockService;
+import co.kr.order.service.OrderCodeGenerator;
 import co.kr.order.service.OrderService;
+import co.kr.order.service.OutboxService;
+import co.kr.order.service.ProductSnapshotService;
+import co.kr.order.service.QueueRoomService;
 import co.kr.order.service.SettlementService;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import co.kr.order.service.StockReservationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.*;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -48,52 +60,62 @@ public class OrderServiceImpl implements OrderService {
 
     private final OrderJpaRepository orderRepository;
     private final OrderItemJpaRepository orderItemRepository;
+    private final OrderCodeJpaRepository orderCodeRepository;
     private final SettlementService settlementService;
 
     private final CartService cartService;
     private final DeductStockService deductStockService;
-    private final ApplicationEventPublisher eventPublisher;
+    private final StockReservationService stockReservationService;
+    private final OutboxService outboxService;
 
-    private final ProductClient productClient;
+    private final ProductSnapshotService productSnapshotService;
+    private final OrderCodeGenerator orderCodeGenerator;
+    private final QueueRoomService queueRoomService;
 
-    // 정산금 처리를 위한 Redis
-    private final RedisTemplate<String, Object> redisTemplate;
-    private final ObjectMapper objectMapper;
+    // 주문 목록 한 페이지 최대 크기
+    @Value("${custom.order.history.max-size:50}")
+    private int maxHistoryPageSize;
+
+    // 파티션 조회 범위 (주문 코드 발급 시각 ± / 주문 Created_at 이후 주문 상품 저장 / 재고 예약 만료 대상 주문)
+    private static final Duration ORDER_CODE_WINDOW = Duration.ofDays(1);
+    private static final Duration ORDER_ITEM_WINDOW = Duration.ofDays(1);
+    private static final Duration EXPIRED_ORDER_WINDOW = Duration.ofDays(1);
 
     /*
      * 주문 생성
      * @param userIdx: 유저 인덱스
      * @param request: 주문 요청 정보
+     * @param admittedRoom: 입장권을 발급한 대기실 ID (입장권 검증을 끈 경우 null)
      */
     @Transactional
     @Override
-    public OrderRes createOrder(Long userIdx, OrderReq request) {
+    public OrderRes createOrder(Long userIdx, OrderReq request, String admittedRoom) {
 
-        String orderCode = UUID.randomUUID().toString();
+        String orderCode = orderCodeGenerator.nextCode();
         List<OrderItemEntity> tempOrderItems = new ArrayList<>();
         List<ProductInfo> stocksInfos = new ArrayList<>();
-        Map<Long, BigDecimal> sellerSettlementMap = new HashMap<>();
+        CartSnapshot cartSnapshot = null;
 
         switch (request.orderType()) {
             case OrderType.DIRECT:
-                // 상품 정보 조회
+                // 상품 정보 조회 (상품 스냅샷 캐시, 없으면 FeignClient)
                 ClientProductRes product;
                 try {
-                    product = productClient.getProduct(
+                    product = productSnapshotService.getFreshSnapshots(List.of(new ClientProductReq(
                             request.productInfo().productCode(),
                             request.productInfo().optionCode()
-                    );
+                    ))).get(request.productInfo().optionCode());
                 } catch (Exception e) {
                     log.error("상품조회 실패", e);
                     throw e;
                 }
+                if (product == null || !product.productCode().equals(request.productInfo().productCode())) {
+                    throw new ProductNotFoundException(ErrorCode.PRODUCT_NOT_FOUND);
+                }
 
-                // 엔티티 생성
+                // 엔티티 생성 (판매자/정산 금액 포함)
                 tempOrderItems.add(createOrderItemEntity(product, request.productInfo().quantity()));
 
-                BigDecimal directAmount = product.price().multiply(BigDecimal.valueOf(request.productInfo().quantity()));
-                sellerSettlementMap.merge(product.sellerIdx(), directAmount, BigDecimal::add);
-
                 // 재고 차감 정보
                 stocksInfos.add(new ProductInfo(
                         request.productInfo().productCode(),
@@ -103,26 +125,23 @@ public class OrderServiceImpl implements OrderService {
                 break;
 
             case OrderType.CART:
-                Map<Long, Integer> quantityMap = cartService.getCartItemQuantities(userIdx);
-                List<ClientProductReq> productRequest = cartService.getProductByCart(userIdx);
+                // 장바구니는 한 번만 읽고 상품 조회 / 재고 예약 / 주문 상품 생성에 같은 값 사용
+                cartSnapshot = cartService.getCartSnapshot(userIdx);
+                Map<String, Integer> quantityMap = cartSnapshot.quantities();
 
-
-                List<ClientProductRes> productsResponse;
+                Collection<ClientProductRes> productsResponse;
                 try {
-                    productsResponse = productClient.getProductList(productRequest);
+                    productsResponse = productSnapshotService.getFreshSnapshots(cartSnapshot.productRequests()).values();
                 } catch (Exception e) {
                     log.error("상품조회 실패", e);
                     throw e;
                 }
 
                 for (ClientProductRes productRes : productsResponse) {
-                    Integer quantity = quantityMap.getOrDefault(productRes.optionIdx(), 0);
+                    Integer quantity = quantityMap.getOrDefault(productRes.optionCode(), 0);
                     if (quantity > 0) {
                         tempOrderItems.add(createOrderItemEntity(productRes, quantity));
 
-                        BigDecimal itemAmount = productRes.price().multiply(BigDecimal.valueOf(quantity));
-                        sellerSettlementMap.merge(productRes.sellerIdx(), itemAmount, BigDecimal::add);
-
                         stocksInfos.add(new ProductInfo(
                                 productRes.productCode(),
                                 productRes.optionCode(),
@@ -136,8 +155,13 @@ public class OrderServiceImpl implements OrderService {
                 throw new RuntimeException("올바르지 않는 주문타입");
         }
 
-        // Redis 재고 선차감
-        deductStockService.decreaseStocks(stocksInfos);
+        // 입장권 대기실 확인 (장바구니는 위에서 읽은 상품 그대로 확인)
+        if (admittedRoom != null) {
+            queueRoomService.checkAdmission(admittedRoom, stocksInfos.stream().map(ProductInfo::productCode).toList());
+        }
+
+        // Redis 재고 선차감 (예약 장부에 기록, 결제 콜백이 없으면 만료 후 자동 복구)
+        stockReservationService.reserve(orderCode, stocksInfos);
 
         // 총 주문 금액 계산
         BigDecimal totalAmount = tempOrderItems.stream()
@@ -154,30 +178,22 @@ public class OrderServiceImpl implements OrderService {
 
         try {
             orderRepository.save(orderEntity);
+            // 주문 코드 유일성은 Orders_Code PK 로 보장 (중복이면 예외 -> 주문 저장 롤백 + 재고 복구)
+            orderCodeRepository.insert(orderCode, orderEntity.getId(), userIdx, orderEntity.getCreatedAt());
             for (OrderItemEntity item : tempOrderItems) {
                 item.setOrder(orderEntity);
             }
-            orderItemRepository.saveAll(tempOrderItems);
-
-            /* ======================
-             * 정산 잘 적용되는지 로그
-             =======================*/
-            log.info("========== [정산 로그] 주문 생성 (Redis 저장 전) ==========");
-            log.info("OrderCode: {}", orderCode);
-            sellerSettlementMap.forEach((sellerIdx, amount) ->
-                    log.info(" - 판매자(SellerIdx): {}, 정산금: {}", sellerIdx, amount)
-            );
-            log.info("==========================================================");
-
-            saveSettlementInfoToRedis(orderCode, sellerSettlementMap);
+            // 주문 상품은 다중 VALUES INSERT 한 번으로 저장 (IDENTITY 라 saveAll 은 상품 수만큼 INSERT)
+            orderItemRepository.insertAll(tempOrderItems);
         } catch (Exception e) {
             log.error("주문 저장 실패. 재고 롤백. orderCode={}", orderCode);
-            deductStockService.rollBackStocks(stocksInfos);
+            stockReservationService.release(orderCode);
             throw e;
         }
 
-        if(request.orderType().equals(OrderType.CART)) {
-            cartService.deleteCartAll(orderEntity.getUserIdx());
+        // 주문한 장바구니 비우기 (주문 중에 새로 담은 상품은 남김)
+        if(cartSnapshot != null) {
+            cartService.clearCart(cartSnapshot);
         }
 
         // 응답 생성
@@ -206,6 +222,7 @@ public class OrderServiceImpl implements OrderService {
                 .optionName(product.optionContent())
                 .price(product.price())
                 .quantity(quantity)
+                .sellerIdx(product.sellerIdx())
                 .build();
     }
 
@@ -217,7 +234,7 @@ public class OrderServiceImpl implements OrderService {
     public void orderSuccess(String orderCode, Long paymentIdx, UserInfo userInfo) {
 
         // 주문 엔티티 조회
-        OrderEntity orderEntity = orderRepository.findByOrderCode(orderCode)
+        OrderEntity orderEntity = findOrderByCode(orderCode)
                 .orElseThrow(() -> new OrderNotFoundException(ErrorCode.ORDER_NOT_FOUND));
 
         if (orderEntity.getStatus() == OrderStatus.PAID) {
@@ -230,20 +247,39 @@ public class OrderServiceImpl implements OrderService {
         orderRepository.saveAndFlush(orderEntity);
 
         // 주문 상품 리스트 조회 (재고 이벤트를 위해 필요)
-        List<OrderItemEntity> itemEntities = orderItemRepository.findAllByOrder(orderEntity);
-
-        processSettlement(orderCode, paymentIdx, itemEntities);
-
-        // Kafka 이벤트 발행 (Product Service DB 재고 차감용)
-        for (OrderItemEntity item : itemEntities) {
-            StockUpdateMsg msg = new StockUpdateMsg(
-                    UUID.randomUUID().toString(),
-                    item.getProductCode(),
-                    item.getOptionCode(),
-                    (long) item.getQuantity()
-            );
-            eventPublisher.publishEvent(new StockUpdateEvent(msg));
+        List<OrderItemEntity> itemEntities = findOrderItems(orderEntity);
+
+        // 판매자별 정산 레코드 생성 (주문 상품에 저장된 판매자/금액 기준)
+        processSettlement(orderEntity, paymentIdx, itemEntities);
+
+        // 재고 예약 확정 (장부에서 제거)
+        // 결제가 늦게 도착해서 예약이 이미 만료/복구된 경우에는 재고를 다시 차감
+        // 그 사이 재고가 팔려서 차감하지 못해도 결제는 이미 끝났으므로 롤백하지 않고 초과 판매로 표시 (보상 처리 대상)
+        if (!stockReservationService.confirm(orderCode)) {
+            log.warn("만료된 재고 예약에 대한 결제 성공. 재고 재차감 시도. orderCode={}", orderCode);
+            try {
+                deductStockService.decreaseStocks(toProductInfos(itemEntities));
+            } catch (OutOfStockException e) {
+                log.error("결제 완료 주문의 재고 재차감 실패. 초과 판매로 표시, 보상 처리 필요. orderCode={}", orderCode);
+                orderEntity.markOversold();
+            }
         }
+
+        // Kafka 이벤트 Outbox 저장 (Product Service DB 재고 차감용)
+        // 주문 확정과 같은 트랜잭션에서 기록되고, 발행은 Outbox Relay가 담당
+        // 주문 상품이 몇 개든 주문 하나당 메시지 하나로 묶어서 발행
+        List<StockUpdateItem> stockItems = itemEntities.stream()
+                .map(item -> new StockUpdateItem(
+                        item.getProductCode(),
+                        item.getOptionCode(),
+                        (long) item.getQuantity()
+                ))
+                .collect(Collectors.toList());
+        outboxService.saveStockUpdate(new StockUpdateMsg(
+                orderCodeGenerator.nextCode(),
+                orderCode,
+                stockItems
+        ));
     }
 
     /*
@@ -253,166 +289,283 @@ public class OrderServiceImpl implements OrderService {
     @Override
     public void orderFail(String orderCode) {
 
-        OrderEntity orderEntity = orderRepository.findByOrderCode(orderCode)
+        OrderEntity orderEntity = findOrderByCode(orderCode)
                 .orElseThrow(() -> new OrderNotFoundException(ErrorCode.ORDER_NOT_FOUND));
 
         orderEntity.setStatus(OrderStatus.PAYMENT_FAILED);
 
-        List<OrderItemEntity> itemEntities = orderItemRepository.findAllByOrder(orderEntity);
-
-        List<ProductInfo> stocksInfos = itemEntities.stream()
-                .map(item -> new ProductInfo(
-                        item.getProductCode(),
-                        item.getOptionCode(),
-                        item.getQuantity()
-                ))
-                .collect(Collectors.toList());
-
+        // 예약 장부 기준으로 재고 복구 (스케쥴러가 먼저 회수했으면 중복 복구하지 않음)
         try {
-            deductStockService.rollBackStocks(stocksInfos);
-            log.info("결제 실패로 인한 재고 롤백 완료. orderCode={}", orderCode);
+            if (stockReservationService.release(orderCode)) {
+                log.info("결제 실패로 인한 재고 롤백 완료. orderCode={}", orderCode);
+            } else {
+                log.info("이미 회수된 재고 예약. orderCode={}", orderCode);
+            }
         } catch (Exception e) {
             log.error("재고 롤백 중 에러 발생! 수동 확인 필요. orderCode={}", orderCode, e);
         }
     }
 
+    /*
+     * 재고 예약 만료 주문 취소 (스케쥴러)
+     * 결제 콜백 없이 예약이 만료된 주문을 CANCELLED로 변경
+     * 재고 복구보다 먼저 호출 (여기서 실패하면 장부가 남아서 다음 주기에 다시 시도)
+     * @param orderCodes: 예약이 만료된 주문 코드 리스트
+     */
+    @Transactional
+    @Override
+    public int cancelExpiredOrders(List<String> orderCodes) {
+        if (orderCodes.isEmpty()) {
+            return 0;
+        }
+        return orderRepository.cancelCreatedOrders(orderCodes, LocalDateTime.now().minus(EXPIRED_ORDER_WINDOW));
+    }
 
-    // ==========================================
-    // Helper Methods Settlement (Redis)
-    // ==========================================
+    /*
+     * Helper Method
+     * 주문 코드로 주문 조회
+     * 1. Orders_Code 색인에 있으면 (Orders_IDX, Created_at) 로 해당 월 파티션의 PK 조회
+     *    (색인에는 있는데 Orders 에 없으면 아카이브된 주문 -> OrderArchivedException)
+     * 2. 색인에 없으면 (색인 도입 전 주문) Snowflake 코드는 발급 시각 ± 하루로 Created_at 범위를 잡아서 조회,
+     *    시각이 없는 이전 UUID 코드는 범위 없이 조회
+     */
+    private Optional<OrderEntity> findOrderByCode(String orderCode) {
+        Optional<OrderCodeEntity> indexed = orderCodeRepository.findById(orderCode);
+        if (indexed.isPresent()) {
+            return Optional.of(findIndexedOrder(indexed.get()));
+        }
 
-    private void saveSettlementInfoToRedis(String orderCode, Map<Long, BigDecimal> map) {
-        try {
-            String key = "settlement:" + orderCode;
+        Optional<LocalDateTime> issuedAt = orderCodeGenerator.issuedAt(orderCode)
+                .map(instant -> LocalDateTime.ofInstant(instant, ZoneId.systemDefault()));
+        if (issuedAt.isEmpty()) {
+            return orderRepository.findByOrderCode(orderCode);
+        }
+        return orderRepository.findByOrderCodeAndCreatedAtBetween(
+                orderCode, issuedAt.get().minus(ORDER_CODE_WINDOW), issuedAt.get().plus(ORDER_CODE_WINDOW));
+    }
 
-            String jsonValue = objectMapper.writeValueAsString(map);
-            redisTemplate.opsForValue().set(key, jsonValue, 30, TimeUnit.MINUTES);
-            log.info("Redis 정산 정보 저장 완료: {}", orderCode);
+    // Helper Method 유저의 주문 코드로 주문 조회 (조회 순서는 위와 같음, 다른 유저의 주문이면 아카이브 여부와 관계없이 없음)
+    private Optional<OrderEntity> findOrderByCode(Long userIdx, String orderCode) {
+        Optional<OrderCodeEntity> indexed = orderCodeRepository.findById(orderCode);
+        if (indexed.isPresent()) {
+            return indexed.get().getUserIdx().equals(userIdx)
+                    ? Optional.of(findIndexedOrder(indexed.get()))
+                    : Optional.empty();
+        }
 
-        } catch (JsonProcessingException e) {
-            log.error("정산 정보 Redis 직렬화 실패: {}", orderCode, e);
+        Optional<LocalDateTime> issuedAt = orderCodeGenerator.issuedAt(orderCode)
+                .map(instant -> LocalDateTime.ofInstant(instant, ZoneId.systemDefault()));
+        if (issuedAt.isEmpty()) {
+            return orderRepository.findByUserIdxAndOrderCode(userIdx, orderCode);
         }
+        return orderRepository.findByUserIdxAndOrderCodeAndCreatedAtBetween(
+                userIdx, orderCode, issuedAt.get().minus(ORDER_CODE_WINDOW), issuedAt.get().plus(ORDER_CODE_WINDOW));
     }
 
-    private void processSettlement(String orderCode, Long paymentIdx, List<OrderItemEntity> items) {
-        Map<Long, BigDecimal> settlementMap = null;
-        String key = "settlement:" + orderCode;
+    // Helper Method 색인으로 찾은 주문 조회 (Hot 테이블에 없으면 아카이브로 옮겨진 주문)
+    private OrderEntity findIndexedOrder(OrderCodeEntity indexed) {
+        return orderRepository.findByIdAndCreatedAt(indexed.getOrderIdx(), indexed.getCreatedAt())
+                .orElseThrow(() -> new OrderArchivedException(ErrorCode.ORDER_ARCHIVED));
+    }
 
-        // Redis에서 조회 시도
-        try {
-            Object redisValue = redisTemplate.opsForValue().get(key);
-            if (redisValue != null) {
-                log.info("************레디스 정산금 조회 전************");
-                String jsonStr = String.valueOf(redisValue);
-                settlementMap = objectMapper.readValue(jsonStr, new TypeReference<Map<Long, BigDecimal>>() {});
-                log.info("************레디스 정산금 조회 완료: {}************", settlementMap);
-            }
-        } catch (Exception e) {
-            log.info("Redis 정산 정보 조회/파싱 실패: {}", orderCode, e);
-            throw new RuntimeException("정산 정보 조회 실패");
+    // Helper Method 주문 상품 조회 (주문 Created_at 이후 하루 범위 -> 해당 월 파티션만 조회)
+    private List<OrderItemEntity> findOrderItems(OrderEntity orderEntity) {
+        LocalDateTime orderedAt = orderEntity.getCreatedAt();
+        if (orderedAt == null) {
+            return orderItemRepository.findAllByOrder(orderEntity);
         }
+        return orderItemRepository.findAllByOrderAndCreatedAtBetween(orderEntity, orderedAt, orderedAt.plus(ORDER_ITEM_WINDOW));
+    }
+
+    // Helper Method 주문 상품 엔티티 -> 재고 차감 정보
+    private List<ProductInfo> toProductInfos(List<OrderItemEntity> items) {
+        return items.stream()
+                .map(item -> new ProductInfo(
+                        item.getProductCode(),
+                        item.getOptionCode(),
+                        item.getQuantity()
+                ))
+                .collect(Collectors.toList());
+    }
+
 
-        // Redis에 없으면 DB/Feign으로 재계산 (Fallback)
-        if (settlementMap == null || settlementMap.isEmpty()) {
-            log.info("정산 정보 재계산 수행: {}", orderCode);
-            settlementMap = recalculateSettlementMap(items);
+    // ==========================================
+    // Helper Methods Settlement
+    // ==========================================
+
+    /*
+     * 판매자별 정산금 생성
+     * 주문 상품에 저장된 판매자/금액을 GROUP BY 한 번으로 합산
+     * @param orderEntity: 주문 엔티티
+     * @param paymentIdx: 결제 인덱스
+     * @param items: 주문 상품 리스트 (판매자 저장 전 주문 보정용)
+     */
+    private void processSettlement(OrderEntity orderEntity, Long paymentIdx, List<OrderItemEntity> items) {
+        Map<Long, BigDecimal> settlementMap = new HashMap<>();
+
+        for (SellerAmount row : sumAmountBySeller(orderEntity, items)) {
+            if (row.sellerIdx() == null) {
+                // 판매자 컬럼 추가 전에 생성된 주문
+                resolveLegacySellers(items).forEach((sellerIdx, amount) ->
+                        settlementMap.merge(sellerIdx, amount, BigDecimal::add));
+                continue;
+            }
+            settlementMap.merge(row.sellerIdx(), row.amount(), BigDecimal::add);
         }
 
-        // 정산 서비스 호출
         if (!settlementMap.isEmpty()) {
-            log.info("************정산금 생성 메서드 진입************");
             settlementService.createSettlement(paymentIdx, settlementMap);
-            // 처리 후 Redis 키 삭제
-            redisTemplate.delete(key);
-            log.info("************정산금 redis 삭제 완료************");
         }
     }
 
-    // Fallback: 상품 서비스를 통해 sellerIdx를 다시 조회하여 정산금 계산
-    private Map<Long, BigDecimal> recalculateSettlementMap(List<OrderItemEntity> items) {
-        Map<Long, BigDecimal> map = new HashMap<>();
+    /*
+     * Helper Method
+     * 주문의 판매자별 합계 (findOrderItems 와 같은 Created_at 범위로 GROUP BY)
+     * 주문 시각이 없으면 범위를 잡을 수 없으므로 이미 조회한 주문 상품으로 합산
+     */
+    private List<SellerAmount> sumAmountBySeller(OrderEntity orderEntity, List<OrderItemEntity> items) {
+        LocalDateTime orderedAt = orderEntity.getCreatedAt();
+        if (orderedAt != null) {
+            return orderItemRepository.sumAmountBySeller(orderEntity, orderedAt, orderedAt.plus(ORDER_ITEM_WINDOW));
+        }
 
-        // 주문 상품들의 코드로 최신 상품 정보(SellerIdx 포함) 조회
-        List<ClientProductReq> reqList = items.stream()
+        // HashMap 은 null Key(판매자 저장 전 주문)를 허용
+        Map<Long, BigDecimal> sums = new HashMap<>();
+        for (OrderItemEntity item : items) {
+            if (Boolean.TRUE.equals(item.getDel())) {
+                continue;
+            }
+            sums.merge(item.getSellerIdx(), item.getAmount(), BigDecimal::add);
+        }
+        return sums.entrySet().stream()
+                .map(entry -> new SellerAmount(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    /*
+     * 판매자가 저장되지 않은 주문 상품의 판매자 조회 (이전 주문 호환용)
+     * 주문 시점 가격(Amount)은 그대로 쓰고 판매자만 상품 정보에서 가져옴
+     */
+    private Map<Long, BigDecimal> resolveLegacySellers(List<OrderItemEntity> items) {
+        List<OrderItemEntity> legacyItems = items.stream()
+                .filter(item -> item.getSellerIdx() == null)
+                .toList();
+
+        Map<String, ClientProductRes> products = productSnapshotService.getFreshSnapshots(legacyItems.stream()
                 .map(item -> new ClientProductReq(item.getProductCode(), item.getOptionCode()))
-                .collect(Collectors.toList());
+                .toList());
 
-        // Product Service 호출 (Bulk)
-        List<ClientProductRes> productInfos = productClient.getProductList(reqList);
-
-        // 정산금 합산
-        for (ClientProductRes p : productInfos) {
-            // 해당 옵션 코드의 주문 수량 찾기
-            int quantity = items.stream()
-                    .filter(i -> i.getOptionCode().equals(p.optionCode()))
-                    .mapToInt(OrderItemEntity::getQuantity)
-                    .sum();
-
-            if (quantity > 0) {
-                // 가격 * 수량
-                BigDecimal amount = p.price().multiply(BigDecimal.valueOf(quantity));
-                map.merge(p.sellerIdx(), amount, BigDecimal::add);
+        Map<Long, BigDecimal> map = new HashMap<>();
+        for (OrderItemEntity item : legacyItems) {
+            ClientProductRes product = products.get(item.getOptionCode());
+            if (product == null) {
+                log.warn("정산 판매자 조회 실패: optionCode={}", item.getOptionCode());
+                continue;
             }
+            map.merge(product.sellerIdx(), item.getPrice().multiply(BigDecimal.valueOf(item.getQuantity())), BigDecimal::add);
         }
         return map;
     }
 
     /*
-     * 주문 정보 조회
+     * 주문 목록 조회 (커서 페이징, 최신순)
+     * 1. (Created_at, Orders_IDX) 커서 기준으로 size + 1 개 주문 조회 (깊은 페이지도 같은 비용)
+     * 2. 해당 페이지 주문들의 상품을 IN 한 번으로 조회해서 주문별로 묶음
+     * 3. 전체 건수는 요청한 경우만 COUNT
+     * - Hot 테이블만 조회하므로 아카이브를 켠 경우 hot-months 이전 주문은 목록/전체 건수에 포함되지 않음
      * @param userIdx: 유저 인덱스
-     * @param pageable: 페이징 정보
+     * @param cursor: 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size: 페이지 크기
+     * @param withTotal: 전체 주문 수 포함 여부
      */
     @Transactional(readOnly = true)
     @Override
-    public Page<OrderRes> findOrderList(Long userIdx, Pageable pageable) {
+    public OrderPageRes findOrderList(Long userIdx, String cursor, Integer size, boolean withTotal) {
+
+        int pageSize = (size == null || size <= 0) ? 10 : Math.min(size, maxHistoryPageSize);
+
+        // 1. 주문 조회 (한 건 더 조회해서 다음 페이지 여부 판단)
+        LocalDateTime cursorAt = null;
+        Long cursorIdx = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] decoded = decodeOrderCursor(cursor);
+            cursorAt = LocalDateTime.parse(decoded[0]);
+            cursorIdx = Long.parseLong(decoded[1]);
+        }
+        List<OrderSummary> orders = orderRepository.findPageByUserIdx(userIdx, cursorAt, cursorIdx, Limit.of(pageSize + 1));
 
-        List<OrderRes> resultList = new ArrayList<>();  // 주문 정보 리스트 (응답 객체)
+        boolean hasNext = orders.size() > pageSize;
+        if (hasNext) {
+            orders = orders.subList(0, pageSize);
+        }
 
-        // userIdx의 OrderEntity 가져오기
-        Page<OrderEntity> orderPage = orderRepository.findAllByUserIdx(userIdx, pageable);
-        // 현재 페이지에 포함된 OrderEntity 리스트를 반환
-        List<OrderEntity> entities = orderPage.getContent();
+        // 2. 상품 한 번에 조회 후 주문별로 묶기
+        Map<Long, List<OrderItemRow>> itemsByOrder = orders.isEmpty()
+                ? Map.of()
+                : orderItemRepository.findRowsByOrderIdxIn(
+                                orders.stream().map(OrderSummary::orderIdx).toList(),
+                                orders.getLast().createdAt(),
+                                orders.getFirst().createdAt().plus(ORDER_ITEM_WINDOW))
+                        .stream()
+                        .collect(Collectors.groupingBy(OrderItemRow::orderIdx));
 
-        // 가져온 주문 엔티티 순회
-        for (OrderEntity orderEntity : entities) {
+        List<OrderRes> resultList = new ArrayList<>();
+        for (OrderSummary order : orders) {
 
             List<OrderItemRes> responseItemList = new ArrayList<>();  // 주문 상품 정보 (응답 객체)
             BigDecimal itemsAmount = BigDecimal.ZERO;  // 주문 가격
 
-            // 주문된 상품 엔티티 순회
-            for (OrderItemEntity itemEntity : orderEntity.getOrderItems()) {
+            for (OrderItemRow item : itemsByOrder.getOrDefault(order.orderIdx(), List.of())) {
                 // 주문한 개별 상품 가격
-                BigDecimal amount = itemEntity.getPrice().multiply(BigDecimal.valueOf(itemEntity.getQuantity()));
+                BigDecimal amount = item.price().multiply(BigDecimal.valueOf(item.quantity()));
                 itemsAmount = itemsAmount.add(amount);
 
-                // 주문한 상품 리스트 세팅
                 responseItemList.add(
                         new OrderItemRes(
                                 new ItemInfo(
-                                        itemEntity.getProductCode(),
-                                        itemEntity.getOptionCode(),
-                                        itemEntity.getProductName(),
-                                        itemEntity.getOptionName(),
-                                        itemEntity.getPrice()
+                                        item.productCode(),
+                                        item.optionCode(),
+                                        item.productName(),
+                                        item.optionName(),
+                                        item.price()
                                 ),
-                                itemEntity.getQuantity(),
+                                item.quantity(),
                                 amount
                         )
                 );
             }
 
-            // 최종 응답 객체 세팅
-            OrderRes orderRes = new OrderRes(
-                    orderEntity.getOrderCode(),
-                    responseItemList,
-                    itemsAmount,
-                    orderEntity.getCreatedAt()
-            );
-            resultList.add(orderRes);
+            resultList.add(new OrderRes(order.orderCode(), responseItemList, itemsAmount, order.createdAt()));
+        }
+
+        // 3. 다음 커서 / 전체 건수
+        String nextCursor = null;
+        if (hasNext) {
+            OrderSummary last = orders.getLast();
+            nextCursor = encodeOrderCursor(last.createdAt(), last.orderIdx());
         }
+        Long totalCount = withTotal ? orderRepository.countByUserIdx(userIdx) : null;
+
+        return new OrderPageRes(resultList, nextCursor, hasNext, totalCount);
+    }
 
-        // 페이징으로 return
-        return new PageImpl<>(resultList, pageable, orderPage.getTotalElements());
+    // 주문 목록 커서 생성 (주문일_주문인덱스 를 Base64 URL 인코딩)
+    private String encodeOrderCursor(LocalDateTime createdAt, Long orderIdx) {
+        String raw = createdAt + "_" + orderIdx;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 주문 목록 커서 해석 ([주문일, 주문인덱스]), 형식이 맞지 않으면 400
+    private String[] decodeOrderCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("_", 2);
+            LocalDateTime.parse(parts[0]);
+            Long.parseLong(parts[1]);
+            return parts;
+        } catch (RuntimeException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR, ErrorCode.INVALID_CURSOR.getMsg() + " cursor=" + cursor);
+        }
     }
 
     /*  [이전 N+1 발생 코드]
@@ -467,11 +620,11 @@ public class OrderServiceImpl implements OrderService {
         BigDecimal itemsAmount = BigDecimal.ZERO;  // 주문한 상품 가격
 
         // UserIdx/OrderCode가 같은 주문 정보 찾기 (없으면 OrderNotFoundException)
-        OrderEntity orderEntity = orderRepository.findByUserIdxAndOrderCode(userIdx, orderCode)
+        OrderEntity orderEntity = findOrderByCode(userIdx, orderCode)
                 .orElseThrow(() -> new OrderNotFoundException(ErrorCode.ORDER_NOT_FOUND));
 
         // orderEntity로 주문한 상품 엔티티 찾기
-        List<OrderItemEntity> itemEntities = orderItemRepository.findAllByOrder(orderEntity);
+        List<OrderItemEntity> itemEntities = findOrderItems(orderEntity);
 
         // 주문한 상품 순회
         for(OrderItemEntity entity : itemEntities) {
@@ -511,7 +664,7 @@ public class OrderServiceImpl implements OrderService {
     @Override
     public void orderRefund(String orderCode, Long paymentIdx) {
 
-        OrderEntity orderEntity = orderRepository.findByOrderCode(orderCode)
+        OrderEntity orderEntity = findOrderByCode(orderCode)
                 .orElseThrow(() -> new OrderNotFoundException(ErrorCode.ORDER_NOT_FOUND));
 
         orderEntity.setStatus(OrderStatus.REFUNDED);
@@ -528,7 +681,7 @@ public class OrderServiceImpl implements OrderService {
     public void updateOrderStatus(String orderCode, String status) {
 
         // orderCode로 주문 엔티티 조회
-        OrderEntity order = orderRepository.findByOrderCode(orderCode)
+        OrderEntity order = findOrderByCode(orderCode)
                 .orElseThrow(() -> new OrderNotFoundException(ErrorCode.ORDER_NOT_FOUND));
 
         order.setStatus(OrderStatus.valueOf(status));  // 상태 변경
@@ -544,7 +697,7 @@ public class OrderServiceImpl implements OrderService {
     public Long findOrderIdx(String orderCode) {
 
         // orderCode로 주문 엔티티 조회
-        OrderEntity order = orderRepository.findByOrderCode(orderCode)
+        OrderEntity order = findOrderByCode(orderCode)
                 .orElseThrow(() -> new OrderNotFoundException(ErrorCode.ORDER_NOT_FOUND));
 
         // orderIdx return
@@ -0,0 +1,127 @@
+package co.kr.order.service.impl;
+
+import co.kr.order.model.dto.event.StockUpdateMsg;
+import co.kr.order.model.entity.StockOutboxEntity;
+import co.kr.order.repository.StockOutboxRepository;
+import co.kr.order.service.KafkaService;
+import co.kr.order.service.OutboxService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Transactional Outbox
+ * - 재고 차감 메시지를 주문 트랜잭션과 같은 트랜잭션에서 DB에 기록 (커밋 후 프로세스가 죽어도 유실 없음)
+ * - Relay가 Outbox를 묶음으로 Kafka에 발행하고, 모든 ack를 받은 뒤에 삭제 (ack 대기는 send-timeout-ms 로 제한)
+ * - 발행 후 삭제 전에 죽으면 재발행될 수 있으나, msgCode 기준으로 Consumer가 중복을 걸러냄 (멱등)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OutboxServiceImpl implements OutboxService {
+
+    private final StockOutboxRepository outboxRepository;
+    private final KafkaService kafkaService;
+    private final ObjectMapper objectMapper;
+
+    // 발행 ack 최대 대기 시간 (행 잠금 / DB 커넥션을 잡고 기다리는 시간)
+    @Value("${custom.order.outbox.send-timeout-ms:5000}")
+    private long sendTimeoutMs;
+
+    /*
+     * Outbox 저장
+     * 호출한 쪽(orderSuccess)의 트랜잭션에 참여해야 하므로 MANDATORY
+     * @param message: 주문 단위 재고 차감 메시지
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void saveStockUpdate(StockUpdateMsg message) {
+
+        StockOutboxEntity outbox;
+        try {
+            outbox = StockOutboxEntity.builder()
+                    .msgCode(message.msgCode())
+                    .msgKey(message.orderCode())
+                    .payload(objectMapper.writeValueAsString(message))
+                    .build();
+        } catch (JsonProcessingException e) {
+            // 직렬화 실패 시 주문 확정 트랜잭션 전체 롤백
+            throw new IllegalStateException("Outbox 메시지 직렬화 실패: " + message.msgCode(), e);
+        }
+
+        outboxRepository.save(outbox);
+    }
+
+    /*
+     * Outbox Relay (스케쥴러)
+     * 대기 중인 메시지를 batchSize 만큼 잠그고 한 번에 발행 후, 전부 ack 되면 삭제
+     * 하나라도 실패하거나 send-timeout-ms 안에 ack 가 오지 않으면 트랜잭션 롤백 -> 다음 주기에 다시 발행
+     * - 행 잠금 / DB 커넥션을 잡고 기다리므로 대기 시간은 send-timeout-ms 로 제한 (Kafka 장애 시에도 잠금이 오래 남지 않음)
+     * - 전송 자체가 실패하면 (Producer 메타데이터 대기 초과 등) 나머지는 보내지 않고 바로 롤백
+     * - 타임아웃 후 늦게 도착한 메시지는 재발행과 중복되지만 msgCode 로 Consumer 가 걸러냄
+     * - 읽을 수 없는 메시지는 삭제하지 않고 실패 상태로 남김 (Relay 대상에서 제외, 관리자 확인 후 재처리)
+     * @param batchSize: 한 번에 발행할 최대 메시지 수
+     * @return 처리한 메시지 수 (발행 + 실패 처리)
+     */
+    @Override
+    @Transactional
+    public int relayStockUpdates(int batchSize) {
+
+        List<StockOutboxEntity> pending = outboxRepository.findPendingForUpdate(batchSize);
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        // 전송은 비동기로 한꺼번에 걸어두고 (Producer가 linger/batch 설정에 따라 묶어서 전송)
+        List<StockOutboxEntity> sent = new ArrayList<>(pending.size());
+        List<CompletableFuture<?>> futures = new ArrayList<>(pending.size());
+        for (StockOutboxEntity outbox : pending) {
+            StockUpdateMsg message;
+            try {
+                message = objectMapper.readValue(outbox.getPayload(), StockUpdateMsg.class);
+            } catch (JsonProcessingException e) {
+                // 재시도해도 소용 없으므로 실패 상태로 남기고 건너뜀 (삭제하면 재고 차감이 유실됨)
+                log.error("Outbox 메시지 역직렬화 실패. 실패 상태로 보관, 관리자 확인 필요. msgCode={}",
+                        outbox.getMsgCode(), e);
+                outbox.markFailed("역직렬화 실패: " + e.getOriginalMessage());
+                continue;
+            }
+
+            CompletableFuture<?> future = kafkaService.sendStockUpdate(message);
+            futures.add(future);
+            sent.add(outbox);
+            if (future.isCompletedExceptionally()) {
+                // 브로커에 닿지 않는 상태 -> 나머지도 실패하므로 더 보내지 않음
+                break;
+            }
+        }
+
+        // 모든 ack 대기 (실패/타임아웃 시 예외 -> 롤백 -> 재발행)
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                    .get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Outbox 발행 대기 중 인터럽트", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("Outbox 재고 메시지 발행 실패 (" + sent.size() + "건 롤백 후 재시도)", e);
+        }
+
+        outboxRepository.deleteAllInBatch(sent);
+
+        log.info("Outbox 재고 메시지 {}건 발행 완료", sent.size());
+        return pending.size();
+    }
+}
@@ -0,0 +1,298 @@
+package co.kr.order.service.impl;
+
+import co.kr.order.service.PartitionMaintenanceService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * 월 파티션 관리 (Orders / Orders_Item / Settlement_History)
+ * - 세 테이블은 Created_at 기준 월 단위 RANGE COLUMNS 파티션 (pYYYYMM + 마지막 pMax)
+ * - 미리 생성: 이번 달부터 future-months 달 뒤까지 파티션이 없으면 비어 있는 pMax 를 쪼개서 추가
+ * - 아카이브: hot-months 보다 오래된 달은 압축 아카이브 테이블(*_Archive, PAGE_COMPRESSED)로 옮긴 뒤 파티션 DROP
+ *   (DELETE 대신 DROP PARTITION 이라 Undo / 단편화 없이 Hot 테이블 크기가 일정하게 유지됨)
+ * - 파티션 / 아카이브 테이블은 Infra/DB/Migration/02_Partition_Orders_By_Month.sql 을 적용한 DB 에만 있음
+ *   -> 파티션 관리(enabled) / 아카이브(archive-enabled) 모두 기본값 false, 마이그레이션 적용 후 각각 켬
+ * - 여러 인스턴스가 동시에 DDL 을 실행하지 않도록 Redis 락 (order:partition:lock) 을 잡은 인스턴스만 실행
+ * - 파티션이 없는 테이블 (파티션 적용 전 DB / H2) 은 건너뜀
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PartitionMaintenanceServiceImpl implements PartitionMaintenanceService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StringRedisTemplate redisTemplate;
+
+    private static final String LOCK_KEY = "order:partition:lock";
+    private static final String MAX_PARTITION = "pMax";
+    private static final Pattern MONTH_PARTITION = Pattern.compile("p\\d{6}");
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'uuuuMM");
+
+    /**
+     * 파티션 대상 테이블
+     * @param table: Hot 테이블 (월 파티션)
+     * @param archiveTable: 아카이브 테이블 (같은 컬럼, 파티션 없음, 압축)
+     * @param idColumn: AUTO_INCREMENT PK 컬럼 (아카이브 복사 구간 분할용)
+     */
+    private record PartitionedTable(String table, String archiveTable, String idColumn) {}
+
+    private static final List<PartitionedTable> TABLES = List.of(
+            new PartitionedTable("Orders", "Orders_Archive", "Orders_IDX"),
+            new PartitionedTable("Orders_Item", "Orders_Item_Archive", "Orders_Item_IDX"),
+            new PartitionedTable("Settlement_History", "Settlement_History_Archive", "Settlement_IDX")
+    );
+
+    /**
+     * 락 반납 (내 것일 때만)
+     * KEYS[1]: 락 Key, ARGV[1]: 실행 ID
+     */
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+                    "    return redis.call('del', KEYS[1]) " +
+                    "end " +
+                    "return 0",
+            Long.class
+    );
+
+    // 파티션 관리 사용 여부 (파티션 마이그레이션을 적용한 DB 에서만 켬)
+    @Value("${custom.order.partition.enabled:false}")
+    private boolean enabled;
+
+    // 닫힌 달 아카이브 (파티션 DROP) 사용 여부 (파티션 관리와 별도로 켬)
+    @Value("${custom.order.partition.archive-enabled:false}")
+    private boolean archiveEnabled;
+
+    // 미리 만들어 둘 파티션 개월 수 (이번 달 이후)
+    @Value("${custom.order.partition.future-months:3}")
+    private int futureMonths;
+
+    // Hot 테이블에 남길 개월 수 (이번 달 포함, 환불/정산 보정이 끝난 달만 아카이브)
+    @Value("${custom.order.partition.hot-months:12}")
+    private int hotMonths;
+
+    // 아카이브 복사 한 번에 옮길 건수 (INSERT ... SELECT 한 문장 = 한 트랜잭션)
+    @Value("${custom.order.partition.archive-chunk-size:5000}")
+    private int archiveChunkSize;
+
+    // 락 유지 시간 (실행 중 죽어도 이 시간 뒤에 다른 인스턴스가 실행)
+    @Value("${custom.order.partition.lock-ttl-ms:3600000}")
+    private long lockTtlMs;
+
+    /**
+     * 미래 월 파티션 생성
+     * @return 새로 만든 파티션 수
+     */
+    @Override
+    public int createFuturePartitions() {
+        return withLock(() -> {
+            int created = 0;
+            for (PartitionedTable table : TABLES) {
+                created += createFuturePartitions(table);
+            }
+            return created;
+        });
+    }
+
+    /**
+     * 닫힌 달 아카이브
+     * @return 아카이브 후 DROP 한 파티션 수
+     */
+    @Override
+    public int archiveClosedMonths() {
+        if (!archiveEnabled) {
+            return 0;
+        }
+        return withLock(() -> {
+            int archived = 0;
+            for (PartitionedTable table : TABLES) {
+                archived += archiveClosedMonths(table);
+            }
+            return archived;
+        });
+    }
+
+    /**
+     * 아카이브 경계
+     * - Hot 테이블만 조회하는 API 가 이 날짜 이전 범위를 명시적으로 거부하는 데 사용
+     */
+    @Override
+    public Optional<LocalDate> archivedBefore() {
+        return archiveEnabled ? Optional.of(hotCutoff().atDay(1)) : Optional.empty();
+    }
+
+    /**
+     * 마지막 월 파티션 다음 달부터 목표 달까지 pMax 를 쪼개서 추가
+     * - pMax 가 비어 있으면 (미리 만들어 두면 항상 비어 있음) 메타데이터 변경만 일어남
+     */
+    private int createFuturePartitions(PartitionedTable table) {
+        List<String> partitions = findPartitions(table.table());
+        if (partitions.isEmpty() || !partitions.contains(MAX_PARTITION)) {
+            log.warn("월 파티션 테이블이 아님 - 파티션 생성 건너뜀 : {}", table.table());
+            return 0;
+        }
+
+        YearMonth target = YearMonth.now().plusMonths(futureMonths);
+        YearMonth next = monthPartitions(partitions).stream()
+                .max(YearMonth::compareTo)
+                .map(last -> last.plusMonths(1))
+                .orElse(YearMonth.now());
+        if (next.isAfter(target)) {
+            return 0;
+        }
+
+        List<String> definitions = new ArrayList<>();
+        for (YearMonth month = next; !month.isAfter(target); month = month.plusMonths(1)) {
+            definitions.add("PARTITION " + month.format(PARTITION_NAME)
+                    + " VALUES LESS THAN ('" + month.plusMonths(1).atDay(1) + "')");
+        }
+        definitions.add("PARTITION " + MAX_PARTITION + " VALUES LESS THAN (MAXVALUE)");
+
+        jdbcTemplate.execute("ALTER TABLE " + table.table()
+                + " REORGANIZE PARTITION " + MAX_PARTITION + " INTO (" + String.join(", ", definitions) + ")");
+
+        log.info("월 파티션 생성 - {} : {} ~ {}", table.table(), next, target);
+        return definitions.size() - 1;
+    }
+
+    /**
+     * hot-months 보다 오래된 월 파티션을 오래된 순서로 아카이브
+     * - 한 달이라도 검증에 실패하면 그 뒤 달은 진행하지 않음 (다음 실행에 이어서)
+     */
+    private int archiveClosedMonths(PartitionedTable table) {
+        List<String> partitions = findPartitions(table.table());
+        YearMonth cutoff = hotCutoff();
+
+        int archived = 0;
+        for (YearMonth month : monthPartitions(partitions)) {
+            if (!month.isBefore(cutoff)) {
+                break;
+            }
+            if (!archivePartition(table, month)) {
+                break;
+            }
+            archived++;
+        }
+        return archived;
+    }
+
+    /**
+     * 한 달 파티션 아카이브
+     * 1. PK 구간별로 INSERT IGNORE ... SELECT (중간에 죽어도 다시 실행하면 이어서 복사)
+     * 2. 아카이브 건수 >= 파티션 건수 확인
+     * 3. ALTER TABLE ... DROP PARTITION
+     * - 아카이브 대상은 hot-months 가 지난 달이라 복사 ~ DROP 사이에 변경되지 않는다고 봄
+     */
+    private boolean archivePartition(PartitionedTable table, YearMonth month) {
+        String partition = month.format(PARTITION_NAME);
+        String source = table.table() + " PARTITION (" + partition + ")";
+        String id = table.idColumn();
+
+        long copied = 0;
+        long lastId = 0;
+        while (true) {
+            Long chunkEnd = jdbcTemplate.queryForObject(
+                    "SELECT MAX(" + id + ") FROM (SELECT " + id + " FROM " + source
+                            + " WHERE " + id + " > ? ORDER BY " + id + " LIMIT ?) chunk",
+                    Long.class, lastId, archiveChunkSize
+            );
+            if (chunkEnd == null) {
+                break;
+            }
+            copied += jdbcTemplate.update(
+                    "INSERT IGNORE INTO " + table.archiveTable() + " SELECT * FROM " + source
+                            + " WHERE " + id + " > ? AND " + id + " <= ?",
+                    lastId, chunkEnd
+            );
+            lastId = chunkEnd;
+        }
+
+        // 파티션 건수 / 같은 PK 구간의 아카이브 건수 비교
+        Long[] range = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*), MIN(" + id + "), MAX(" + id + ") FROM " + source,
+                (rs, rowNum) -> new Long[]{rs.getLong(1), rs.getLong(2), rs.getLong(3)}
+        );
+        long hotCount = range[0];
+        if (hotCount > 0) {
+            Long archivedCount = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM " + table.archiveTable()
+                            + " WHERE " + id + " BETWEEN ? AND ? AND Created_at >= ? AND Created_at < ?",
+                    Long.class, range[1], range[2], month.atDay(1), month.plusMonths(1).atDay(1)
+            );
+            if (archivedCount == null || archivedCount < hotCount) {
+                log.error("아카이브 검증 실패 - {} {} : 파티션 {}건, 아카이브 {}건 (DROP 안 함)",
+                        table.table(), partition, hotCount, archivedCount);
+                return false;
+            }
+        }
+
+        jdbcTemplate.execute("ALTER TABLE " + table.table() + " DROP PARTITION " + partition);
+        log.info("월 파티션 아카이브 - {} {} : {}건 -> {} (이번 실행 복사 {}건)",
+                table.table(), partition, hotCount, table.archiveTable(), copied);
+        return true;
+    }
+
+    // Hot 테이블에 남길 첫 달 (이번 달 포함 hot-months 개월)
+    private YearMonth hotCutoff() {
+        return YearMonth.now().minusMonths(Math.max(hotMonths, 1) - 1L);
+    }
+
+    // 테이블의 파티션 이름 (정의 순서)
+    private List<String> findPartitions(String table) {
+        return jdbcTemplate.queryForList(
+                """
+                SELECT PARTITION_NAME
+                FROM information_schema.PARTITIONS
+                WHERE TABLE_SCHEMA = DATABASE()
+                  AND TABLE_NAME = ?
+                  AND PARTITION_NAME IS NOT NULL
+                ORDER BY PARTITION_ORDINAL_POSITION
+                """,
+                String.class, table
+        );
+    }
+
+    // pYYYYMM 파티션만 월로 변환 (정의 순서 = 오래된 순서)
+    private List<YearMonth> monthPartitions(List<String> partitions) {
+        return partitions.stream()
+                .filter(name -> MONTH_PARTITION.matcher(name).matches())
+                .map(name -> YearMonth.parse(name, PARTITION_NAME))
+                .toList();
+    }
+
+    /**
+     * Helper Method
+     * 파티션 관리 비활성 / 다른 인스턴스가 실행 중이면 0, 아니면 락을 잡고 실행
+     */
+    private int withLock(Supplier<Integer> task) {
+        if (!enabled) {
+            return 0;
+        }
+
+        String token = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, token, Duration.ofMillis(lockTtlMs)))) {
+            log.debug("다른 인스턴스가 파티션 관리 중 - 건너뜀");
+            return 0;
+        }
+        try {
+            return task.get();
+        } finally {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(LOCK_KEY), token);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package co.kr.order.service.impl;
+
+import co.kr.order.model.dto.event.ProductChangeMsg;
+import co.kr.order.service.ProductSnapshotService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Service;
+
+/*
+ * 상품 변경 이벤트 수신 -> 상품 스냅샷 캐시 무효화
+ * - 로컬 캐시: 인스턴스마다 따로라서 인스턴스마다 다른 groupId 로 모든 이벤트를 받음
+ *   재시작하면 로컬 캐시도 비어 있으므로 꺼져 있던 동안의 이벤트는 다시 읽지 않음 (latest)
+ * - Redis 캐시: 모든 인스턴스가 공유하므로 고정된 groupId 하나로 한 번만 처리
+ *   커밋된 offset 부터 이어서 읽으므로 모든 인스턴스가 내려가 있던 동안의 이벤트도 재시작 후 반영
+ * - 두 그룹은 서로 순서가 없으므로, 무효화 시각(changedAt)을 같이 넘겨서 그보다 오래된 조회 결과가 다시 저장되지 않게 함
+ * - 캐시 TTL 은 이벤트 유실(파싱 실패, 토픽 보존 기간 초과 등)에 대비한 마지막 안전장치
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductChangeConsumer {
+
+    private final ProductSnapshotService productSnapshotService;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(
+            topics = "${custom.kafka.topic.product-change.event:product-change}",
+            groupId = "order-product-snapshot-#{T(java.util.UUID).randomUUID().toString()}",
+            properties = {
+                    "auto.offset.reset=latest",
+                    "value.deserializer=org.apache.kafka.common.serialization.StringDeserializer"
+            }
+    )
+    public void onProductChange(String payload) {
+
+        ProductChangeMsg message = parse(payload);
+        if (message == null) {
+            return;
+        }
+
+        productSnapshotService.evictLocal(message.optionCodes(), changedAt(message));
+        log.debug("상품 스냅샷 무효화 : productCode={}, type={}, 옵션={}건",
+                message.productCode(), message.type(), message.optionCodes().size());
+    }
+
+    @KafkaListener(
+            topics = "${custom.kafka.topic.product-change.event:product-change}",
+            groupId = "${custom.kafka.consumer.product-change.shared-group:order-product-snapshot}",
+            properties = {
+                    "auto.offset.reset=earliest",
+                    "value.deserializer=org.apache.kafka.common.serialization.StringDeserializer"
+            }
+    )
+    public void onProductChangeShared(String payload) {
+
+        ProductChangeMsg message = parse(payload);
+        if (message == null) {
+            return;
+        }
+
+        productSnapshotService.evictShared(message.optionCodes(), changedAt(message));
+    }
+
+    // 변경 시각 (changedAt 이 없는 이전 형식 이벤트는 받은 시각)
+    private long changedAt(ProductChangeMsg message) {
+        return message.changedAt() != null ? message.changedAt() : System.currentTimeMillis();
+    }
+
+    // 이벤트 파싱 (형식이 잘못됐거나 옵션이 없으면 null)
+    private ProductChangeMsg parse(String payload) {
+
+        ProductChangeMsg message;
+        try {
+            message = objectMapper.readValue(payload, ProductChangeMsg.class);
+        } catch (JsonProcessingException e) {
+            log.warn("상품 변경 이벤트 파싱 실패 : {}", payload, e);
+            return null;
+        }
+
+        if (message.optionCodes() == null || message.optionCodes().isEmpty()) {
+            return null;
+        }
+        return message;
+    }
+}
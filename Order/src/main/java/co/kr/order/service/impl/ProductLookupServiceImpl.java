@@ -0,0 +1,241 @@
+package co.kr.order.service.impl;
+
+import co.kr.order.client.ProductClient;
+import co.kr.order.model.dto.request.ClientProductReq;
+import co.kr.order.model.dto.response.ClientProductRes;
+import co.kr.order.service.ProductLookupService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/*
+ * Product 조회 합치기 (ProductClient 앞단)
+ * - 같은 옵션을 이미 조회 중이면 그 결과를 같이 기다림 (single-flight)
+ * - 서로 다른 옵션은 짧은 시간(window-ms) 동안 모았다가 /client/products/bulk 한 번으로 조회 (micro-batch)
+ * - 모은 개수가 max-batch-size 에 닿으면 기다리지 않고 바로 조회
+ * - 결과는 옵션 코드 기준으로 기다리던 요청들에게 나눠줌
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductLookupServiceImpl implements ProductLookupService {
+
+    private final ProductClient productClient;
+    private final MeterRegistry meterRegistry;
+
+    // 요청을 모으는 시간
+    @Value("${custom.order.product-lookup.window-ms:5}")
+    private long windowMs;
+
+    // 한 번에 보낼 최대 옵션 수
+    @Value("${custom.order.product-lookup.max-batch-size:100}")
+    private int maxBatchSize;
+
+    // 결과를 기다리는 최대 시간
+    @Value("${custom.order.product-lookup.timeout-ms:3000}")
+    private long timeoutMs;
+
+    // 조회 중인 옵션 (optionCode -> 결과)
+    private final Map<String, CompletableFuture<ClientProductRes>> inFlight = new ConcurrentHashMap<>();
+
+    // 이번 window 에 모인 요청
+    private final Object lock = new Object();
+    private List<Pending> pending = new ArrayList<>();
+
+    private final ScheduledExecutorService windowScheduler = Executors.newSingleThreadScheduledExecutor();
+    private final ExecutorService requestExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private DistributionSummary batchSize;
+    private Timer waitTimer;
+    private Counter coalesced;
+
+    /*
+     * 모인 요청 하나
+     * @param request: 상품 요청 정보
+     * @param future: 기다리는 결과
+     */
+    private record Pending(ClientProductReq request, CompletableFuture<ClientProductRes> future) {}
+
+    @PostConstruct
+    public void init() {
+        batchSize = DistributionSummary.builder("order.product.lookup.batch.size")
+                .description("bulk 요청 한 번에 담긴 옵션 수")
+                .register(meterRegistry);
+        waitTimer = Timer.builder("order.product.lookup.wait")
+                .description("조회 요청부터 결과를 받기까지 걸린 시간 (window 대기 포함)")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        coalesced = Counter.builder("order.product.lookup.coalesced")
+                .description("이미 조회 중인 옵션에 합쳐진 요청 수")
+                .register(meterRegistry);
+    }
+
+    /*
+     * 상품 정보 여러 개 조회
+     * 1. 옵션마다 조회 중인 결과가 있으면 같이 기다리고, 없으면 이번 window 에 추가
+     * 2. 모든 결과를 기다려서 optionCode 기준 Map 으로 return
+     * @param products: 조회할 상품 (productCode, optionCode)
+     */
+    @Override
+    public Map<String, ClientProductRes> getProducts(List<ClientProductReq> products) {
+
+        Map<String, ClientProductRes> result = new HashMap<>();
+        if (products.isEmpty()) {
+            return result;
+        }
+
+        long startedAt = System.nanoTime();
+
+        // 1. 합치기
+        Map<String, CompletableFuture<ClientProductRes>> futures = new LinkedHashMap<>();
+        for (ClientProductReq product : products) {
+            if (futures.containsKey(product.optionCode())) {
+                continue;
+            }
+
+            CompletableFuture<ClientProductRes> created = new CompletableFuture<>();
+            CompletableFuture<ClientProductRes> existing = inFlight.putIfAbsent(product.optionCode(), created);
+            if (existing != null) {
+                coalesced.increment();
+                futures.put(product.optionCode(), existing);
+            } else {
+                futures.put(product.optionCode(), created);
+                enqueue(new Pending(product, created));
+            }
+        }
+
+        // 2. 기다리기
+        try {
+            CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new))
+                    .get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            // 조회 실패는 원래 예외 그대로 (FeignException 등)
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("상품 조회 실패", e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("상품 조회 시간 초과", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("상품 조회 중단", e);
+        } finally {
+            waitTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+
+        futures.forEach((optionCode, future) -> {
+            ClientProductRes product = future.join();
+            if (product != null) {
+                result.put(optionCode, product);
+            }
+        });
+        return result;
+    }
+
+    /*
+     * Helper Method
+     * 이번 window 에 요청 추가
+     * - window 의 첫 요청이면 window-ms 뒤에 보내도록 예약
+     * - 가득 차면 바로 보냄
+     */
+    private void enqueue(Pending request) {
+
+        List<Pending> ready = null;
+        synchronized (lock) {
+            pending.add(request);
+
+            if (pending.size() >= maxBatchSize) {
+                ready = pending;
+                pending = new ArrayList<>();
+            } else if (pending.size() == 1) {
+                List<Pending> window = pending;
+                windowScheduler.schedule(() -> flush(window), windowMs, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        if (ready != null) {
+            dispatch(ready);
+        }
+    }
+
+    /*
+     * Helper Method
+     * window 시간이 지나면 모인 요청 보내기
+     * 그 사이 가득 차서 이미 보낸 window 면 무시
+     * @param window: 예약할 때의 window
+     */
+    private void flush(List<Pending> window) {
+
+        synchronized (lock) {
+            if (pending != window) {
+                return;
+            }
+            pending = new ArrayList<>();
+        }
+
+        dispatch(window);
+    }
+
+    /*
+     * Helper Method
+     * bulk 요청 한 번 보내고 결과 나눠주기 (Feign 호출은 별도 스레드에서)
+     * - Product 에 없는 옵션은 null 로 완료
+     * - 실패하면 이 batch 를 기다리던 요청 모두 같은 예외로 완료
+     */
+    private void dispatch(List<Pending> batch) {
+
+        batchSize.record(batch.size());
+
+        requestExecutor.execute(() -> {
+            try {
+                List<ClientProductRes> loaded = productClient.getProductList(
+                        batch.stream().map(Pending::request).toList()
+                );
+
+                Map<String, ClientProductRes> byOptionCode = new HashMap<>();
+                for (ClientProductRes product : loaded) {
+                    byOptionCode.put(product.optionCode(), product);
+                }
+                for (Pending request : batch) {
+                    request.future().complete(byOptionCode.get(request.request().optionCode()));
+                }
+            } catch (Exception e) {
+                log.warn("상품 bulk 조회 실패 : {}건", batch.size(), e);
+                for (Pending request : batch) {
+                    request.future().completeExceptionally(e);
+                }
+            } finally {
+                for (Pending request : batch) {
+                    inFlight.remove(request.request().optionCode(), request.future());
+                }
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        windowScheduler.shutdown();
+        requestExecutor.shutdown();
+    }
+}
@@ -0,0 +1,383 @@
+package co.kr.order.service.impl;
+
+import co.kr.order.model.dto.request.ClientProductReq;
+import co.kr.order.model.dto.response.ClientProductRes;
+import co.kr.order.service.ProductLookupService;
+import co.kr.order.service.ProductSnapshotService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/*
+ * 상품 스냅샷 캐시 (2단)
+ * - 1단: 인스턴스 로컬 (크기 제한 LRU, 짧은 TTL) -> 대부분의 장바구니/주문 조회가 네트워크를 타지 않음
+ * - 2단: Redis 공유 (product:snapshot:{optionCode}) -> 로컬에 없을 때 Product 대신 조회
+ * - 둘 다 없는 것만 모아서 Product 에 bulk 요청 (ProductLookupService 가 다른 요청과 합쳐서 보냄)
+ * - 상품 변경 이벤트(ProductChangeConsumer)로 두 단계 모두 무효화, TTL 은 이벤트 유실 대비용
+ * - 무효화할 때 변경 시각을 tombstone 으로 남기고, 그보다 먼저 시작된 조회 결과(readAt)는 저장하지 않음
+ *   -> 변경 전에 시작된 Product 조회 / Redis 조회가 무효화 뒤에 끝나도 옛 값을 되살리지 않음
+ * - 화면용 조회는 만료 직후(stale) 값을 그대로 주고 뒤에서 갱신 (stale-while-revalidate)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductSnapshotServiceImpl implements ProductSnapshotService {
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ProductLookupService productLookupService;
+    private final MeterRegistry meterRegistry;
+
+    // Redis의 Key Default 값
+    private final static String KEY = "product:snapshot:";
+    // 무효화 시각 (tombstone)
+    private final static String EVICTED_KEY = "product:snapshot:evicted:";
+
+    /*
+     * 스냅샷 저장 (tombstone 보다 나중에 시작된 조회 결과만)
+     * KEYS[2i-1]: 스냅샷 Key, KEYS[2i]: tombstone Key
+     * ARGV[1]: TTL (초), ARGV[2i]: readAt, ARGV[2i+1]: 스냅샷
+     */
+    private static final String PUT_SCRIPT =
+            "local saved = 0 " +
+                    "for i = 1, #KEYS / 2 do " +
+                    "    local evictedAt = redis.call('get', KEYS[2 * i]) " +
+                    "    if not evictedAt or tonumber(ARGV[2 * i]) > tonumber(evictedAt) then " +
+                    "        redis.call('setex', KEYS[2 * i - 1], ARGV[1], ARGV[2 * i + 1]) " +
+                    "        saved = saved + 1 " +
+                    "    end " +
+                    "end " +
+                    "return saved";
+
+    /*
+     * 스냅샷 삭제 + tombstone 기록 (이미 더 늦은 변경 시각이 있으면 유지)
+     * KEYS[2i-1]: 스냅샷 Key, KEYS[2i]: tombstone Key
+     * ARGV[1]: changedAt, ARGV[2]: tombstone 유지 시간 (ms)
+     */
+    private static final String EVICT_SCRIPT =
+            "for i = 1, #KEYS / 2 do " +
+                    "    local evictedAt = redis.call('get', KEYS[2 * i]) " +
+                    "    if not evictedAt or tonumber(ARGV[1]) > tonumber(evictedAt) then " +
+                    "        redis.call('set', KEYS[2 * i], ARGV[1], 'PX', ARGV[2]) " +
+                    "    else " +
+                    "        redis.call('pexpire', KEYS[2 * i], ARGV[2]) " +
+                    "    end " +
+                    "    redis.call('del', KEYS[2 * i - 1]) " +
+                    "end " +
+                    "return #KEYS / 2";
+
+    // Redis 스냅샷 유지 시간 (가격이 바뀌어도 최대 이 시간 안에 반영)
+    @Value("${custom.order.product-snapshot.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    // 로컬 캐시 최대 개수
+    @Value("${custom.order.product-snapshot.local.max-size:10000}")
+    private int localMaxSize;
+
+    // 로컬 캐시를 그대로 쓰는 시간
+    @Value("${custom.order.product-snapshot.local.fresh-ms:30000}")
+    private long freshMs;
+
+    // 화면용 조회에서 만료된 값을 그대로 쓰는 최대 시간 (그 사이 뒤에서 갱신)
+    @Value("${custom.order.product-snapshot.local.stale-ms:300000}")
+    private long staleMs;
+
+    // tombstone 유지 시간 (진행 중이던 조회가 끝날 때까지, product-lookup.timeout-ms 보다 길게)
+    @Value("${custom.order.product-snapshot.tombstone-ms:60000}")
+    private long tombstoneMs;
+
+    // 로컬 캐시 (접근 순서 LRU)
+    private final Map<String, LocalEntry> localCache = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, LocalEntry> eldest) {
+            return size() > localMaxSize;
+        }
+    };
+
+    // 로컬 tombstone (optionCode -> changedAt, localCache 와 같은 lock 사용)
+    private final Map<String, Long> evictedAt = new HashMap<>();
+
+    // 뒤에서 갱신 중인 옵션 (같은 옵션은 한 번만 갱신)
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final ExecutorService refreshExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /*
+     * 로컬 캐시 한 칸
+     * @param snapshot: 상품 정보
+     * @param loadedAt: 저장 시각 (ms)
+     */
+    private record LocalEntry(ClientProductRes snapshot, long loadedAt) {}
+
+    /*
+     * 상품 스냅샷 여러 개 조회 (화면용, 만료 직후 값 허용)
+     * @param products: 조회할 상품 (productCode, optionCode)
+     */
+    @Override
+    public Map<String, ClientProductRes> getSnapshots(List<ClientProductReq> products) {
+        return lookup(products, true);
+    }
+
+    /*
+     * 상품 스냅샷 여러 개 조회 (주문/정산용, 만료된 값은 다시 조회)
+     * @param products: 조회할 상품 (productCode, optionCode)
+     */
+    @Override
+    public Map<String, ClientProductRes> getFreshSnapshots(List<ClientProductReq> products) {
+        return lookup(products, false);
+    }
+
+    /*
+     * 로컬 캐시 무효화 (상품 변경 이벤트, 모든 인스턴스)
+     * - tombstone 을 남겨서 변경 전에 시작된 조회 결과가 나중에 저장되지 않게 함
+     * @param optionCodes: 변경된 옵션 코드들
+     * @param changedAt: 변경 시각 (epoch ms)
+     */
+    @Override
+    public void evictLocal(Collection<String> optionCodes, long changedAt) {
+        if (optionCodes.isEmpty()) {
+            return;
+        }
+
+        long expired = System.currentTimeMillis() - tombstoneMs;
+        synchronized (localCache) {
+            evictedAt.values().removeIf(at -> at < expired);
+            for (String optionCode : optionCodes) {
+                evictedAt.merge(optionCode, changedAt, Math::max);
+                localCache.remove(optionCode);
+            }
+        }
+    }
+
+    /*
+     * Redis 스냅샷 무효화 (상품 변경 이벤트, 인스턴스 중 하나)
+     * - 스냅샷 삭제와 tombstone 기록을 한 번에 (EVICT_SCRIPT)
+     * @param optionCodes: 변경된 옵션 코드들
+     * @param changedAt: 변경 시각 (epoch ms)
+     */
+    @Override
+    public void evictShared(Collection<String> optionCodes, long changedAt) {
+        if (optionCodes.isEmpty()) {
+            return;
+        }
+
+        List<byte[]> keysAndArgs = new ArrayList<>();
+        for (String optionCode : optionCodes) {
+            keysAndArgs.add(bytes(KEY + optionCode));
+            keysAndArgs.add(bytes(EVICTED_KEY + optionCode));
+        }
+        keysAndArgs.add(bytes(String.valueOf(changedAt)));
+        keysAndArgs.add(bytes(String.valueOf(tombstoneMs)));
+
+        eval(EVICT_SCRIPT, optionCodes.size() * 2, keysAndArgs);
+    }
+
+    /*
+     * Helper Method
+     * 1. 로컬 캐시 조회 (신선하면 사용, 화면용이면 만료 직후 값도 사용하고 뒤에서 갱신)
+     * 2. 나머지는 MGET 으로 Redis 조회
+     * 3. 그래도 없는 옵션만 Product 에 bulk 요청 (ProductLookupService)
+     * 4. 받아온 스냅샷은 로컬/Redis 에 저장
+     */
+    private Map<String, ClientProductRes> lookup(List<ClientProductReq> products, boolean allowStale) {
+
+        Map<String, ClientProductRes> snapshots = new HashMap<>();
+        if (products.isEmpty()) {
+            return snapshots;
+        }
+
+        // 1. 로컬 캐시
+        long now = System.currentTimeMillis();
+        List<ClientProductReq> remain = new ArrayList<>();
+        List<ClientProductReq> stale = new ArrayList<>();
+        synchronized (localCache) {
+            for (ClientProductReq product : products) {
+                LocalEntry entry = localCache.get(product.optionCode());
+                long age = entry == null ? Long.MAX_VALUE : now - entry.loadedAt();
+
+                if (age < freshMs) {
+                    snapshots.put(product.optionCode(), entry.snapshot());
+                } else if (allowStale && age < staleMs) {
+                    snapshots.put(product.optionCode(), entry.snapshot());
+                    stale.add(product);
+                } else {
+                    remain.add(product);
+                }
+            }
+        }
+        count("local", snapshots.size() - stale.size());
+        count("stale", stale.size());
+
+        if (!stale.isEmpty()) {
+            refreshInBackground(stale);
+        }
+        if (remain.isEmpty()) {
+            return snapshots;
+        }
+
+        // 2. Redis 조회
+        List<String> keys = remain.stream()
+                .map(product -> KEY + product.optionCode())
+                .toList();
+        List<Object> cached = redisTemplate.opsForValue().multiGet(keys);
+
+        // 이 인스턴스가 이미 무효화한 변경보다 오래된 값은 (Redis 무효화 전) 없는 것으로 취급
+        List<ClientProductRes> fromRedis = new ArrayList<>();
+        List<ClientProductReq> misses = new ArrayList<>();
+        synchronized (localCache) {
+            for (int i = 0; i < remain.size(); i++) {
+                Object value = cached == null ? null : cached.get(i);
+                if (value instanceof ClientProductRes snapshot && isCurrent(snapshot)) {
+                    fromRedis.add(snapshot);
+                } else {
+                    misses.add(remain.get(i));
+                }
+            }
+        }
+        fromRedis.forEach(snapshot -> snapshots.put(snapshot.optionCode(), snapshot));
+        putLocal(fromRedis);
+        count("redis", fromRedis.size());
+
+        if (misses.isEmpty()) {
+            return snapshots;
+        }
+
+        // 3. 없는 것만 Product 에 요청
+        List<ClientProductRes> loaded = List.copyOf(productLookupService.getProducts(misses).values());
+        loaded.forEach(snapshot -> snapshots.put(snapshot.optionCode(), snapshot));
+        count("remote", misses.size());
+
+        // 4. 캐시 저장
+        putLocal(loaded);
+        putAll(loaded);
+        log.debug("상품 스냅샷 조회: 요청={}, 로컬={}, Redis={}, 로드={}",
+                products.size(), products.size() - remain.size(), fromRedis.size(), loaded.size());
+
+        return snapshots;
+    }
+
+    /*
+     * Helper Method
+     * 만료 직후 값을 준 옵션은 뒤에서 Product 로부터 다시 받아옴
+     * - Redis 값도 같이 오래됐을 수 있어서 Product 에 직접 요청
+     * - 이미 갱신 중인 옵션은 건너뜀
+     */
+    private void refreshInBackground(List<ClientProductReq> products) {
+
+        List<ClientProductReq> targets = products.stream()
+                .filter(product -> refreshing.add(product.optionCode()))
+                .toList();
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        refreshExecutor.execute(() -> {
+            try {
+                List<ClientProductRes> loaded = List.copyOf(productLookupService.getProducts(targets).values());
+                putLocal(loaded);
+                putAll(loaded);
+            } catch (Exception e) {
+                // 실패하면 만료된 값이 stale-ms 까지 유지되고, 그 뒤에는 요청 시점에 다시 조회
+                log.warn("상품 스냅샷 갱신 실패 : {}건", targets.size(), e);
+            } finally {
+                targets.forEach(product -> refreshing.remove(product.optionCode()));
+            }
+        });
+    }
+
+    // 로컬 캐시 저장 (로컬 tombstone 보다 먼저 시작된 조회 결과는 버림)
+    private void putLocal(List<ClientProductRes> products) {
+        if (products.isEmpty()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        synchronized (localCache) {
+            for (ClientProductRes product : products) {
+                if (isCurrent(product)) {
+                    localCache.put(product.optionCode(), new LocalEntry(product, now));
+                }
+            }
+        }
+    }
+
+    // 로컬 tombstone 이후에 시작된 조회 결과인지 (localCache lock 안에서 호출, readAt 이 없으면 tombstone 이 없을 때만)
+    private boolean isCurrent(ClientProductRes product) {
+        Long evicted = evictedAt.get(product.optionCode());
+        if (evicted == null) {
+            return true;
+        }
+        return product.readAt() != null && product.readAt() > evicted;
+    }
+
+    /*
+     * Helper Method
+     * 스냅샷 여러 개를 한 번의 왕복으로 저장 (PUT_SCRIPT)
+     * - Redis tombstone 보다 먼저 시작된 조회 결과는 Redis 가 버림 (다른 인스턴스의 무효화도 반영)
+     * @param products: 저장할 상품 정보
+     */
+    @SuppressWarnings("unchecked")
+    private void putAll(List<ClientProductRes> products) {
+        if (products.isEmpty()) {
+            return;
+        }
+
+        RedisSerializer<Object> valueSerializer = (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+
+        List<byte[]> keys = new ArrayList<>();
+        List<byte[]> args = new ArrayList<>();
+        args.add(bytes(String.valueOf(ttlSeconds)));
+        for (ClientProductRes product : products) {
+            keys.add(bytes(KEY + product.optionCode()));
+            keys.add(bytes(EVICTED_KEY + product.optionCode()));
+            args.add(bytes(String.valueOf(product.readAt() == null ? 0L : product.readAt())));
+            args.add(valueSerializer.serialize(product));
+        }
+
+        List<byte[]> keysAndArgs = new ArrayList<>(keys);
+        keysAndArgs.addAll(args);
+        eval(PUT_SCRIPT, keys.size(), keysAndArgs);
+    }
+
+    // Lua 스크립트 실행 (값은 JSON 직렬화 없이 그대로 전달)
+    private void eval(String script, int numKeys, List<byte[]> keysAndArgs) {
+        redisTemplate.execute((RedisCallback<Object>) connection -> connection.scriptingCommands().eval(
+                bytes(script),
+                ReturnType.INTEGER,
+                numKeys,
+                keysAndArgs.toArray(byte[][]::new)
+        ));
+    }
+
+    private static byte[] bytes(String value) {
+        return RedisSerializer.string().serialize(value);
+    }
+
+    // 조회 단계별 적중 수 (local / stale / redis / remote)
+    private void count(String tier, int amount) {
+        if (amount > 0) {
+            meterRegistry.counter("order.product.snapshot.lookup", "tier", tier).increment(amount);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdown();
+    }
+}
@@ -0,0 +1,190 @@
+package co.kr.order.service.impl;
+
+import co.kr.order.exception.CustomException;
+import co.kr.order.exception.ErrorCode;
+import co.kr.order.exception.InvalidAdmissionPassException;
+import co.kr.order.model.dto.request.QueueRoomReq;
+import co.kr.order.model.redis.QueueRoom;
+import co.kr.order.service.QueueRoomService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * 대기실 목록 관리
+ * 대기실 설정은 Redis 에 저장하고, 각 인스턴스는 tick 마다 한 번 읽어서 메모리에 보관
+ * (대기열 등록/조회 시 대기실 존재 여부를 Redis 조회 없이 확인)
+ *
+ * Redis 구조:
+ * - queue:rooms (Hash) [Field: 대기실 ID, Value: "enterRate:orderCapacity:evictTimeoutMs"]
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QueueRoomServiceImpl implements QueueRoomService {
+
+    private final StringRedisTemplate redisTemplate;
+
+    private static final String ROOMS_KEY = "queue:rooms";
+    private static final String DELIMITER = ":";
+
+    // 대기실 기본 설정 (기본 대기실 및 값 없이 생성한 대기실에 적용)
+    @Value("${custom.queue.room.enter-rate:50}")
+    private long defaultEnterRate;
+
+    @Value("${custom.queue.room.order-capacity:100}")
+    private long defaultOrderCapacity;
+
+    @Value("${custom.queue.room.evict-timeout-ms:600000}")
+    private long defaultEvictTimeoutMs;
+
+    // 열려 있는 대기실 [Key: 대기실 ID] (refresh 시 통째로 교체)
+    private volatile Map<String, QueueRoom> rooms = Map.of();
+
+    /*
+     * 열려 있는 대기실 목록 (기본 대기실 포함)
+     */
+    @Override
+    public List<QueueRoom> getRooms() {
+        Map<String, QueueRoom> current = rooms;
+        if (current.isEmpty()) {
+            return List.of(defaultRoom());
+        }
+        return List.copyOf(current.values());
+    }
+
+    /*
+     * 대기실 조회
+     * @param roomId: 대기실 ID
+     */
+    @Override
+    public QueueRoom getRoom(String roomId) {
+
+        QueueRoom room = rooms.get(roomId);
+        if (room != null) return room;
+
+        if (QueueRoom.DEFAULT_ROOM.equals(roomId)) {
+            return defaultRoom();
+        }
+        throw new CustomException(ErrorCode.QUEUE_ROOM_NOT_FOUND, "열려 있는 대기실이 아닙니다: " + roomId);
+    }
+
+    /*
+     * 대기실 생성/수정
+     * @param roomId: 대기실 ID (이벤트 코드 / 상품 코드)
+     * @param request: 입장량/수용량/퇴장 시간 (없으면 기본값)
+     */
+    @Override
+    public QueueRoom openRoom(String roomId, QueueRoomReq request) {
+
+        // 대기실 ID 는 Redis Key / 입장권에 그대로 들어가므로 형식 검사
+        if (!QueueRoom.isValidRoomId(roomId)) {
+            throw new CustomException(ErrorCode.INVALID_QUEUE_ROOM_ID, ErrorCode.INVALID_QUEUE_ROOM_ID.getMsg());
+        }
+
+        QueueRoom room = new QueueRoom(
+                roomId,
+                request.enterRate() != null ? request.enterRate() : defaultEnterRate,
+                request.orderCapacity() != null ? request.orderCapacity() : defaultOrderCapacity,
+                request.evictTimeoutMs() != null ? request.evictTimeoutMs() : defaultEvictTimeoutMs
+        );
+
+        redisTemplate.opsForHash().put(ROOMS_KEY, roomId, String.join(DELIMITER,
+                String.valueOf(room.enterRate()),
+                String.valueOf(room.orderCapacity()),
+                String.valueOf(room.evictTimeoutMs())));
+
+        // 다른 인스턴스는 다음 tick 에 반영
+        Map<String, QueueRoom> updated = new HashMap<>(rooms);
+        updated.put(roomId, room);
+        rooms = Map.copyOf(updated);
+
+        log.info("대기실 오픈: {}", room);
+        return room;
+    }
+
+    /*
+     * 대기실 종료
+     * 대기 중인 유저 정보도 함께 삭제 (기본 대기실은 설정만 기본값으로 되돌림)
+     * @param roomId: 대기실 ID
+     */
+    @Override
+    public void closeRoom(String roomId) {
+
+        QueueRoom room = getRoom(roomId);
+        redisTemplate.opsForHash().delete(ROOMS_KEY, roomId);
+
+        if (!QueueRoom.DEFAULT_ROOM.equals(roomId)) {
+            redisTemplate.delete(List.of(
+                    room.waitEnterKey(), room.activeEnterKey(),
+                    room.waitOrderKey(), room.activeOrderKey()));
+        }
+
+        Map<String, QueueRoom> updated = new HashMap<>(rooms);
+        updated.remove(roomId);
+        rooms = Map.copyOf(updated);
+
+        log.info("대기실 종료: {}", roomId);
+    }
+
+    /*
+     * 1초마다 동작 (스케쥴러, 모든 인스턴스)
+     * Redis 에 저장된 대기실 설정을 다시 읽어서 메모리 갱신
+     */
+    @Override
+    public void refresh() {
+
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(ROOMS_KEY);
+
+        Map<String, QueueRoom> loaded = new HashMap<>();
+        loaded.put(QueueRoom.DEFAULT_ROOM, defaultRoom());
+        for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+            String roomId = (String) entry.getKey();
+            // 형식 검사 이전에 등록된 대기실은 무시
+            if (!QueueRoom.isValidRoomId(roomId)) {
+                log.warn("잘못된 대기실 ID 무시: {}", roomId);
+                continue;
+            }
+            String[] values = ((String) entry.getValue()).split(DELIMITER);
+            loaded.put(roomId, new QueueRoom(
+                    roomId,
+                    Long.parseLong(values[0]),
+                    Long.parseLong(values[1]),
+                    Long.parseLong(values[2])
+            ));
+        }
+
+        rooms = Map.copyOf(loaded);
+    }
+
+    /*
+     * 입장권 대기실 확인 (주문 생성 시)
+     * - 상품 코드로 열린 전용 대기실이 있는 상품은 그 대기실 입장권으로만 주문 가능
+     *   (한가한 대기실 입장권으로 인기 상품 대기열을 건너뛰지 않도록)
+     * - 전용 대기실이 없는 상품은 어느 대기실(기본 / 이벤트) 입장권이든 허용
+     * @param roomId: 입장권을 발급한 대기실 ID
+     * @param productCodes: 주문 상품 코드들
+     */
+    @Override
+    public void checkAdmission(String roomId, Collection<String> productCodes) {
+
+        Map<String, QueueRoom> current = rooms;
+        for (String productCode : productCodes) {
+            if (current.containsKey(productCode) && !productCode.equals(roomId)) {
+                log.warn("다른 대기실 입장권으로 주문 시도: 입장권={}, 상품={}", roomId, productCode);
+                throw new InvalidAdmissionPassException(ErrorCode.ADMISSION_ROOM_MISMATCH);
+            }
+        }
+    }
+
+    private QueueRoom defaultRoom() {
+        return new QueueRoom(QueueRoom.DEFAULT_ROOM, defaultEnterRate, defaultOrderCapacity, defaultEvictTimeoutMs);
+    }
+}
@@ -1,28 +1,72 @@
 package co.kr.order.service.impl;
 
+import co.kr.order.model.redis.QueueRoom;
+import co.kr.order.model.redis.QueueRoomStat;
 import co.kr.order.model.redis.WaitingQueue;
+import co.kr.order.service.AdmissionPassService;
+import co.kr.order.service.QueueRoomService;
 import co.kr.order.service.QueueService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.zset.DefaultTuple;
+import org.springframework.data.redis.connection.zset.Tuple;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Service;
 
-import java.util.Set;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
 
+/*
+ * 대기열 (대기실 단위)
+ * 대기실마다 입장 대기열 / 주문 대기열 Key 를 따로 사용 (QueueRoom 참고)
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class QueueServiceImpl implements QueueService {
 
     private final RedisTemplate<String, Object> redisTemplate;
+    private final AdmissionPassService admissionPassService;
+    private final QueueRoomService queueRoomService;
 
-    // 입장 대기열 Key
-    private static final String WAIT_ENTER_KEY = "waitEnterKey";  // 대기중
-    private static final String ACTIVE_ENTER_KEY = "activeEnterKey";  // 입장 완료
+    // SSE 순번 스냅샷: 대기열 앞에서부터 한 번에 읽어올 인원 (이 뒤의 유저만 개별 ZRANK)
+    @Value("${custom.queue.stream.snapshot-size:10000}")
+    private long snapshotSize;
 
-    // 주문 대기열 Key
-    private static final String WAIT_ORDER_KEY = "waitOrderKey";  // 대기중
-    private static final String ACTIVE_ORDER_KEY = "activeOrderKey";  // 입장 완료
+    // 수용량 제한 없음 (입장 대기열)
+    private static final long NO_CAPACITY_LIMIT = -1L;
+
+    /*
+     * 대기열 -> Active 승격 (원자적 처리)
+     * 여러 Order 인스턴스의 스케쥴러가 동시에 실행돼도 같은 유저를 두 번 승격하거나 수용량을 넘기지 않음
+     * KEYS[1]: Wait Key, KEYS[2]: Active Key
+     * ARGV[1]: 최대 승격 인원, ARGV[2]: 최대 수용량 (-1이면 제한 없음), ARGV[3]: 현재 시각(Active Score)
+     * return: 승격된 인원 수
+     */
+    private static final String PROMOTE_SCRIPT =
+            "local n = tonumber(ARGV[1]) " +
+                    "local capacity = tonumber(ARGV[2]) " +
+                    "if capacity >= 0 then " +
+                    "    local free = capacity - redis.call('zcard', KEYS[2]) " +
+                    "    if free < n then n = free end " +
+                    "end " +
+                    "if n <= 0 then return 0 end " +
+                    // 가장 오래 기다린 순서대로 n명 꺼냄 (member, score 순서로 반환)
+                    "local popped = redis.call('zpopmin', KEYS[1], n) " +
+                    "for i = 1, #popped, 2 do " +
+                    "    redis.call('zadd', KEYS[2], ARGV[3], popped[i]) " +
+                    "end " +
+                    "return #popped / 2";
+
+    private static final byte[] PROMOTE_SCRIPT_BYTES = PROMOTE_SCRIPT.getBytes(StandardCharsets.UTF_8);
+
+    // processRooms 에서 대기실 하나당 Pipeline 에 넣는 명령 수
+    private static final int COMMANDS_PER_ROOM = 5;
 
     // =============================
     // 1. 입장 대기열 (Rate Limiter)
@@ -30,37 +74,43 @@ public class QueueServiceImpl implements QueueService {
 
     /*
      * 유저가 처음 진입 시 대기열(Wait Key)에 추가
+     * @param roomId 대기실 ID
      * @param queueToken 유저 식별 토큰
      */
     @Override
-    public void registerEnter(String queueToken) {
+    public void registerEnter(String roomId, String queueToken) {
+
+        QueueRoom room = queueRoomService.getRoom(roomId);
 
         // 현재 시간을 Score로 사용
         long accessTime = System.currentTimeMillis();
 
-        // ZSet에 저장 [Key: waitEnterKey, Value: 토큰, Score: 현재시간]
-        redisTemplate.opsForZSet().add(WAIT_ENTER_KEY, queueToken, accessTime);
+        // ZSet에 저장 [Key: 대기실 입장 Wait Key, Value: 토큰, Score: 현재시간]
+        redisTemplate.opsForZSet().add(room.waitEnterKey(), queueToken, accessTime);
     }
 
     /*
      * 입장 대기 상태 조회 (Polling)
      * 프론트엔드에서 주기적으로 호출하여 진입 가능 여부와 남은 대기 순번을 확인
+     * @param roomId 대기실 ID
      * @param queueToken 유저 식별 토큰
      */
     @Override
-    public WaitingQueue getEnterStatus(String queueToken) {
+    public WaitingQueue getEnterStatus(String roomId, String queueToken) {
+
+        QueueRoom room = queueRoomService.getRoom(roomId);
 
         // Active Set(입장 허용된 그룹)에 포함되어 있는지 확인
-        Double activeScore = redisTemplate.opsForZSet().score(ACTIVE_ENTER_KEY, queueToken);
+        Double activeScore = redisTemplate.opsForZSet().score(room.activeEnterKey(), queueToken);
 
         if (activeScore != null) {
             // 입장 허용된 상태라면, Active Key에서 제거하여 '입장권'을 소모시킴 (일회성 통과)
-            redisTemplate.opsForZSet().remove(ACTIVE_ENTER_KEY, queueToken);
-            return new WaitingQueue(0L, true, "입장 완료");
+            redisTemplate.opsForZSet().remove(room.activeEnterKey(), queueToken);
+            return new WaitingQueue(0L, true, "입장 완료", issuePass(roomId, queueToken));
         }
 
         // Wait Set(대기 그룹)에서의 내 순위 확인 (0부터 시작하므로 +1 처리)
-        Long rank = redisTemplate.opsForZSet().rank(WAIT_ENTER_KEY, queueToken);
+        Long rank = redisTemplate.opsForZSet().rank(room.waitEnterKey(), queueToken);
         if (rank != null) {
             return new WaitingQueue(rank + 1, false, "대기 중입니다.");
         }
@@ -70,29 +120,56 @@ public class QueueServiceImpl implements QueueService {
     }
 
     /*
-     * 1초마다 동작 (스케쥴러)
-     * 현재 처리 중인 유저 수(Active)를 확인해서, 여유 공간만큼만 대기 유저를 진입
-     * @param count: 주문 허용 인원
+     * 입장 대기 상태 일괄 조회 (SSE Push)
+     * 연결된 유저 수와 상관없이 tick 당 고정된 횟수의 Redis 호출로 처리
+     * - Active 에 있으면 입장 완료 (입장권은 여기서 소모하지 않음)
+     *   -> 이벤트 전송에 성공한 유저만 consumeEnter 로 소모, 전송 실패 시 Polling 으로 다시 받을 수 있음
+     * - Wait 에 있으면 순번 스냅샷에서 순번 조회
+     * @param roomId: 대기실 ID
+     * @param queueTokens: 이 인스턴스에 연결된 유저 토큰
+     * @return 토큰별 대기 상태
      */
     @Override
-    public void allowEnterUser(Long count) {
-
-        // 대기열에서 가장 오래된(Score가 낮은) 순서대로 count만큼 조회
-        Set<Object> allowedUsers = redisTemplate.opsForZSet().range(WAIT_ENTER_KEY, 0, count - 1);
+    public Map<String, WaitingQueue> getEnterStatuses(String roomId, Collection<String> queueTokens) {
+
+        Map<String, WaitingQueue> statuses = new HashMap<>();
+        if (queueTokens.isEmpty()) return statuses;
+
+        QueueRoom room = queueRoomService.getRoom(roomId);
+
+        // 1. 입장 허용된 유저 (Active Set은 입장 직후 소모되므로 작음)
+        Set<Object> actives = redisTemplate.opsForZSet().range(room.activeEnterKey(), 0, -1);
+        List<String> waiting = new ArrayList<>();
+        for (String token : queueTokens) {
+            if (actives != null && actives.contains(token)) {
+                statuses.put(token, new WaitingQueue(0L, true, "입장 완료", issuePass(roomId, token)));
+            } else {
+                waiting.add(token);
+            }
+        }
 
-        // 없으면 return
-        if (allowedUsers == null || allowedUsers.isEmpty()) return;
+        // 2. 대기 중인 유저 순번
+        Map<String, Long> ranks = getRanks(room.waitEnterKey(), waiting);
+        for (String token : waiting) {
+            Long rank = ranks.get(token);
+            statuses.put(token, rank != null
+                    ? new WaitingQueue(rank + 1, false, "대기 중입니다.")
+                    : new WaitingQueue(-1L, false, "대기열에 없습니다."));
+        }
 
-        // 현재 시각
-        long now = System.currentTimeMillis();
-        for (Object user : allowedUsers) {
-            String member = (String) user;
+        return statuses;
+    }
 
-            // Active Set으로 이동 (입장 허용)
-            redisTemplate.opsForZSet().add(ACTIVE_ENTER_KEY, member, now);
-            // Wait Set에서 제거
-            redisTemplate.opsForZSet().remove(WAIT_ENTER_KEY, member);
-        }
+    /*
+     * 입장권 소모 (SSE Push)
+     * 입장 완료 이벤트를 보낸 뒤에 호출 (일회성 통과)
+     * @return Active 에서 제거했으면 true, 이미 Polling 등으로 소모됐으면 false
+     */
+    @Override
+    public boolean consumeEnter(String roomId, String queueToken) {
+        QueueRoom room = queueRoomService.getRoom(roomId);
+        Long removed = redisTemplate.opsForZSet().remove(room.activeEnterKey(), queueToken);
+        return removed != null && removed > 0;
     }
 
     // =================================
@@ -104,23 +181,28 @@ public class QueueServiceImpl implements QueueService {
      * 주문 요청 시 대기열에 등록
      */
     @Override
-    public void registerOrder(Long userIdx) {
+    public void registerOrder(String roomId, Long userIdx) {
+
+        QueueRoom room = queueRoomService.getRoom(roomId);
 
         // userIdx를 Member로 사용
         String member = String.valueOf(userIdx);
         // 현재 시간을 Score로 사용
         long accessTime = System.currentTimeMillis();
 
-        // ZSet에 저장 [Key: waitOrderKey, Value: 유저Idx, Score: 진입시간]
-        redisTemplate.opsForZSet().add(WAIT_ORDER_KEY, member, accessTime);
+        // ZSet에 저장 [Key: 대기실 주문 Wait Key, Value: 유저Idx, Score: 진입시간]
+        redisTemplate.opsForZSet().add(room.waitOrderKey(), member, accessTime);
     }
 
     /*
      * 주문 대기 상태 조회 및 Heartbeat (살아있는지 체크)
+     * @param roomId: 대기실 ID
      * @param userIdx: 유저 인덱스
      */
     @Override
-    public WaitingQueue getOrderStatus(Long userIdx) {
+    public WaitingQueue getOrderStatus(String roomId, Long userIdx) {
+
+        QueueRoom room = queueRoomService.getRoom(roomId);
 
         // userIdx를 Member로 사용
         String member = String.valueOf(userIdx);
@@ -128,16 +210,16 @@ public class QueueServiceImpl implements QueueService {
         long now = System.currentTimeMillis();
 
         // 이미 주문 처리가 가능한 상태(Active)인지 확인
-        Double activeScore = redisTemplate.opsForZSet().score(ACTIVE_ORDER_KEY, member);
+        Double activeScore = redisTemplate.opsForZSet().score(room.activeOrderKey(), member);
         if (activeScore != null) {
             // Active 상태라면 Score를 현재 시간으로 갱신 (Heartbeat)
             // 이를 통해 작업 중인 유저가 타임아웃으로 쫓겨나지 않도록 유지
-            redisTemplate.opsForZSet().add(ACTIVE_ORDER_KEY, member, now);
+            redisTemplate.opsForZSet().add(room.activeOrderKey(), member, now);
             return new WaitingQueue(0L, true, "주문 가능");
         }
 
         // 대기열에서의 순번 확인
-        Long rank = redisTemplate.opsForZSet().rank(WAIT_ORDER_KEY, member);
+        Long rank = redisTemplate.opsForZSet().rank(room.waitOrderKey(), member);
         if (rank != null) {
             return new WaitingQueue(rank + 1, false, "대기 중입니다.");
         }
@@ -147,34 +229,50 @@ public class QueueServiceImpl implements QueueService {
     }
 
     /*
-     * 1초마다 동작 (스케쥴러)
-     * 주문 완료 및 대기열 퇴장
-     * 현재 처리 중인 유저 수(Active)를 확인하여, 여유 공간만큼만 대기 유저를 진입
-     * @param maxCapacity: 최대 수용량
+     * 주문 대기 상태 일괄 조회 및 Heartbeat (SSE Push)
+     * SSE 연결이 살아 있는 Active 유저는 연결 자체를 Heartbeat 로 보고 Score 갱신
+     * 연결이 끊기면 갱신이 멈추고 대기실 퇴장 시간이 지나면 processRooms 에서 정리됨
+     * @param roomId: 대기실 ID
+     * @param userIdxs: 이 인스턴스에 연결된 유저 인덱스
+     * @return 유저별 대기 상태
      */
     @Override
-    public void allowOrderUser(Long maxCapacity) {
-        // 현재 활동 중인(주문 프로세스 진행 중인) 유저 수 조회
-        Long currentActive = redisTemplate.opsForZSet().zCard(ACTIVE_ORDER_KEY);
-        if (currentActive == null) currentActive = 0L;
-
-        // 여유 슬롯 계산 (최대 허용 - 현재 활동 중)
-        long availableSlots = maxCapacity - currentActive;
-        if (availableSlots <= 0) return;  // 여유가 없으면 아무도 진입시키지 않음
-
-        // 여유 슬롯만큼 대기열(Wait) 앞에서부터 유저 조회
-        Set<Object> allowedUsers = redisTemplate.opsForZSet().range(WAIT_ORDER_KEY, 0, availableSlots - 1);
-        if (allowedUsers == null || allowedUsers.isEmpty()) return;
-
+    public Map<Long, WaitingQueue> getOrderStatuses(String roomId, Collection<Long> userIdxs) {
+
+        Map<Long, WaitingQueue> statuses = new HashMap<>();
+        if (userIdxs.isEmpty()) return statuses;
+
+        QueueRoom room = queueRoomService.getRoom(roomId);
+
+        // 1. 주문 가능한 유저 (Active Set은 수용량 이하로 유지되므로 작음)
+        Set<Object> actives = redisTemplate.opsForZSet().range(room.activeOrderKey(), 0, -1);
+        List<String> heartbeats = new ArrayList<>();
+        List<String> waiting = new ArrayList<>();
+        for (Long userIdx : userIdxs) {
+            String member = String.valueOf(userIdx);
+            if (actives != null && actives.contains(member)) {
+                heartbeats.add(member);
+                statuses.put(userIdx, new WaitingQueue(0L, true, "주문 가능"));
+            } else {
+                waiting.add(member);
+            }
+        }
 
-        long now = System.currentTimeMillis();
-        for (Object user : allowedUsers) {
-            String member = (String) user;
+        // Heartbeat 일괄 갱신 (XX: 그 사이 퇴장한 유저는 다시 추가하지 않음)
+        if (!heartbeats.isEmpty()) {
+            refreshHeartbeats(room.activeOrderKey(), heartbeats);
+        }
 
-            // Active Set으로 이동 및 Wait Set 제거
-            redisTemplate.opsForZSet().add(ACTIVE_ORDER_KEY, member, now);
-            redisTemplate.opsForZSet().remove(WAIT_ORDER_KEY, member);
+        // 2. 대기 중인 유저 순번
+        Map<String, Long> ranks = getRanks(room.waitOrderKey(), waiting);
+        for (String member : waiting) {
+            Long rank = ranks.get(member);
+            statuses.put(Long.valueOf(member), rank != null
+                    ? new WaitingQueue(rank + 1, false, "대기 중입니다.")
+                    : new WaitingQueue(-1L, false, "대기열에 없습니다."));
         }
+
+        return statuses;
     }
 
     /*
@@ -182,31 +280,180 @@ public class QueueServiceImpl implements QueueService {
      * 로직이 끝난 유저를 대기열 시스템에서 완전히 제거하여 슬롯을 확보
      */
     @Override
-    public void exitQueue(Long userIdx) {
+    public void exitQueue(String roomId, Long userIdx) {
+
+        QueueRoom room = queueRoomService.getRoom(roomId);
         String member = String.valueOf(userIdx);
 
-        // Active Set으로 이동 및 Wait Set 제거
-        redisTemplate.opsForZSet().remove(ACTIVE_ORDER_KEY, member);
-        redisTemplate.opsForZSet().remove(WAIT_ORDER_KEY, member);
+        // Active Set 및 Wait Set 제거
+        redisTemplate.opsForZSet().remove(room.activeOrderKey(), member);
+        redisTemplate.opsForZSet().remove(room.waitOrderKey(), member);
     }
 
+    // =================================
+    // 3. 대기실 일괄 처리 (스케쥴러)
+    // =================================
+
     /*
-     * 1초마다 동작 (스케쥴러)
-     * 비활성 유저 자동 퇴장 (Timeout 처리)
-     * 일정 시간 동안 활동(Heartbeat)이 없는 유저를 Active 목록에서 제거
-     * 중간에 이탈한 유저 때문에 슬롯이 낭비되는 것을 방지
-     * @param timeoutMillis: 만료 시간
+     * 1초마다 동작 (스케쥴러, 리더 인스턴스)
+     * 열려 있는 모든 대기실을 Pipeline 한 번으로 처리 (대기실 수와 상관없이 Redis 왕복 1회)
+     * 대기실마다:
+     * 1. 무응답 유저 퇴장 (퇴장 시간 동안 Heartbeat 가 없는 주문 Active 유저 제거, 빈 자리를 같은 tick 에 재사용)
+     * 2. 입장 대기열 -> 입장 (enterRate 명)
+     * 3. 주문 대기열 -> 주문 가능 (orderCapacity 까지)
+     * 4. 입장 대기 인원 / 주문 진행 인원 조회 (입장량 조절 지표)
+     * ※ 각 Lua 스크립트는 한 대기실의 Key 만 사용하므로 Redis Cluster 에서도 동작
+     * @param rooms: 입장량/수용량이 배분된 대기실 목록
+     * @return 대기실별 처리 결과
      */
     @Override
-    public void evictInactiveUsers(long timeoutMillis) {
+    public List<QueueRoomStat> processRooms(List<QueueRoom> rooms) {
+
+        if (rooms.isEmpty()) return List.of();
+
         long now = System.currentTimeMillis();
-        long cutOffTime = now - timeoutMillis;  // 이 시간 이전에 활동한 유저는 퇴장 대상
+        byte[] noCapacityLimit = toBytes(NO_CAPACITY_LIMIT);
+        byte[] nowBytes = toBytes(now);
+
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (QueueRoom room : rooms) {
+                byte[] waitEnter = toBytes(room.waitEnterKey());
+                byte[] activeEnter = toBytes(room.activeEnterKey());
+                byte[] waitOrder = toBytes(room.waitOrderKey());
+                byte[] activeOrder = toBytes(room.activeOrderKey());
+
+                // 1. 무응답 유저 퇴장
+                connection.zSetCommands().zRemRangeByScore(activeOrder, 0, now - room.evictTimeoutMs());
+
+                // 2. 입장
+                connection.scriptingCommands().eval(PROMOTE_SCRIPT_BYTES, ReturnType.INTEGER, 2,
+                        waitEnter, activeEnter, toBytes(room.enterRate()), noCapacityLimit, nowBytes);
+
+                // 3. 주문 진입
+                byte[] capacity = toBytes(room.orderCapacity());
+                connection.scriptingCommands().eval(PROMOTE_SCRIPT_BYTES, ReturnType.INTEGER, 2,
+                        waitOrder, activeOrder, capacity, capacity, nowBytes);
+
+                // 4. 지표
+                connection.zSetCommands().zCard(waitEnter);
+                connection.zSetCommands().zCard(activeOrder);
+            }
+            return null;
+        });
+
+        List<QueueRoomStat> stats = new ArrayList<>(rooms.size());
+        for (int i = 0; i < rooms.size(); i++) {
+            int offset = i * COMMANDS_PER_ROOM;
+            QueueRoomStat stat = new QueueRoomStat(
+                    rooms.get(i).roomId(),
+                    toLong(results.get(offset + 1)),
+                    toLong(results.get(offset + 2)),
+                    toLong(results.get(offset)),
+                    toLong(results.get(offset + 3)),
+                    toLong(results.get(offset + 4))
+            );
+
+            if (stat.evicted() > 0) {
+                log.info("주문 대기열[{}]: 시간 초과로 {}명의 유저를 자동 퇴장 처리했습니다.", stat.roomId(), stat.evicted());
+            }
+            stats.add(stat);
+        }
+
+        return stats;
+    }
+
+    /*
+     * 대기 순번 일괄 조회 (0부터 시작)
+     * 1. 대기열 앞쪽 snapshotSize 명을 한 번에 읽어서 순번 스냅샷 생성
+     * 2. 스냅샷 밖의 유저만 Pipeline ZRANK 한 번으로 조회
+     * @return Member별 순번 (대기열에 없으면 포함되지 않음)
+     */
+    private Map<String, Long> getRanks(String waitKey, List<String> members) {
+
+        Map<String, Long> ranks = new HashMap<>();
+        if (members.isEmpty()) return ranks;
+
+        // 1. 순번 스냅샷 (range 는 Score 순서가 유지되는 LinkedHashSet 반환)
+        Set<Object> head = redisTemplate.opsForZSet().range(waitKey, 0, snapshotSize - 1);
+        Map<Object, Long> snapshot = new HashMap<>();
+        if (head != null) {
+            long rank = 0;
+            for (Object member : head) {
+                snapshot.put(member, rank++);
+            }
+        }
 
-        // Score(마지막 활동 시간)가 cutOffTime보다 작은(오래된) 멤버들 삭제
-        Long removedCount = redisTemplate.opsForZSet().removeRangeByScore(ACTIVE_ORDER_KEY, 0, cutOffTime);
+        List<String> remains = new ArrayList<>();
+        for (String member : members) {
+            Long rank = snapshot.get(member);
+            if (rank != null) {
+                ranks.put(member, rank);
+            } else if (head != null && head.size() >= snapshotSize) {
+                // 스냅샷이 꽉 찼으면 그 뒤에 있을 수 있음
+                remains.add(member);
+            }
+        }
 
-        if (removedCount != null && removedCount > 0) {
-            log.info("주문 대기열: 시간 초과로 {}명의 유저를 자동 퇴장 처리했습니다.", removedCount);
+        // 2. 스냅샷 밖의 유저
+        if (!remains.isEmpty()) {
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                byte[] key = toBytes(waitKey);
+                for (String member : remains) {
+                    connection.zSetCommands().zRank(key, serializeMember(member));
+                }
+                return null;
+            });
+
+            for (int i = 0; i < remains.size(); i++) {
+                if (results.get(i) instanceof Long rank) {
+                    ranks.put(remains.get(i), rank);
+                }
+            }
         }
+
+        return ranks;
+    }
+
+    // Active 유저 Score 를 현재 시각으로 일괄 갱신 (존재하는 Member 만)
+    private void refreshHeartbeats(String activeKey, List<String> members) {
+
+        double now = System.currentTimeMillis();
+        Set<Tuple> tuples = new HashSet<>();
+        for (String member : members) {
+            tuples.add(new DefaultTuple(serializeMember(member), now));
+        }
+
+        redisTemplate.execute((RedisCallback<Long>) connection -> connection.zSetCommands().zAdd(
+                toBytes(activeKey),
+                tuples,
+                RedisZSetCommands.ZAddArgs.ifExists()
+        ));
+    }
+
+    /*
+     * 입장권 발급
+     * 회원은 토큰이 userIdx 이므로 입장권 발급, 비회원(UUID 토큰)은 주문할 수 없으므로 발급하지 않음
+     */
+    private String issuePass(String roomId, String queueToken) {
+        try {
+            return admissionPassService.issue(Long.parseLong(queueToken), roomId);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // RedisTemplate 의 Value Serializer(JSON)로 Member 직렬화 (opsForZSet 으로 저장된 값과 동일하게)
+    @SuppressWarnings("unchecked")
+    private byte[] serializeMember(String member) {
+        return ((RedisSerializer<Object>) redisTemplate.getValueSerializer()).serialize(member);
+    }
+
+    // Key / 스크립트 인자는 JSON이 아닌 문자열로 전달 (Lua에서 숫자로 읽을 수 있도록)
+    private byte[] toBytes(Object value) {
+        return String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private long toLong(Object result) {
+        return result instanceof Long value ? value : 0L;
     }
 }
@@ -0,0 +1,176 @@
+package co.kr.order.service.impl;
+
+import co.kr.order.model.redis.WaitingQueue;
+import co.kr.order.service.QueueRoomService;
+import co.kr.order.service.QueueService;
+import co.kr.order.service.QueueStreamService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * 대기열 상태 SSE Push
+ * 클라이언트가 상태 조회 API를 주기적으로 호출(Polling)하는 대신,
+ * 서버가 tick 마다 한 번 순번 스냅샷을 만들어 연결된 클라이언트에게 변경분만 전송
+ *
+ * - 연결(SseEmitter)은 인스턴스 메모리에 대기실별로 보관하므로 각 인스턴스는 자기에게 연결된 유저만 처리
+ * - 입장 대기열: 입장 허용되면 "admitted" 이벤트 전송 후 연결 종료, 전송에 성공한 뒤에만 입장권 소모
+ * - 주문 대기열: 주문 가능해지면 "admitted" 이벤트 전송, 연결이 유지되는 동안 Heartbeat 갱신
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QueueStreamServiceImpl implements QueueStreamService {
+
+    private final QueueService queueService;
+    private final QueueRoomService queueRoomService;
+
+    private static final String RANK_EVENT = "rank";
+    private static final String ADMITTED_EVENT = "admitted";
+
+    // SSE 연결 유지 시간 (만료되면 클라이언트가 자동 재연결)
+    @Value("${custom.queue.stream.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    // 순번 변화가 없어도 이 시간마다 한 번은 전송 (프록시 idle timeout 방지)
+    @Value("${custom.queue.stream.keep-alive-ms:15000}")
+    private long keepAliveMs;
+
+    // 연결된 클라이언트 [Key: 대기실 ID -> (대기열 토큰 / 유저 인덱스)]
+    private final Map<String, Map<String, Subscriber>> enterSubscribers = new ConcurrentHashMap<>();
+    private final Map<String, Map<Long, Subscriber>> orderSubscribers = new ConcurrentHashMap<>();
+
+    /*
+     * 입장 대기열 구독
+     * @param roomId: 대기실 ID
+     * @param queueToken: 입장 대기열 토큰
+     */
+    @Override
+    public SseEmitter subscribeEnter(String roomId, String queueToken) {
+        queueRoomService.getRoom(roomId);  // 열려 있는 대기실인지 확인
+        return subscribe(enterSubscribers.computeIfAbsent(roomId, id -> new ConcurrentHashMap<>()), queueToken);
+    }
+
+    /*
+     * 주문 대기열 구독
+     * @param roomId: 대기실 ID
+     * @param userIdx: 유저 인덱스
+     */
+    @Override
+    public SseEmitter subscribeOrder(String roomId, Long userIdx) {
+        queueRoomService.getRoom(roomId);  // 열려 있는 대기실인지 확인
+        return subscribe(orderSubscribers.computeIfAbsent(roomId, id -> new ConcurrentHashMap<>()), userIdx);
+    }
+
+    /*
+     * 1초마다 동작 (스케쥴러)
+     * 연결된 유저 전체의 상태를 한 번에 조회해서 Push
+     */
+    @Override
+    public void broadcast() {
+
+        enterSubscribers.forEach((roomId, subscribers) -> {
+            if (subscribers.isEmpty()) return;
+            try {
+                Map<String, WaitingQueue> statuses = queueService.getEnterStatuses(roomId, subscribers.keySet());
+                statuses.forEach((token, status) -> {
+                    // 전송 실패 시 Active 에 남겨둠 -> 재연결 또는 Polling 으로 입장권을 다시 받을 수 있음
+                    if (push(subscribers, token, status, true) && status.isAllowed()) {
+                        queueService.consumeEnter(roomId, token);
+                    }
+                });
+            } catch (RuntimeException e) {
+                // 대기실이 닫혔거나 조회 실패 -> 다른 대기실은 계속 처리
+                log.warn("입장 대기열[{}] 상태 전송 실패", roomId, e);
+            }
+        });
+
+        orderSubscribers.forEach((roomId, subscribers) -> {
+            if (subscribers.isEmpty()) return;
+            try {
+                Map<Long, WaitingQueue> statuses = queueService.getOrderStatuses(roomId, subscribers.keySet());
+                // 주문 가능 상태가 되어도 연결은 유지 (연결이 Heartbeat 역할)
+                statuses.forEach((userIdx, status) -> push(subscribers, userIdx, status, false));
+            } catch (RuntimeException e) {
+                log.warn("주문 대기열[{}] 상태 전송 실패", roomId, e);
+            }
+        });
+    }
+
+    // 연결 생성 및 등록 (같은 Key 로 재연결하면 이전 연결은 종료)
+    private <K> SseEmitter subscribe(Map<K, Subscriber> subscribers, K key) {
+
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(emitter);
+
+        emitter.onCompletion(() -> subscribers.remove(key, subscriber));
+        emitter.onTimeout(() -> subscribers.remove(key, subscriber));
+        emitter.onError(e -> subscribers.remove(key, subscriber));
+
+        Subscriber previous = subscribers.put(key, subscriber);
+        if (previous != null) {
+            previous.emitter.complete();
+        }
+
+        // 연결 직후 응답 헤더를 내려보내기 위한 초기 이벤트 (실제 순번은 다음 tick 에 전송)
+        try {
+            emitter.send(SseEmitter.event().comment("connected"));
+        } catch (IOException e) {
+            subscribers.remove(key, subscriber);
+            emitter.completeWithError(e);
+        }
+
+        return emitter;
+    }
+
+    /*
+     * 상태 전송
+     * 순번이 바뀌었거나 keep-alive 시간이 지났을 때만 전송
+     * @param completeOnAdmit: 입장 허용 시 연결 종료 여부
+     * @return 이번 tick 에 전송에 성공했으면 true
+     */
+    private <K> boolean push(Map<K, Subscriber> subscribers, K key, WaitingQueue status, boolean completeOnAdmit) {
+
+        Subscriber subscriber = subscribers.get(key);
+        if (subscriber == null) return false;
+
+        long now = System.currentTimeMillis();
+        boolean changed = !status.rank().equals(subscriber.lastRank);
+        if (!changed && now - subscriber.lastSentAt < keepAliveMs) return false;
+
+        try {
+            String eventName = status.isAllowed() ? ADMITTED_EVENT : RANK_EVENT;
+            subscriber.emitter.send(SseEmitter.event().name(eventName).data(status));
+            subscriber.lastRank = status.rank();
+            subscriber.lastSentAt = now;
+
+            if (status.isAllowed() && completeOnAdmit) {
+                subscribers.remove(key, subscriber);
+                subscriber.emitter.complete();
+            }
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 연결을 끊은 경우
+            subscribers.remove(key, subscriber);
+            subscriber.emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    // 연결 + 마지막 전송 상태
+    private static class Subscriber {
+        private final SseEmitter emitter;
+        private volatile Long lastRank;
+        private volatile long lastSentAt;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+    }
+}
@@ -3,19 +3,41 @@ package co.kr.order.service.impl;
 import co.kr.order.exception.CustomException;
 import co.kr.order.exception.ErrorCode;
 import co.kr.order.model.dto.SettlementInfo;
+import co.kr.order.model.dto.response.SettlementPageRes;
 import co.kr.order.model.entity.SettlementHistoryEntity;
+import co.kr.order.model.vo.SettlementExportFormat;
 import co.kr.order.model.vo.SettlementType;
+import co.kr.order.repository.SettlementDailyRepository;
 import co.kr.order.repository.SettlementRepository;
+import co.kr.order.service.PartitionMaintenanceService;
 import co.kr.order.service.SettlementService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @Slf4j
 @Service
@@ -24,11 +46,29 @@ import java.util.Map;
  * 정산 서비스 구현
  * - 주문 확정 시 판매자별 정산 레코드 생성 (ORDERS_CONFIRMED)
  * - 환불 시 정산 상태 변경 (CANCEL_ADJUST)
- * - 판매자별 정산 내역 조회
+ * - 일별 정산 집계(Settlement_Daily)를 같은 트랜잭션에서 증감
+ * - 판매자별 정산 내역 조회 (커서 페이징) / 내보내기 (CSV, NDJSON 스트리밍)
+ *   (Hot 테이블만 조회, 아카이브를 켠 경우 보관 기간 이전 범위는 SETTLEMENT_ARCHIVED)
  */
 public class SettlementServiceImpl implements SettlementService {
 
     private final SettlementRepository settlementRepository;
+    private final SettlementDailyRepository settlementDailyRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final PartitionMaintenanceService partitionMaintenanceService;
+
+    // 정산 내역 페이지 기본 크기
+    @Value("${custom.order.settlement.page.default-size:50}")
+    private int defaultPageSize;
+
+    // 정산 내역 페이지 최대 크기
+    @Value("${custom.order.settlement.page.max-size:200}")
+    private int maxPageSize;
+
+    // 내보내기 시 DB 에서 한 번에 받아올 행 수
+    @Value("${custom.order.settlement.export.fetch-size:500}")
+    private int exportFetchSize;
 
     @Override
     @Transactional
@@ -50,9 +90,14 @@ public class SettlementServiceImpl implements SettlementService {
 
 
         log.info("************정산금 엔티티 저장 전************");
-        settlementRepository.saveAll(settlementList);
+        settlementRepository.insertAll(settlementList);
         log.info("************정산금 엔티티 저장 완료************");
 
+        // 일별 집계 증가 (판매자 순서로 갱신해서 동시 주문 간 락 순서를 맞춤)
+        settlementList.stream()
+                .sorted(Comparator.comparing(SettlementHistoryEntity::getSellerIdx))
+                .forEach(entity -> addDaily(entity, entity.getType(), entity.getAmount(), 1));
+
         /*
          * 실제 정산 DB 에 저장되었는지
          */
@@ -87,6 +132,10 @@ public class SettlementServiceImpl implements SettlementService {
                 continue;
             }
 
+            // 일별 집계 이동 (ORDERS_CONFIRMED -> CANCEL_ADJUST)
+            addDaily(settlement, settlement.getType(), settlement.getAmount().negate(), -1);
+            addDaily(settlement, SettlementType.CANCEL_ADJUST, settlement.getAmount(), 1);
+
             settlement.setType(SettlementType.CANCEL_ADJUST);
             log.info("환불 정산 상태 변경 완료: sellerIdx={}, paymentIdx={}", settlement.getSellerIdx(), paymentIdx);
         }
@@ -94,27 +143,100 @@ public class SettlementServiceImpl implements SettlementService {
 
     @Transactional(readOnly = true)
     @Override
-    public List<SettlementInfo> getSettlementList(Long sellerIdx) {
+    public SettlementPageRes getSettlementPage(Long sellerIdx, SettlementType type, LocalDate from, LocalDate to, Long cursor, Integer size) {
+
+        int pageSize = (size == null || size <= 0) ? defaultPageSize : Math.min(size, maxPageSize);
+        LocalDate hotFrom = resolveHotFrom(from);
 
-        List<SettlementHistoryEntity> entities = settlementRepository
-        .findAllBySellerIdx(sellerIdx);
+        // 한 건 더 조회해서 다음 페이지 여부 판단
+        List<SettlementHistoryEntity> entities = settlementRepository.findPageBySellerIdx(
+                sellerIdx,
+                type,
+                hotFrom == null ? null : hotFrom.atStartOfDay(),
+                to == null ? null : to.plusDays(1).atStartOfDay(),
+                cursor,
+                Limit.of(pageSize + 1)
+        );
 
-        List<SettlementInfo> returnSettlementList = new ArrayList<>();
+        boolean hasNext = entities.size() > pageSize;
+        List<SettlementInfo> items = entities.stream()
+                .limit(pageSize)
+                .map(this::toSettlementInfo)
+                .toList();
+        Long nextCursor = hasNext ? items.getLast().settlementIdx() : null;
 
-        for(SettlementHistoryEntity entity : entities) {
-            SettlementInfo settlementInfo = new SettlementInfo(
-                    entity.getSettlementIdx(),
-                    entity.getSellerIdx(),
-                    entity.getPaymentIdx(),
-                    entity.getType().toString(),
-                    entity.getAmount(),
-                    entity.getCreatedAt()
-            );
+        return new SettlementPageRes(items, nextCursor, hasNext);
+    }
+
+    @Override
+    public void exportSettlements(Long sellerIdx, SettlementType type, LocalDate from, LocalDate to,
+                                  SettlementExportFormat format, OutputStream outputStream) throws IOException {
+
+        LocalDate hotFrom = resolveHotFrom(from);
+
+        StringBuilder sql = new StringBuilder("""
+                SELECT Settlement_IDX, Seller_IDX, Payment_IDX, Type, Amount, Created_at
+                FROM Settlement_History
+                WHERE Seller_IDX = ?
+                  AND Del = false
+                """);
+        List<Object> params = new ArrayList<>();
+        params.add(sellerIdx);
+        if (type != null) {
+            sql.append(" AND Type = ?");
+            params.add(type.name());
+        }
+        if (hotFrom != null) {
+            sql.append(" AND Created_at >= ?");
+            params.add(hotFrom.atStartOfDay());
+        }
+        if (to != null) {
+            sql.append(" AND Created_at < ?");
+            params.add(to.plusDays(1).atStartOfDay());
+        }
+        sql.append(" ORDER BY Settlement_IDX");
 
-            returnSettlementList.add(settlementInfo);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (format == SettlementExportFormat.CSV) {
+            writer.write("settlementIdx,sellerIdx,paymentIdx,type,amount,createdAt\n");
         }
 
-        return returnSettlementList;
+        long[] count = {0};
+        try {
+            // 전방향/읽기 전용 커서 + fetchSize 로 결과를 나눠 받음 (전체를 메모리에 올리지 않음)
+            jdbcTemplate.query(
+                    con -> {
+                        PreparedStatement ps = con.prepareStatement(sql.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                        ps.setFetchSize(exportFetchSize);
+                        for (int i = 0; i < params.size(); i++) {
+                            ps.setObject(i + 1, params.get(i));
+                        }
+                        return ps;
+                    },
+                    (RowCallbackHandler) rs -> {
+                        SettlementInfo info = new SettlementInfo(
+                                rs.getLong("Settlement_IDX"),
+                                rs.getLong("Seller_IDX"),
+                                rs.getLong("Payment_IDX"),
+                                rs.getString("Type"),
+                                rs.getBigDecimal("Amount"),
+                                rs.getObject("Created_at", LocalDateTime.class)
+                        );
+                        try {
+                            writeExportLine(writer, format, info);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                        count[0]++;
+                    }
+            );
+        } catch (UncheckedIOException e) {
+            // 클라이언트가 중간에 연결을 끊은 경우
+            throw e.getCause();
+        }
+
+        writer.flush();
+        log.info("정산 내역 내보내기 완료: sellerIdx={}, format={}, 건수={}", sellerIdx, format, count[0]);
     }
 
     @Transactional(readOnly = true)
@@ -126,6 +248,27 @@ public class SettlementServiceImpl implements SettlementService {
                 .orElseThrow(() -> new CustomException(ErrorCode.SETTLEMENT_NOT_FOUND,
                         "정산 정보를 찾을 수 없습니다. sellerIdx=" + sellerIdx + ", paymentIdx=" + paymentIdx));
 
+        return toSettlementInfo(entity);
+    }
+
+    // 조회 시작일 (아카이브를 켠 경우 시작일이 없으면 보관 기간 시작일, 보관 기간 이전이면 SETTLEMENT_ARCHIVED)
+    private LocalDate resolveHotFrom(LocalDate from) {
+        Optional<LocalDate> archivedBefore = partitionMaintenanceService.archivedBefore();
+        if (archivedBefore.isEmpty()) {
+            return from;
+        }
+        if (from == null) {
+            return archivedBefore.get();
+        }
+        if (from.isBefore(archivedBefore.get())) {
+            throw new CustomException(ErrorCode.SETTLEMENT_ARCHIVED,
+                    ErrorCode.SETTLEMENT_ARCHIVED.getMsg() + " 조회 가능 시작일=" + archivedBefore.get() + ", from=" + from);
+        }
+        return from;
+    }
+
+    // 정산 엔티티 -> 응답 정보
+    private SettlementInfo toSettlementInfo(SettlementHistoryEntity entity) {
         return new SettlementInfo(
                 entity.getSettlementIdx(),
                 entity.getSellerIdx(),
@@ -135,4 +278,29 @@ public class SettlementServiceImpl implements SettlementService {
                 entity.getCreatedAt()
         );
     }
+
+    // 내보내기 한 줄 출력 (CSV 값에는 쉼표/따옴표가 들어가지 않아서 그대로 출력)
+    private void writeExportLine(Writer writer, SettlementExportFormat format, SettlementInfo info) throws IOException {
+        if (format == SettlementExportFormat.NDJSON) {
+            writer.write(objectMapper.writeValueAsString(info));
+        } else {
+            writer.write(info.settlementIdx() + "," + info.sellerIdx() + "," + info.paymentIdx() + ","
+                    + info.type() + "," + info.amount().toPlainString() + "," + info.createdAt());
+        }
+        writer.write('\n');
+    }
+
+    /**
+     * 일별 정산 집계 증감
+     * 날짜는 정산 레코드 생성일 기준 (환불/지급으로 유형이 바뀌어도 같은 날짜에서 이동)
+     */
+    private void addDaily(SettlementHistoryEntity settlement, SettlementType type, BigDecimal amount, long recordCount) {
+        settlementDailyRepository.addAmount(
+                settlement.getSellerIdx(),
+                settlement.getCreatedAt().toLocalDate(),
+                type.name(),
+                amount,
+                recordCount
+        );
+    }
 }
@@ -0,0 +1,249 @@
+package co.kr.order.service.impl;
+
+import co.kr.order.service.OrderCodeGenerator;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/*
+ * 시간순 정렬되는 짧은 코드 발급 (Snowflake 방식)
+ * - 64bit = 시간(41bit, ms) + Worker ID(10bit) + 순번(12bit)
+ * - Crockford Base32 13자로 인코딩 -> 문자열 정렬 순서 = 발급 순서 (UUID 36자 대비 짧고, 유니크 인덱스에 뒤쪽으로만 쌓임)
+ * - 인스턴스 안에서는 항상 증가 (시계가 뒤로 가거나 1ms 에 4096개를 넘으면 마지막 시간을 이어서 사용)
+ * - Worker ID 는 Redis Lease 로 인스턴스끼리 겹치지 않게 나눠 가짐 (WorkerConfig 에서 주기적으로 연장)
+ *
+ * Redis 구조:
+ * - order:code:worker:{0~1023} (String) [Lease 소유 인스턴스 ID, TTL = lease-ttl-ms]
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "custom.order.code.generator", havingValue = "snowflake", matchIfMissing = true)
+public class SnowflakeOrderCodeGenerator implements OrderCodeGenerator {
+
+    private final StringRedisTemplate redisTemplate;
+
+    private static final String KEY = "order:code:worker:";
+
+    // 기준 시각 (2025-01-01 00:00:00 KST), 41bit 로 약 69년 사용 가능
+    private static final long EPOCH_MS = 1735657200000L;
+
+    private static final int WORKER_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final int MAX_WORKER_ID = (1 << WORKER_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    // Crockford Base32 (I, L, O, U 제외) - 아스키 순서와 값 순서가 같음
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int CODE_LENGTH = 13;
+    private static final String DECODE = new String(ALPHABET);
+
+    // Worker ID Lease 유지 시간 (인스턴스가 죽으면 이 시간 뒤에 다른 인스턴스가 가져갈 수 있음)
+    @Value("${custom.order.code.lease-ttl-ms:30000}")
+    private long leaseTtlMs;
+
+    // 인스턴스 식별자 (Lease 소유자)
+    private final String instanceId = UUID.randomUUID().toString();
+
+    /*
+     * Worker ID Lease (Worker ID 와 만료 시각을 한 번에 교체)
+     * - 발급 쪽은 lock 없이 읽으므로, 두 값을 따로 두면 만료 확인 후 유실 처리된 Worker ID(-1)를 읽을 수 있음
+     * @param workerId: Worker ID (-1 = 없음)
+     * @param expiresAt: 만료 시각 (ms)
+     */
+    private record Lease(int workerId, long expiresAt) {
+        private static final Lease NONE = new Lease(-1, 0);
+
+        boolean isValid(long now) {
+            return workerId >= 0 && workerId <= MAX_WORKER_ID && now < expiresAt;
+        }
+    }
+
+    private final Object leaseLock = new Object();
+    private volatile Lease lease = Lease.NONE;
+
+    // 마지막 발급 시간(ms)과 순번
+    private long lastTimestamp = -1;
+    private long sequence = 0;
+
+    /*
+     * Lease 연장 (내 것일 때만)
+     * KEYS[1]: Worker Key, ARGV[1]: 인스턴스 ID, ARGV[2]: TTL(ms)
+     */
+    private static final String RENEW_SCRIPT =
+            "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+                    "    redis.call('pexpire', KEYS[1], ARGV[2]) " +
+                    "    return 1 " +
+                    "end " +
+                    "return 0";
+
+    /*
+     * Lease 반납 (내 것일 때만)
+     * KEYS[1]: Worker Key, ARGV[1]: 인스턴스 ID
+     */
+    private static final String RELEASE_SCRIPT =
+            "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+                    "    return redis.call('del', KEYS[1]) " +
+                    "end " +
+                    "return 0";
+
+    private DefaultRedisScript<Long> renewScript;
+    private DefaultRedisScript<Long> releaseScript;
+
+    @PostConstruct
+    public void init() {
+        renewScript = new DefaultRedisScript<>(RENEW_SCRIPT, Long.class);
+        releaseScript = new DefaultRedisScript<>(RELEASE_SCRIPT, Long.class);
+
+        // 기동 시 Redis 가 없어도 뜰 수 있게, 실패하면 첫 발급 / 다음 연장 때 다시 시도
+        try {
+            renewLease();
+        } catch (Exception e) {
+            log.warn("주문 코드 Worker ID 획득 실패 (다음 시도에 재획득) : {}", e.getMessage());
+        }
+    }
+
+    /*
+     * 코드 발급
+     * - Lease 가 만료됐으면 먼저 연장/재획득 (실패하면 다른 인스턴스와 겹칠 수 있으므로 발급하지 않음)
+     * - 확인한 Lease 객체의 Worker ID 를 그대로 사용 (확인 후 다른 스레드가 Lease 를 바꿔도 섞이지 않음)
+     */
+    @Override
+    public String nextCode() {
+
+        Lease current = lease;
+        if (!current.isValid(System.currentTimeMillis())) {
+            renewLease();
+            current = lease;
+            if (!current.isValid(System.currentTimeMillis())) {
+                throw new IllegalStateException("주문 코드 Worker ID Lease 가 없습니다.");
+            }
+        }
+        int worker = current.workerId();
+
+        long timestamp;
+        long seq;
+        synchronized (this) {
+            long now = System.currentTimeMillis();
+            if (now > lastTimestamp) {
+                lastTimestamp = now;
+                sequence = 0;
+            } else {
+                // 같은 ms 이거나 시계가 뒤로 간 경우: 마지막 시간 이어서 사용, 순번을 다 쓰면 다음 ms 를 미리 사용
+                sequence = (sequence + 1) & SEQUENCE_MASK;
+                if (sequence == 0) {
+                    lastTimestamp++;
+                }
+            }
+            timestamp = lastTimestamp;
+            seq = sequence;
+        }
+
+        long id = ((timestamp - EPOCH_MS) << (WORKER_BITS + SEQUENCE_BITS))
+                | ((long) worker << SEQUENCE_BITS)
+                | seq;
+        return encode(id);
+    }
+
+    /*
+     * Worker ID Lease 연장 (없으면 획득)
+     * - 연장에 실패하면 (만료 후 다른 인스턴스가 가져간 경우) 새 Worker ID 획득
+     */
+    @Override
+    public void renewLease() {
+        synchronized (leaseLock) {
+            long requestedAt = System.currentTimeMillis();
+            int workerId = lease.workerId();
+
+            if (workerId >= 0) {
+                Long renewed = redisTemplate.execute(
+                        renewScript,
+                        List.of(KEY + workerId),
+                        instanceId, String.valueOf(leaseTtlMs)
+                );
+                if (renewed != null && renewed == 1L) {
+                    lease = new Lease(workerId, requestedAt + leaseTtlMs);
+                    return;
+                }
+                log.warn("주문 코드 Worker ID Lease 유실 - workerId={}, 재획득 시도", workerId);
+                lease = Lease.NONE;
+            }
+
+            acquire(requestedAt);
+        }
+    }
+
+    // 비어 있는 Worker ID 획득 (인스턴스끼리 같은 번호부터 경쟁하지 않도록 임의 위치부터 탐색)
+    private void acquire(long requestedAt) {
+        int start = ThreadLocalRandom.current().nextInt(MAX_WORKER_ID + 1);
+        for (int i = 0; i <= MAX_WORKER_ID; i++) {
+            int candidate = (start + i) & MAX_WORKER_ID;
+            Boolean acquired = redisTemplate.opsForValue()
+                    .setIfAbsent(KEY + candidate, instanceId, Duration.ofMillis(leaseTtlMs));
+            if (Boolean.TRUE.equals(acquired)) {
+                lease = new Lease(candidate, requestedAt + leaseTtlMs);
+                log.info("주문 코드 Worker ID 획득 - workerId={}, instanceId={}", candidate, instanceId);
+                return;
+            }
+        }
+        throw new IllegalStateException("사용 가능한 주문 코드 Worker ID 가 없습니다.");
+    }
+
+    /*
+     * 코드에서 발급 시각 추출 (상위 41bit + EPOCH)
+     * - 파티션 테이블 조회 시 Created_at 범위를 좁히는 용도
+     * - 13자 Base32 가 아닌 코드 (이전 UUID 코드) 는 empty
+     */
+    @Override
+    public Optional<Instant> issuedAt(String code) {
+        if (code == null || code.length() != CODE_LENGTH) {
+            return Optional.empty();
+        }
+
+        long id = 0;
+        for (int i = 0; i < CODE_LENGTH; i++) {
+            int digit = DECODE.indexOf(code.charAt(i));
+            if (digit < 0) {
+                return Optional.empty();
+            }
+            id = (id << 5) | digit;
+        }
+        return Optional.of(Instant.ofEpochMilli((id >>> (WORKER_BITS + SEQUENCE_BITS)) + EPOCH_MS));
+    }
+
+    // 64bit -> Crockford Base32 13자 (고정 길이라 문자열 정렬 = 숫자 정렬)
+    private static String encode(long id) {
+        char[] chars = new char[CODE_LENGTH];
+        for (int i = CODE_LENGTH - 1; i >= 0; i--) {
+            chars[i] = ALPHABET[(int) (id & 31)];
+            id >>>= 5;
+        }
+        return new String(chars);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        int worker = lease.workerId();
+        if (worker < 0) {
+            return;
+        }
+        try {
+            redisTemplate.execute(releaseScript, List.of(KEY + worker), instanceId);
+        } catch (Exception e) {
+            log.warn("주문 코드 Worker ID 반납 실패 - workerId={} : {}", worker, e.getMessage());
+        }
+    }
+}
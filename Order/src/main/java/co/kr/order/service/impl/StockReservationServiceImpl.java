@@ -0,0 +1,253 @@
+package co.kr.order.service.impl;
+
+import co.kr.order.exception.ErrorCode;
+import co.kr.order.exception.OutOfStockException;
+import co.kr.order.model.dto.ProductInfo;
+import co.kr.order.model.dto.RemainStockInfo;
+import co.kr.order.service.StockReservationService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/*
+ * 재고 예약 장부 (Reservation Ledger)
+ * 주문 생성 시 선차감한 재고를 주문 코드별로 기록해두고,
+ * 결제 콜백(orderSuccess/orderFail)이 오지 않은 주문은 만료 시간이 지나면 자동으로 재고를 복구
+ *
+ * Redis 구조:
+ * - stock:reservation:expiry (ZSet) [Member: 주문 코드, Score: 만료 시각(ms)]
+ * - stock:reservation:{orderCode} (Hash) [Field: 옵션 코드, Value: 예약 수량]
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockReservationServiceImpl implements StockReservationService {
+
+    private final StringRedisTemplate redisTemplate;
+
+    private static final String STOCK_KEY = "product:stock:";
+    private static final String EXPIRY_KEY = "stock:reservation:expiry";
+    private static final String RESERVATION_KEY = "stock:reservation:";
+
+    // 예약 유지 시간 (이 시간 안에 결제 콜백이 없으면 재고 복구)
+    @Value("${custom.order.reservation.ttl-minutes:15}")
+    private long ttlMinutes;
+
+    /*
+     * 재고 차감 + 예약 기록 Lua Script
+     * KEYS[1]: 만료 ZSet, KEYS[2]: 예약 Hash, KEYS[3..]: 재고 Key
+     * ARGV[1]: 주문 코드, ARGV[2]: 만료 시각, ARGV[3..n+2]: 옵션 코드, ARGV[n+3..2n+2]: 주문 개수
+     *
+     * 차감과 장부 기록이 한 스크립트 안에서 끝나므로,
+     * 재고는 빠졌는데 장부에는 없는 상태(영구 유실)가 생기지 않음
+     */
+    private static final String RESERVE_SCRIPT =
+            "local n = #KEYS - 2 " +
+                    "local need = {} " +
+                    "for i = 1, n do " +
+                    "    local key = KEYS[i + 2] " +
+                    "    need[key] = (need[key] or 0) + tonumber(ARGV[n + i + 2]) " +
+                    "end " +
+                    "for i = 1, n do " +
+                    "    local key = KEYS[i + 2] " +
+                    "    local stock = tonumber(redis.call('get', key)) " +
+                    "    if stock == nil or stock < need[key] then return {-i} end " +
+                    "end " +
+                    "local result = {} " +
+                    "for i = 1, n do " +
+                    "    result[i] = redis.call('decrby', KEYS[i + 2], ARGV[n + i + 2]) " +
+                    "    redis.call('hincrby', KEYS[2], ARGV[i + 2], ARGV[n + i + 2]) " +
+                    "end " +
+                    "redis.call('zadd', KEYS[1], ARGV[2], ARGV[1]) " +
+                    "return result";
+
+    /*
+     * 예약 확정 Lua Script (결제 성공)
+     * 장부에서만 제거하고 재고는 그대로 둠
+     * 이미 만료 처리된 예약이면 0 반환
+     */
+    private static final String CONFIRM_SCRIPT =
+            "if redis.call('zrem', KEYS[1], ARGV[1]) == 0 then return 0 end " +
+                    "redis.call('del', KEYS[2]) " +
+                    "return 1";
+
+    /*
+     * 예약 취소 Lua Script (결제 실패 / 만료 회수)
+     * KEYS[1]: 만료 ZSet, KEYS[2]: 예약 Hash, KEYS[3..]: 재고 Key (장부의 옵션 순서대로)
+     * ARGV[1]: 주문 코드, ARGV[2..]: 옵션 코드 (KEYS[3..] 와 같은 순서)
+     *
+     * 재고 Key 는 호출 전에 장부(Hash)를 읽어서 KEYS 로 전달 (스크립트 안에서 Key 를 만들지 않음 -> Redis Cluster 호환)
+     * ZSet에서 제거에 성공한 쪽만 재고를 복구하므로, 결제 실패 콜백과 스케쥴러가 동시에 호출돼도 중복 복구되지 않음
+     * 전달한 옵션과 장부가 다르면 -1 반환 (호출한 쪽에서 장부를 다시 읽고 재시도)
+     */
+    private static final String RELEASE_SCRIPT =
+            "if redis.call('zscore', KEYS[1], ARGV[1]) == false then return 0 end " +
+                    "local items = redis.call('hgetall', KEYS[2]) " +
+                    "if #items / 2 ~= #KEYS - 2 then return -1 end " +
+                    "local qty = {} " +
+                    "for i = 1, #items, 2 do qty[items[i]] = items[i + 1] end " +
+                    "for i = 3, #KEYS do " +
+                    "    if qty[ARGV[i - 1]] == nil then return -1 end " +
+                    "end " +
+                    "redis.call('zrem', KEYS[1], ARGV[1]) " +
+                    "for i = 3, #KEYS do " +
+                    "    redis.call('incrby', KEYS[i], qty[ARGV[i - 1]]) " +
+                    "end " +
+                    "redis.call('del', KEYS[2]) " +
+                    "return 1";
+
+    // 장부가 바뀌어 복구 스크립트가 -1 을 돌려준 경우 재시도 횟수
+    private static final int RELEASE_ATTEMPTS = 3;
+
+    @SuppressWarnings("rawtypes")
+    private DefaultRedisScript<List> reserveScript;
+    private DefaultRedisScript<Long> confirmScript;
+    private DefaultRedisScript<Long> releaseScript;
+
+    @PostConstruct
+    public void init() {
+        reserveScript = new DefaultRedisScript<>(RESERVE_SCRIPT, List.class);
+        confirmScript = new DefaultRedisScript<>(CONFIRM_SCRIPT, Long.class);
+        releaseScript = new DefaultRedisScript<>(RELEASE_SCRIPT, Long.class);
+
+        log.info("Stock Reservation Script Initialized");
+    }
+
+    /*
+     * 재고 예약 (주문 생성)
+     * 재고 차감과 예약 장부 기록을 한 번에 수행 (All or Nothing)
+     * @param orderCode: 주문 코드
+     * @param request: 주문한 상품들 정보
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<RemainStockInfo> reserve(String orderCode, List<ProductInfo> request) {
+
+        List<RemainStockInfo> remainStock = new ArrayList<>();
+
+        if (request.isEmpty()) {
+            return remainStock;
+        }
+
+        int size = request.size();
+        long expireAt = System.currentTimeMillis() + ttlMinutes * 60_000L;
+
+        // Key 세팅 (만료 ZSet, 예약 Hash, 재고 Key들)
+        List<String> keys = new ArrayList<>(size + 2);
+        keys.add(EXPIRY_KEY);
+        keys.add(RESERVATION_KEY + orderCode);
+
+        // ARGV 세팅 (주문 코드, 만료 시각, 옵션 코드들, 주문 개수들)
+        Object[] args = new Object[size * 2 + 2];
+        args[0] = orderCode;
+        args[1] = String.valueOf(expireAt);
+
+        for (int i = 0; i < size; i++) {
+            ProductInfo item = request.get(i);
+            keys.add(STOCK_KEY + item.optionCode());
+            args[i + 2] = item.optionCode();
+            args[size + i + 2] = String.valueOf(item.quantity());
+        }
+
+        List<Long> result = redisTemplate.execute(reserveScript, keys, args);
+
+        // 알 수 없는 오류 (null이 될일이 없음)
+        if (result == null || result.isEmpty()) {
+            throw new RuntimeException("재고 예약 중 알수없는 오류");
+        }
+
+        // 음수면 재고 부족 (-N: N번째 상품에서 실패), 차감/기록 모두 일어나지 않음
+        if (result.get(0) < 0) {
+            int failIndex = (int) (-result.get(0)) - 1;
+            log.info("재고 부족 발생. 예약 취소. orderCode: {}, Item: {}", orderCode, request.get(failIndex).optionCode());
+            throw new OutOfStockException(ErrorCode.OUT_OF_STOCK);
+        }
+
+        for (int i = 0; i < size; i++) {
+            remainStock.add(
+                    new RemainStockInfo(
+                            request.get(i).optionCode(),
+                            result.get(i)
+                    )
+            );
+        }
+
+        return remainStock;
+    }
+
+    /*
+     * 예약 확정 (결제 성공 시)
+     * @param orderCode: 주문 코드
+     * @return 예약이 남아있어서 확정했으면 true, 이미 만료/취소된 예약이면 false
+     */
+    @Override
+    public boolean confirm(String orderCode) {
+        Long result = redisTemplate.execute(
+                confirmScript,
+                List.of(EXPIRY_KEY, RESERVATION_KEY + orderCode),
+                orderCode
+        );
+        return result != null && result == 1L;
+    }
+
+    /*
+     * 예약 취소 및 재고 복구 (결제 실패 / 만료 회수)
+     * 장부를 읽어서 재고 Key 를 KEYS 로 넘긴 뒤 스크립트에서 한 번에 복구
+     * @param orderCode: 주문 코드
+     * @return 이번 호출로 재고를 복구했으면 true, 이미 처리된 예약이면 false
+     */
+    @Override
+    public boolean release(String orderCode) {
+
+        String reservationKey = RESERVATION_KEY + orderCode;
+        for (int attempt = 0; attempt < RELEASE_ATTEMPTS; attempt++) {
+
+            Map<Object, Object> items = redisTemplate.opsForHash().entries(reservationKey);
+
+            // Key 세팅 (만료 ZSet, 예약 Hash, 재고 Key들) / ARGV 세팅 (주문 코드, 옵션 코드들)
+            List<String> keys = new ArrayList<>(items.size() + 2);
+            keys.add(EXPIRY_KEY);
+            keys.add(reservationKey);
+            Object[] args = new Object[items.size() + 1];
+            args[0] = orderCode;
+
+            int i = 1;
+            for (Object optionCode : items.keySet()) {
+                keys.add(STOCK_KEY + optionCode);
+                args[i++] = optionCode;
+            }
+
+            Long result = redisTemplate.execute(releaseScript, keys, args);
+            if (result == null) {
+                throw new RuntimeException("재고 예약 취소 중 알수없는 오류");
+            }
+            if (result >= 0) {
+                return result == 1L;
+            }
+        }
+        throw new IllegalStateException("재고 예약 장부가 계속 변경되어 복구하지 못함. orderCode=" + orderCode);
+    }
+
+    /*
+     * 만료된 예약 조회 (스케쥴러)
+     * 여기서는 장부를 건드리지 않음 -> 호출한 쪽이 DB 에서 주문을 취소한 뒤 release 로 재고 복구
+     * (DB 취소가 실패하면 장부가 그대로 남아서 다음 주기에 다시 시도)
+     * @param batchSize: 한 번에 조회할 최대 주문 수
+     * @return 만료 시각이 지난 주문 코드 리스트 (만료 순)
+     */
+    @Override
+    public List<String> findExpired(int batchSize) {
+        Set<String> expired = redisTemplate.opsForZSet()
+                .rangeByScore(EXPIRY_KEY, Double.NEGATIVE_INFINITY, System.currentTimeMillis(), 0, batchSize);
+        return expired == null ? List.of() : List.copyOf(expired);
+    }
+}
@@ -0,0 +1,21 @@
+package co.kr.order.service.impl;
+
+import co.kr.order.service.OrderCodeGenerator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+/*
+ * 랜덤 UUID 코드 발급 (이전 방식, 36자)
+ * - 비교 / 롤백용 (custom.order.code.generator=uuid)
+ */
+@Service
+@ConditionalOnProperty(name = "custom.order.code.generator", havingValue = "uuid")
+public class UuidOrderCodeGenerator implements OrderCodeGenerator {
+
+    @Override
+    public String nextCode() {
+        return UUID.randomUUID().toString();
+    }
+}
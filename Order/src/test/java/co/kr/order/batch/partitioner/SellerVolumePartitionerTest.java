@@ -0,0 +1,184 @@
+package co.kr.order.batch.partitioner;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SellerVolumePartitioner(java/co/kr/order/batch/partitioner/SellerVolumePartitioner.java 참고) 단위 테스트
+ * Settlement_Daily 는 H2 메모리 DB 에 만들어서 사용
+ */
+@DisplayName("SellerVolumePartitioner 단위 테스트")
+class SellerVolumePartitionerTest {
+
+    private static final String TARGET_MONTH = "2026-09";
+
+    private DataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private StepExecution managerStepExecution;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+                CREATE TABLE Settlement_Daily (
+                    Seller_IDX BIGINT NOT NULL,
+                    Type VARCHAR(30) NOT NULL,
+                    Settle_Date DATE NOT NULL,
+                    Record_Count BIGINT NOT NULL
+                )
+                """);
+        managerStepExecution = MetaDataInstanceFactory.createStepExecution();
+    }
+
+    private void daily(long sellerIdx, String type, LocalDate settleDate, long recordCount) {
+        jdbcTemplate.update("INSERT INTO Settlement_Daily (Seller_IDX, Type, Settle_Date, Record_Count) VALUES (?, ?, ?, ?)",
+                sellerIdx, type, settleDate, recordCount);
+    }
+
+    private void confirmed(long sellerIdx, long recordCount) {
+        daily(sellerIdx, "ORDERS_CONFIRMED", LocalDate.of(2026, 9, 15), recordCount);
+    }
+
+    private Map<String, ExecutionContext> partition(long recordsPerWorker, int partitionsPerWorker, int gridSize) {
+        return new SellerVolumePartitioner(dataSource, managerStepExecution, TARGET_MONTH, recordsPerWorker, partitionsPerWorker)
+                .partition(gridSize);
+    }
+
+    private int workerCount() {
+        return managerStepExecution.getExecutionContext().getInt(SellerVolumePartitioner.WORKER_COUNT_KEY);
+    }
+
+    // 파티션 범위 [min, max] 가 판매자 순서대로 겹치지 않는지 확인하고, 파티션 순서대로 반환
+    private List<ExecutionContext> ordered(Map<String, ExecutionContext> partitions) {
+        List<ExecutionContext> contexts = new ArrayList<>();
+        for (int i = 0; i < partitions.size(); i++) {
+            ExecutionContext context = partitions.get("partition" + i);
+            assertNotNull(context, "partition0 부터 순서대로 이름이 붙어야 합니다.");
+            assertTrue(context.getLong("minSellerIdx") <= context.getLong("maxSellerIdx"));
+            if (!contexts.isEmpty()) {
+                assertTrue(contexts.getLast().getLong("maxSellerIdx") < context.getLong("minSellerIdx"), "범위가 겹치면 안 됩니다.");
+            }
+            contexts.add(context);
+        }
+        return contexts;
+    }
+
+    @Test
+    @DisplayName("빈 데이터 테스트: 대상 건수가 없으면 파티션을 만들지 않아야 함")
+    void emptyTest() {
+        // When
+        Map<String, ExecutionContext> partitions = partition(100, 1, 4);
+
+        // Then
+        assertTrue(partitions.isEmpty());
+        assertFalse(managerStepExecution.getExecutionContext().containsKey(SellerVolumePartitioner.WORKER_COUNT_KEY));
+    }
+
+    @Test
+    @DisplayName("균등 분할 테스트: 누적 건수가 목표치에 도달할 때마다 범위를 잘라야 함")
+    void evenSplitTest() {
+        // Given (판매자 4명 x 100건, Worker 당 200건)
+        for (long seller = 1; seller <= 4; seller++) {
+            confirmed(seller, 100);
+        }
+
+        // When
+        List<ExecutionContext> partitions = ordered(partition(200, 1, 4));
+
+        // Then
+        assertEquals(2, workerCount());
+        assertEquals(2, partitions.size());
+        assertEquals(1L, partitions.get(0).getLong("minSellerIdx"));
+        assertEquals(2L, partitions.get(0).getLong("maxSellerIdx"));
+        assertEquals(3L, partitions.get(1).getLong("minSellerIdx"));
+        assertEquals(4L, partitions.get(1).getLong("maxSellerIdx"));
+        partitions.forEach(context -> {
+            assertEquals(200L, context.getLong("plannedRecords"));
+            assertEquals("range", context.getString("partitionKind"));
+        });
+    }
+
+    @Test
+    @DisplayName("대형 판매자 테스트: 혼자 목표치 이상인 판매자는 단독 파티션으로 분리되어야 함")
+    void heavySellerTest() {
+        // Given (전체 540건, Worker 3 -> 목표치 180건, 3번 판매자만 500건)
+        confirmed(1, 10);
+        confirmed(2, 10);
+        confirmed(3, 500);
+        confirmed(4, 10);
+        confirmed(5, 10);
+
+        // When
+        List<ExecutionContext> partitions = ordered(partition(100, 1, 3));
+
+        // Then
+        assertEquals(3, workerCount());
+        assertEquals(3, partitions.size());
+
+        assertEquals("range", partitions.get(0).getString("partitionKind"));
+        assertEquals(1L, partitions.get(0).getLong("minSellerIdx"));
+        assertEquals(2L, partitions.get(0).getLong("maxSellerIdx"));
+
+        assertEquals("heavy", partitions.get(1).getString("partitionKind"));
+        assertEquals(3L, partitions.get(1).getLong("minSellerIdx"));
+        assertEquals(3L, partitions.get(1).getLong("maxSellerIdx"));
+        assertEquals(500L, partitions.get(1).getLong("plannedRecords"));
+
+        assertEquals("range", partitions.get(2).getString("partitionKind"));
+        assertEquals(4L, partitions.get(2).getLong("minSellerIdx"));
+        assertEquals(5L, partitions.get(2).getLong("maxSellerIdx"));
+    }
+
+    @Test
+    @DisplayName("Worker 수 테스트: 필요한 Worker 수가 gridSize 를 넘으면 gridSize 로 제한되어야 함")
+    void gridSizeCapTest() {
+        // Given
+        for (long seller = 1; seller <= 10; seller++) {
+            confirmed(seller, 50);
+        }
+
+        // When (Worker 당 1건 -> 500명이 필요하지만 gridSize 는 2, Worker 당 파티션 3개 -> 목표치 84건)
+        List<ExecutionContext> partitions = ordered(partition(1, 3, 2));
+
+        // Then (판매자 2명씩 묶여서 5개)
+        assertEquals(2, workerCount());
+        assertEquals(5, partitions.size());
+        assertEquals(500L, partitions.stream().mapToLong(context -> context.getLong("plannedRecords")).sum());
+    }
+
+    @Test
+    @DisplayName("집계 범위 테스트: 대상 월의 주문 완료 건만 합산해야 함")
+    void filterTest() {
+        // Given
+        confirmed(1, 30);
+        daily(1, "ORDERS_CONFIRMED", LocalDate.of(2026, 9, 30), 20);
+        daily(1, "ORDERS_CONFIRMED", LocalDate.of(2026, 10, 1), 1000);
+        daily(1, "CANCEL_ADJUST", LocalDate.of(2026, 9, 15), 1000);
+        daily(2, "SETTLE_PAYOUT", LocalDate.of(2026, 9, 15), 1000);
+
+        // When
+        List<ExecutionContext> partitions = ordered(partition(100, 1, 4));
+
+        // Then
+        assertEquals(1, partitions.size());
+        assertEquals(1L, partitions.get(0).getLong("minSellerIdx"));
+        assertEquals(1L, partitions.get(0).getLong("maxSellerIdx"));
+        assertEquals(50L, partitions.get(0).getLong("plannedRecords"));
+    }
+}
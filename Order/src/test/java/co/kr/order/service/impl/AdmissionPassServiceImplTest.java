@@ -0,0 +1,110 @@
+package co.kr.order.service.impl;
+
+import co.kr.order.exception.InvalidAdmissionPassException;
+import co.kr.order.model.dto.AdmissionPass;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AdmissionPassServiceImpl(java/co/kr/order/service/impl/AdmissionPassServiceImpl.java 참고) 단위 테스트
+ */
+@DisplayName("AdmissionPassServiceImpl 단위 테스트")
+class AdmissionPassServiceImplTest {
+
+    private static final String SECRET = "test-admission-pass-secret-key-32bytes!";
+
+    private final AdmissionPassServiceImpl passService = new AdmissionPassServiceImpl(SECRET, 30);
+
+    @Test
+    @DisplayName("발급/검증 테스트: 발급한 입장권은 본인이 한 번 사용할 수 있고, 발급한 대기실을 알 수 있어야 함")
+    void issueAndConsumeTest() {
+        // Given
+        String pass = passService.issue(1L, "drop-1");
+
+        // When
+        AdmissionPass admitted = passService.consume(pass, 1L);
+
+        // Then
+        assertNotNull(admitted.nonce());
+        assertEquals("drop-1", admitted.queueId());
+        assertTrue(pass.contains("."), "payload.signature 형식이어야 합니다.");
+    }
+
+    @Test
+    @DisplayName("재사용 테스트: 같은 입장권을 두 번 사용하면 예외가 발생해야 함")
+    void replayTest() {
+        // Given
+        String pass = passService.issue(1L, "default");
+        passService.consume(pass, 1L);
+
+        // When & Then
+        assertThrows(InvalidAdmissionPassException.class, () -> passService.consume(pass, 1L));
+    }
+
+    @Test
+    @DisplayName("반납 테스트: 주문 실패로 반납한 입장권은 다시 사용할 수 있어야 함")
+    void restoreTest() {
+        // Given
+        String pass = passService.issue(1L, "default");
+        String nonce = passService.consume(pass, 1L).nonce();
+
+        // When
+        passService.restore(nonce);
+
+        // Then
+        assertEquals(nonce, passService.consume(pass, 1L).nonce());
+    }
+
+    @Test
+    @DisplayName("본인 확인 테스트: 다른 유저의 입장권은 거부되어야 함")
+    void otherUserTest() {
+        // Given
+        String pass = passService.issue(1L, "default");
+
+        // When & Then
+        assertThrows(InvalidAdmissionPassException.class, () -> passService.consume(pass, 2L));
+        assertDoesNotThrow(() -> passService.consume(pass, 1L), "거부된 시도로 입장권이 소모되면 안 됩니다.");
+    }
+
+    @Test
+    @DisplayName("위조 테스트: payload 를 바꾸거나 다른 키로 서명한 입장권은 거부되어야 함")
+    void forgedPassTest() {
+        // Given
+        String pass = passService.issue(1L, "default");
+        String signature = pass.substring(pass.indexOf('.') + 1);
+        String payload = new String(Base64.getUrlDecoder().decode(pass.substring(0, pass.indexOf('.'))), StandardCharsets.UTF_8);
+        String tampered = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(payload.replaceFirst("^1:", "2:").getBytes(StandardCharsets.UTF_8)) + "." + signature;
+
+        String otherKeyPass = new AdmissionPassServiceImpl("another-secret-key-for-test-32bytes!!", 30).issue(1L, "default");
+
+        // When & Then
+        assertThrows(InvalidAdmissionPassException.class, () -> passService.consume(tampered, 2L));
+        assertThrows(InvalidAdmissionPassException.class, () -> passService.consume(otherKeyPass, 1L));
+    }
+
+    @Test
+    @DisplayName("만료 테스트: 만료 시각이 지난 입장권은 거부되어야 함")
+    void expiredPassTest() {
+        // Given
+        AdmissionPassServiceImpl expiredService = new AdmissionPassServiceImpl(SECRET, -1);
+        String pass = expiredService.issue(1L, "default");
+
+        // When & Then
+        assertThrows(InvalidAdmissionPassException.class, () -> expiredService.consume(pass, 1L));
+    }
+
+    @Test
+    @DisplayName("형식 테스트: 비어 있거나 형식이 잘못된 입장권은 거부되어야 함")
+    void malformedPassTest() {
+        assertThrows(InvalidAdmissionPassException.class, () -> passService.consume(null, 1L));
+        assertThrows(InvalidAdmissionPassException.class, () -> passService.consume("no-dot", 1L));
+        assertThrows(InvalidAdmissionPassException.class, () -> passService.consume("!!!.???", 1L));
+        assertThrows(InvalidAdmissionPassException.class, () -> passService.consume(passService.issue(1L, "default"), null));
+    }
+}
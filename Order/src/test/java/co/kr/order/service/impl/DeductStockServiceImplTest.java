@@ -0,0 +1,143 @@
+package co.kr.order.service.impl;
+
+import co.kr.order.exception.OutOfStockException;
+import co.kr.order.model.dto.ProductInfo;
+import co.kr.order.model.dto.RemainStockInfo;
+import co.kr.order.support.LocalRedis;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * DeductStockServiceImpl(java/co/kr/order/service/impl/DeductStockServiceImpl.java 참고) 단위 테스트
+ * 다중 상품 차감 Lua Script 의 All or Nothing 동작 검증 (로컬 Redis 필요)
+ */
+@DisplayName("DeductStockServiceImpl 단위 테스트")
+class DeductStockServiceImplTest {
+
+    private LettuceConnectionFactory factory;
+    private StringRedisTemplate redisTemplate;
+    private DeductStockServiceImpl deductStockService;
+
+    private final List<String> keys = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        factory = LocalRedis.connect();
+        redisTemplate = LocalRedis.template(factory);
+        deductStockService = new DeductStockServiceImpl(redisTemplate);
+        deductStockService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (redisTemplate != null) {
+            redisTemplate.delete(keys);
+        }
+        if (factory != null) {
+            factory.destroy();
+        }
+    }
+
+    private String stock(long quantity) {
+        String optionCode = "test-" + UUID.randomUUID();
+        String key = "product:stock:" + optionCode;
+        keys.add(key);
+        redisTemplate.opsForValue().set(key, String.valueOf(quantity));
+        return optionCode;
+    }
+
+    private long stockOf(String optionCode) {
+        return Long.parseLong(redisTemplate.opsForValue().get("product:stock:" + optionCode));
+    }
+
+    @Test
+    @DisplayName("다중 상품 차감 테스트: 모든 재고가 충분하면 전부 차감되고 남은 재고를 반환해야 함")
+    void decreaseStocksSuccessTest() {
+        // Given
+        String first = stock(10);
+        String second = stock(5);
+
+        // When
+        List<RemainStockInfo> result = deductStockService.decreaseStocks(List.of(
+                new ProductInfo("P1", first, 3),
+                new ProductInfo("P2", second, 5)
+        ));
+
+        // Then
+        assertEquals(List.of(new RemainStockInfo(first, 7L), new RemainStockInfo(second, 0L)), result);
+        assertEquals(7L, stockOf(first));
+        assertEquals(0L, stockOf(second));
+    }
+
+    @Test
+    @DisplayName("다중 상품 차감 테스트: 하나라도 재고가 부족하면 아무것도 차감하지 않아야 함")
+    void decreaseStocksAllOrNothingTest() {
+        // Given
+        String enough = stock(10);
+        String lacking = stock(1);
+
+        // When & Then
+        assertThrows(OutOfStockException.class, () -> deductStockService.decreaseStocks(List.of(
+                new ProductInfo("P1", enough, 3),
+                new ProductInfo("P2", lacking, 2)
+        )));
+        assertEquals(10L, stockOf(enough), "앞 상품의 재고도 그대로여야 합니다.");
+        assertEquals(1L, stockOf(lacking));
+    }
+
+    @Test
+    @DisplayName("다중 상품 차감 테스트: 같은 옵션이 여러 번 들어오면 합산 수량으로 검사해야 함")
+    void decreaseStocksDuplicateKeyTest() {
+        // Given
+        String optionCode = stock(4);
+
+        // When & Then
+        assertThrows(OutOfStockException.class, () -> deductStockService.decreaseStocks(List.of(
+                new ProductInfo("P1", optionCode, 3),
+                new ProductInfo("P1", optionCode, 2)
+        )));
+        assertEquals(4L, stockOf(optionCode));
+    }
+
+    @Test
+    @DisplayName("다중 상품 차감 테스트: 재고 Key 가 없으면 재고 부족으로 처리해야 함")
+    void decreaseStocksMissingKeyTest() {
+        // Given
+        String enough = stock(10);
+        String missing = "test-" + UUID.randomUUID();
+        keys.add("product:stock:" + missing);
+
+        // When & Then
+        assertThrows(OutOfStockException.class, () -> deductStockService.decreaseStocks(List.of(
+                new ProductInfo("P1", enough, 1),
+                new ProductInfo("P2", missing, 1)
+        )));
+        assertEquals(10L, stockOf(enough));
+        assertFalse(redisTemplate.hasKey("product:stock:" + missing));
+    }
+
+    @Test
+    @DisplayName("단일 상품 차감 테스트: 재고가 부족하면 예외가 발생하고 재고는 유지되어야 함")
+    void decreaseStockTest() {
+        // Given
+        String optionCode = stock(2);
+
+        // When
+        Long remain = deductStockService.decreaseStock(optionCode, 2);
+
+        // Then
+        assertEquals(0L, remain);
+        assertThrows(OutOfStockException.class, () -> deductStockService.decreaseStock(optionCode, 1));
+        assertEquals(0L, stockOf(optionCode));
+    }
+}
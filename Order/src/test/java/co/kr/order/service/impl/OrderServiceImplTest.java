@@ -0,0 +1,214 @@
+package co.kr.order.service.impl;
+
+import co.kr.order.exception.CustomException;
+import co.kr.order.exception.ErrorCode;
+import co.kr.order.exception.OrderArchivedException;
+import co.kr.order.exception.OrderNotFoundException;
+import co.kr.order.model.dto.OrderSummary;
+import co.kr.order.model.dto.response.OrderPageRes;
+import co.kr.order.model.entity.OrderCodeEntity;
+import co.kr.order.model.entity.OrderEntity;
+import co.kr.order.repository.OrderCodeJpaRepository;
+import co.kr.order.repository.OrderItemJpaRepository;
+import co.kr.order.repository.OrderJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * OrderServiceImpl(java/co/kr/order/service/impl/OrderServiceImpl.java 참고) 단위 테스트
+ * 주문 목록 커서 페이징 (커서 생성/해석, 잘못된 커서)
+ * 주문 코드 색인 조회 (Hot 테이블 조회, 아카이브된 주문, 다른 유저의 주문)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderServiceImpl 주문 목록 커서 / 주문 코드 조회 단위 테스트")
+class OrderServiceImplTest {
+
+    private static final Long USER_IDX = 1L;
+
+    @Mock
+    private OrderJpaRepository orderRepository;
+
+    @Mock
+    private OrderItemJpaRepository orderItemRepository;
+
+    @Mock
+    private OrderCodeJpaRepository orderCodeRepository;
+
+    @InjectMocks
+    private OrderServiceImpl orderService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(orderService, "maxHistoryPageSize", 50);
+    }
+
+    // 최신순 주문 count 개 (createdAt 이 1분씩 과거로)
+    private List<OrderSummary> summaries(long firstIdx, LocalDateTime firstAt, int count) {
+        List<OrderSummary> list = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            list.add(new OrderSummary(firstIdx - i, "CODE" + (firstIdx - i), firstAt.minusMinutes(i)));
+        }
+        return list;
+    }
+
+    private String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("커서 생성/해석 테스트: 다음 페이지 요청 시 이전 페이지 마지막 주문의 (주문일, 인덱스)로 조회해야 함")
+    void cursorRoundTripTest() {
+        // Given (나노초까지 있는 주문일)
+        LocalDateTime firstAt = LocalDateTime.of(2026, 9, 15, 10, 20, 30, 123_456_000);
+        when(orderRepository.findPageByUserIdx(eq(USER_IDX), isNull(), isNull(), any(Limit.class)))
+                .thenReturn(summaries(100L, firstAt, 3));
+
+        // When
+        OrderPageRes firstPage = orderService.findOrderList(USER_IDX, null, 2, false);
+
+        // Then
+        assertTrue(firstPage.hasNext());
+        assertEquals(2, firstPage.items().size());
+        assertNotNull(firstPage.nextCursor());
+        assertNull(firstPage.totalCount());
+
+        // Given (두 번째 페이지)
+        LocalDateTime lastAt = firstAt.minusMinutes(1);
+        when(orderRepository.findPageByUserIdx(eq(USER_IDX), eq(lastAt), eq(99L), any(Limit.class)))
+                .thenReturn(summaries(98L, lastAt.minusMinutes(1), 1));
+
+        // When
+        OrderPageRes secondPage = orderService.findOrderList(USER_IDX, firstPage.nextCursor(), 2, false);
+
+        // Then
+        assertFalse(secondPage.hasNext());
+        assertNull(secondPage.nextCursor());
+        assertEquals("CODE98", secondPage.items().getFirst().orderCode());
+        verify(orderRepository).findPageByUserIdx(eq(USER_IDX), eq(lastAt), eq(99L), eq(Limit.of(3)));
+    }
+
+    @Test
+    @DisplayName("페이지 크기 테스트: 요청 크기는 최대 크기로 제한되고 한 건 더 조회해야 함")
+    void pageSizeTest() {
+        // Given
+        ReflectionTestUtils.setField(orderService, "maxHistoryPageSize", 5);
+        when(orderRepository.findPageByUserIdx(eq(USER_IDX), isNull(), isNull(), any(Limit.class)))
+                .thenReturn(List.of());
+        when(orderRepository.countByUserIdx(USER_IDX)).thenReturn(0L);
+
+        // When
+        OrderPageRes page = orderService.findOrderList(USER_IDX, null, 100, true);
+
+        // Then
+        verify(orderRepository).findPageByUserIdx(USER_IDX, null, null, Limit.of(6));
+        assertTrue(page.items().isEmpty());
+        assertFalse(page.hasNext());
+        assertEquals(0L, page.totalCount());
+        verifyNoInteractions(orderItemRepository);
+    }
+
+    @Test
+    @DisplayName("잘못된 커서 테스트: 해석할 수 없는 커서는 INVALID_CURSOR 로 거부하고 조회하지 않아야 함")
+    void invalidCursorTest() {
+        List<String> invalidCursors = List.of(
+                "!!not-base64!!",
+                encode("no-delimiter"),
+                encode("2026-09-15T10:20:30_abc"),
+                encode("not-a-date_10"),
+                encode("2026-09-15T10:20:30_")
+        );
+
+        for (String cursor : invalidCursors) {
+            CustomException e = assertThrows(CustomException.class,
+                    () -> orderService.findOrderList(USER_IDX, cursor, 10, false), cursor);
+            assertEquals(ErrorCode.INVALID_CURSOR.getCode(), e.getCode());
+        }
+        verifyNoInteractions(orderRepository, orderItemRepository);
+    }
+
+    // 주문 코드 색인 (Orders_Code) 행
+    private OrderCodeEntity indexed(String orderCode, Long orderIdx, Long userIdx, LocalDateTime createdAt) {
+        OrderCodeEntity entity = BeanUtils.instantiateClass(OrderCodeEntity.class);
+        ReflectionTestUtils.setField(entity, "orderCode", orderCode);
+        ReflectionTestUtils.setField(entity, "orderIdx", orderIdx);
+        ReflectionTestUtils.setField(entity, "userIdx", userIdx);
+        ReflectionTestUtils.setField(entity, "createdAt", createdAt);
+        return entity;
+    }
+
+    @Test
+    @DisplayName("주문 코드 색인 조회 테스트: 색인의 (Orders_IDX, Created_at) 로 Hot 테이블을 조회해야 함")
+    void indexedOrderLookupTest() {
+        // Given
+        LocalDateTime createdAt = LocalDateTime.of(2026, 9, 15, 10, 20, 30);
+        OrderEntity order = OrderEntity.builder()
+                .userIdx(USER_IDX)
+                .orderCode("CODE7")
+                .itemsAmount(BigDecimal.ZERO)
+                .totalAmount(BigDecimal.ZERO)
+                .build();
+        ReflectionTestUtils.setField(order, "id", 7L);
+        when(orderCodeRepository.findById("CODE7")).thenReturn(Optional.of(indexed("CODE7", 7L, USER_IDX, createdAt)));
+        when(orderRepository.findByIdAndCreatedAt(7L, createdAt)).thenReturn(Optional.of(order));
+
+        // When
+        Long orderIdx = orderService.findOrderIdx("CODE7");
+
+        // Then
+        assertEquals(7L, orderIdx);
+        verify(orderRepository, never()).findByOrderCode(anyString());
+    }
+
+    @Test
+    @DisplayName("아카이브된 주문 테스트: 색인에는 있는데 Hot 테이블에 없으면 ORDER_ARCHIVED 로 거부해야 함")
+    void archivedOrderTest() {
+        // Given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 10, 9, 0);
+        when(orderCodeRepository.findById("OLD1")).thenReturn(Optional.of(indexed("OLD1", 1L, USER_IDX, createdAt)));
+        when(orderRepository.findByIdAndCreatedAt(1L, createdAt)).thenReturn(Optional.empty());
+
+        // When & Then (환불 / 주문 상세 모두 거부)
+        OrderArchivedException refund = assertThrows(OrderArchivedException.class,
+                () -> orderService.orderRefund("OLD1", 100L));
+        assertEquals(ErrorCode.ORDER_ARCHIVED, refund.getErrorCode());
+
+        OrderArchivedException detail = assertThrows(OrderArchivedException.class,
+                () -> orderService.findOrder(USER_IDX, "OLD1"));
+        assertEquals(ErrorCode.ORDER_ARCHIVED, detail.getErrorCode());
+        verifyNoInteractions(orderItemRepository);
+    }
+
+    @Test
+    @DisplayName("다른 유저 주문 테스트: 색인의 유저가 다르면 아카이브 여부를 알리지 않고 ORDER_NOT_FOUND 여야 함")
+    void otherUsersOrderTest() {
+        // Given
+        when(orderCodeRepository.findById("CODE9"))
+                .thenReturn(Optional.of(indexed("CODE9", 9L, 2L, LocalDateTime.of(2024, 1, 10, 9, 0))));
+
+        // When & Then
+        OrderNotFoundException e = assertThrows(OrderNotFoundException.class,
+                () -> orderService.findOrder(USER_IDX, "CODE9"));
+        assertEquals(ErrorCode.ORDER_NOT_FOUND, e.getErrorCode());
+        verifyNoInteractions(orderRepository);
+    }
+}
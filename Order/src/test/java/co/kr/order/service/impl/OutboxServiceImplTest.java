@@ -0,0 +1,121 @@
+package co.kr.order.service.impl;
+
+import co.kr.order.model.dto.event.StockUpdateMsg;
+import co.kr.order.model.entity.StockOutboxEntity;
+import co.kr.order.repository.StockOutboxRepository;
+import co.kr.order.service.KafkaService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * OutboxServiceImpl(java/co/kr/order/service/impl/OutboxServiceImpl.java 참고) 단위 테스트
+ * Relay 발행 / ack 대기 제한 / 읽을 수 없는 메시지 실패 처리
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxServiceImpl Relay 단위 테스트")
+class OutboxServiceImplTest {
+
+    @Mock
+    private StockOutboxRepository outboxRepository;
+
+    @Mock
+    private KafkaService kafkaService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private OutboxServiceImpl outboxService;
+
+    @BeforeEach
+    void setUp() {
+        outboxService = new OutboxServiceImpl(outboxRepository, kafkaService, objectMapper);
+        ReflectionTestUtils.setField(outboxService, "sendTimeoutMs", 100L);
+    }
+
+    private StockOutboxEntity outbox(String msgCode, String payload) {
+        return StockOutboxEntity.builder()
+                .msgCode(msgCode)
+                .msgKey("ORDER-" + msgCode)
+                .payload(payload)
+                .build();
+    }
+
+    private String payload(String msgCode) throws Exception {
+        return objectMapper.writeValueAsString(new StockUpdateMsg(msgCode, "ORDER-" + msgCode, List.of()));
+    }
+
+    @Test
+    @DisplayName("발행 테스트: 모든 ack 를 받으면 발행한 메시지를 삭제해야 함")
+    void relayTest() throws Exception {
+        // Given
+        List<StockOutboxEntity> pending = List.of(outbox("M1", payload("M1")), outbox("M2", payload("M2")));
+        when(outboxRepository.findPendingForUpdate(10)).thenReturn(pending);
+        when(kafkaService.sendStockUpdate(any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        // When
+        int relayed = outboxService.relayStockUpdates(10);
+
+        // Then
+        assertEquals(2, relayed);
+        verify(outboxRepository).deleteAllInBatch(pending);
+    }
+
+    @Test
+    @DisplayName("ack 대기 제한 테스트: send-timeout-ms 안에 ack 가 오지 않으면 삭제하지 않고 예외(롤백)여야 함")
+    void sendTimeoutTest() throws Exception {
+        // Given (완료되지 않는 전송)
+        when(outboxRepository.findPendingForUpdate(10)).thenReturn(List.of(outbox("M1", payload("M1"))));
+        when(kafkaService.sendStockUpdate(any())).thenReturn(new CompletableFuture<>());
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> outboxService.relayStockUpdates(10));
+        verify(outboxRepository, never()).deleteAllInBatch(any());
+    }
+
+    @Test
+    @DisplayName("전송 실패 테스트: 전송이 바로 실패하면 나머지는 보내지 않고 예외(롤백)여야 함")
+    void sendFailFastTest() throws Exception {
+        // Given
+        when(outboxRepository.findPendingForUpdate(10))
+                .thenReturn(List.of(outbox("M1", payload("M1")), outbox("M2", payload("M2"))));
+        when(kafkaService.sendStockUpdate(any()))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("broker down")));
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> outboxService.relayStockUpdates(10));
+        verify(kafkaService, times(1)).sendStockUpdate(any());
+        verify(outboxRepository, never()).deleteAllInBatch(any());
+    }
+
+    @Test
+    @DisplayName("역직렬화 실패 테스트: 읽을 수 없는 메시지는 삭제하지 않고 실패 상태로 남겨야 함")
+    void undeserializableTest() throws Exception {
+        // Given
+        StockOutboxEntity broken = outbox("BAD", "{not-json");
+        StockOutboxEntity valid = outbox("M1", payload("M1"));
+        when(outboxRepository.findPendingForUpdate(10)).thenReturn(List.of(broken, valid));
+        when(kafkaService.sendStockUpdate(any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        // When
+        int relayed = outboxService.relayStockUpdates(10);
+
+        // Then
+        assertEquals(2, relayed);
+        assertNotNull(broken.getFailedAt());
+        assertNotNull(broken.getFailReason());
+        assertNull(valid.getFailedAt());
+        verify(outboxRepository).deleteAllInBatch(List.of(valid));
+    }
+}
@@ -0,0 +1,121 @@
+package co.kr.order.service.impl;
+
+import co.kr.order.model.dto.request.ClientProductReq;
+import co.kr.order.model.dto.response.ClientProductRes;
+import co.kr.order.service.ProductLookupService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ProductSnapshotServiceImpl(java/co/kr/order/service/impl/ProductSnapshotServiceImpl.java 참고) 단위 테스트
+ * 무효화 전에 시작된 조회 결과가 로컬 캐시에 다시 저장되지 않는지 확인 (Redis 쪽은 Lua 스크립트가 같은 비교를 함)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductSnapshotServiceImpl 무효화 단위 테스트")
+class ProductSnapshotServiceImplTest {
+
+    private static final ClientProductReq REQUEST = new ClientProductReq("PRD-1", "OPT-1");
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    @Mock
+    private ProductLookupService productLookupService;
+
+    private ProductSnapshotServiceImpl snapshotService;
+
+    @BeforeEach
+    void setUp() {
+        snapshotService = new ProductSnapshotServiceImpl(redisTemplate, productLookupService, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(snapshotService, "ttlSeconds", 300L);
+        ReflectionTestUtils.setField(snapshotService, "localMaxSize", 100);
+        ReflectionTestUtils.setField(snapshotService, "freshMs", 30_000L);
+        ReflectionTestUtils.setField(snapshotService, "staleMs", 300_000L);
+        ReflectionTestUtils.setField(snapshotService, "tombstoneMs", 60_000L);
+
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        doReturn(RedisSerializer.json()).when(redisTemplate).getValueSerializer();
+    }
+
+    private ClientProductRes snapshot(String price, long readAt) {
+        return new ClientProductRes(1L, 1L, "PRD-1", "OPT-1", 1L, "상품", "옵션",
+                new BigDecimal(price), 10, "ON_SALE", readAt);
+    }
+
+    @Test
+    @DisplayName("무효화 테스트: 변경 전에 시작된 Product 조회 결과는 반환만 하고 로컬 캐시에는 저장하지 않아야 함")
+    void staleLoadNotCachedTest() {
+        // Given (변경 시각으로 무효화, 조회는 그보다 먼저 시작)
+        long now = System.currentTimeMillis();
+        snapshotService.evictLocal(List.of("OPT-1"), now);
+        when(valueOperations.multiGet(anyList())).thenReturn(Arrays.asList((Object) null));
+        when(productLookupService.getProducts(anyList()))
+                .thenReturn(Map.of("OPT-1", snapshot("1000", now - 1)));
+
+        // When
+        Map<String, ClientProductRes> first = snapshotService.getFreshSnapshots(List.of(REQUEST));
+        snapshotService.getFreshSnapshots(List.of(REQUEST));
+
+        // Then (캐시되지 않아 두 번 모두 Product 조회)
+        assertEquals(new BigDecimal("1000"), first.get("OPT-1").price());
+        verify(productLookupService, times(2)).getProducts(anyList());
+    }
+
+    @Test
+    @DisplayName("무효화 테스트: 변경 후에 시작된 조회 결과는 로컬 캐시에 저장되어야 함")
+    void freshLoadCachedTest() {
+        // Given
+        long now = System.currentTimeMillis();
+        snapshotService.evictLocal(List.of("OPT-1"), now - 1);
+        when(valueOperations.multiGet(anyList())).thenReturn(Arrays.asList((Object) null));
+        when(productLookupService.getProducts(anyList()))
+                .thenReturn(Map.of("OPT-1", snapshot("2000", now)));
+
+        // When
+        snapshotService.getFreshSnapshots(List.of(REQUEST));
+        Map<String, ClientProductRes> second = snapshotService.getFreshSnapshots(List.of(REQUEST));
+
+        // Then (두 번째는 로컬 캐시)
+        assertEquals(new BigDecimal("2000"), second.get("OPT-1").price());
+        verify(productLookupService, times(1)).getProducts(anyList());
+    }
+
+    @Test
+    @DisplayName("무효화 테스트: Redis 무효화가 늦어 남아 있는 옛 값은 없는 것으로 보고 Product 에서 다시 받아야 함")
+    void staleRedisValueIgnoredTest() {
+        // Given (로컬은 무효화됐지만 Redis 에는 변경 전 값)
+        long now = System.currentTimeMillis();
+        snapshotService.evictLocal(List.of("OPT-1"), now);
+        when(valueOperations.multiGet(anyList())).thenReturn(Arrays.asList((Object) snapshot("1000", now - 1)));
+        when(productLookupService.getProducts(anyList()))
+                .thenReturn(Map.of("OPT-1", snapshot("2000", now + 1)));
+
+        // When
+        Map<String, ClientProductRes> result = snapshotService.getFreshSnapshots(List.of(REQUEST));
+
+        // Then
+        assertEquals(new BigDecimal("2000"), result.get("OPT-1").price());
+        verify(productLookupService).getProducts(List.of(REQUEST));
+    }
+}
@@ -0,0 +1,67 @@
+package co.kr.order.service.impl;
+
+import co.kr.order.exception.ErrorCode;
+import co.kr.order.exception.InvalidAdmissionPassException;
+import co.kr.order.model.redis.QueueRoom;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * QueueRoomServiceImpl(java/co/kr/order/service/impl/QueueRoomServiceImpl.java 참고) 단위 테스트
+ * 입장권 대기실과 주문 상품의 전용 대기실 비교
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("QueueRoomServiceImpl 입장권 대기실 단위 테스트")
+class QueueRoomServiceImplTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private QueueRoomServiceImpl queueRoomService;
+
+    @BeforeEach
+    void setUp() {
+        queueRoomService = new QueueRoomServiceImpl(redisTemplate);
+
+        // 기본 대기실 + 상품 코드 HOT-1 전용 대기실
+        ReflectionTestUtils.setField(queueRoomService, "rooms", Map.of(
+                QueueRoom.DEFAULT_ROOM, new QueueRoom(QueueRoom.DEFAULT_ROOM, 50, 100, 600_000),
+                "HOT-1", new QueueRoom("HOT-1", 10, 20, 600_000)
+        ));
+    }
+
+    @Test
+    @DisplayName("대기실 확인 테스트: 전용 대기실이 있는 상품은 그 대기실 입장권으로 주문할 수 있어야 함")
+    void matchingRoomTest() {
+        assertDoesNotThrow(() -> queueRoomService.checkAdmission("HOT-1", List.of("HOT-1")));
+    }
+
+    @Test
+    @DisplayName("대기실 확인 테스트: 전용 대기실이 있는 상품을 다른 대기실 입장권으로 주문하면 거부되어야 함")
+    void otherRoomTest() {
+        // When
+        InvalidAdmissionPassException e = assertThrows(InvalidAdmissionPassException.class,
+                () -> queueRoomService.checkAdmission(QueueRoom.DEFAULT_ROOM, List.of("PLAIN-1", "HOT-1")));
+
+        // Then
+        assertEquals(ErrorCode.ADMISSION_ROOM_MISMATCH, e.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("대기실 확인 테스트: 전용 대기실이 없는 상품은 어느 대기실 입장권이든 허용되어야 함")
+    void noDedicatedRoomTest() {
+        assertDoesNotThrow(() -> queueRoomService.checkAdmission(QueueRoom.DEFAULT_ROOM, List.of("PLAIN-1")));
+        assertDoesNotThrow(() -> queueRoomService.checkAdmission("HOT-1", List.of("PLAIN-1")));
+    }
+}
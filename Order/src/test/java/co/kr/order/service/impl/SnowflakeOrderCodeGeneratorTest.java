@@ -0,0 +1,185 @@
+package co.kr.order.service.impl;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * SnowflakeOrderCodeGenerator(java/co/kr/order/service/impl/SnowflakeOrderCodeGenerator.java 참고) 단위 테스트
+ * Worker ID Lease 는 Mock Redis 로 항상 획득되도록 설정
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SnowflakeOrderCodeGenerator 단위 테스트")
+class SnowflakeOrderCodeGeneratorTest {
+
+    // SnowflakeOrderCodeGenerator.EPOCH_MS 와 동일 (2025-01-01 00:00:00 KST)
+    private static final long EPOCH_MS = 1735657200000L;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private SnowflakeOrderCodeGenerator generator(boolean leaseAvailable) {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(leaseAvailable);
+
+        SnowflakeOrderCodeGenerator generator = new SnowflakeOrderCodeGenerator(redisTemplate);
+        ReflectionTestUtils.setField(generator, "leaseTtlMs", 60_000L);
+        generator.init();
+        return generator;
+    }
+
+    private static String encode(long id) {
+        return ReflectionTestUtils.invokeMethod(SnowflakeOrderCodeGenerator.class, "encode", id);
+    }
+
+    @Test
+    @DisplayName("인코딩 테스트: 13자 Crockford Base32 이고 발급 시각을 다시 꺼낼 수 있어야 함")
+    void encodeIssuedAtRoundTripTest() {
+        // Given
+        SnowflakeOrderCodeGenerator generator = generator(true);
+        long timestamp = Instant.parse("2026-09-15T01:20:30.123Z").toEpochMilli();
+        long id = ((timestamp - EPOCH_MS) << 22) | (1023L << 12) | 4095L;
+
+        // When
+        String code = encode(id);
+
+        // Then
+        assertEquals(13, code.length());
+        assertTrue(code.matches("[0-9A-HJKMNP-TV-Z]{13}"), "Crockford Base32 문자만 사용해야 합니다: " + code);
+        assertEquals(Optional.of(Instant.ofEpochMilli(timestamp)), generator.issuedAt(code));
+    }
+
+    @Test
+    @DisplayName("발급 시각 테스트: 발급한 코드의 시각은 발급 전후 시각 사이여야 함")
+    void nextCodeIssuedAtTest() {
+        // Given
+        SnowflakeOrderCodeGenerator generator = generator(true);
+        long before = System.currentTimeMillis();
+
+        // When
+        String code = generator.nextCode();
+        long after = System.currentTimeMillis();
+
+        // Then
+        Instant issuedAt = generator.issuedAt(code).orElseThrow();
+        assertFalse(issuedAt.isBefore(Instant.ofEpochMilli(before)));
+        assertFalse(issuedAt.isAfter(Instant.ofEpochMilli(after)));
+    }
+
+    @Test
+    @DisplayName("정렬 테스트: 숫자 순서와 문자열 순서가 같아야 함")
+    void encodeOrderTest() {
+        List<Long> ids = List.of(0L, 1L, 31L, 32L, 4095L, 1L << 22, (1L << 40) + 7, Long.MAX_VALUE);
+        for (int i = 1; i < ids.size(); i++) {
+            assertTrue(encode(ids.get(i - 1)).compareTo(encode(ids.get(i))) < 0,
+                    ids.get(i - 1) + " < " + ids.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("단조 증가 테스트: 1ms 순번(4096개)을 넘겨 연속 발급해도 항상 증가해야 함")
+    void monotonicTest() {
+        // Given
+        SnowflakeOrderCodeGenerator generator = generator(true);
+
+        // When & Then
+        String previous = generator.nextCode();
+        for (int i = 0; i < 20_000; i++) {
+            String code = generator.nextCode();
+            assertTrue(previous.compareTo(code) < 0, previous + " -> " + code);
+            previous = code;
+        }
+    }
+
+    @Test
+    @DisplayName("동시 발급 테스트: 여러 스레드에서 발급해도 코드가 겹치지 않아야 함")
+    void concurrentUniqueTest() throws Exception {
+        // Given
+        SnowflakeOrderCodeGenerator generator = generator(true);
+        Set<String> codes = ConcurrentHashMap.newKeySet();
+        int threads = 8;
+        int perThread = 5_000;
+
+        // When
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        codes.add(generator.nextCode());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        // Then
+        assertEquals(threads * perThread, codes.size());
+    }
+
+    @Test
+    @DisplayName("이전 코드 테스트: UUID 등 13자 Base32 가 아닌 코드는 발급 시각이 없어야 함")
+    void legacyCodeTest() {
+        // Given
+        SnowflakeOrderCodeGenerator generator = generator(true);
+
+        // When & Then
+        assertTrue(generator.issuedAt(UUID.randomUUID().toString()).isEmpty());
+        assertTrue(generator.issuedAt(null).isEmpty());
+        assertTrue(generator.issuedAt("0123456789ABU").isEmpty(), "U 는 Crockford Base32 문자가 아닙니다.");
+    }
+
+    @Test
+    @DisplayName("Lease 테스트: Worker ID 를 획득하지 못하면 코드를 발급하지 않아야 함")
+    void noLeaseTest() {
+        // Given
+        SnowflakeOrderCodeGenerator generator = generator(false);
+
+        // When & Then
+        assertThrows(IllegalStateException.class, generator::nextCode);
+    }
+
+    @Test
+    @DisplayName("Lease 유실 테스트: 연장에 실패해 Worker ID 를 잃으면 다시 획득하기 전까지 코드를 발급하지 않아야 함")
+    void lostLeaseTest() {
+        // Given (처음에는 획득, 연장 실패 후 재획득도 실패)
+        SnowflakeOrderCodeGenerator generator = generator(true);
+        String before = generator.nextCode();
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).thenReturn(0L);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+
+        // When
+        assertThrows(IllegalStateException.class, generator::renewLease);
+
+        // Then (Worker ID -1 로 만든 코드가 나가지 않아야 함)
+        assertThrows(IllegalStateException.class, generator::nextCode);
+        assertTrue(generator.issuedAt(before).isPresent());
+    }
+}
@@ -0,0 +1,187 @@
+package co.kr.order.service.impl;
+
+import co.kr.order.exception.OutOfStockException;
+import co.kr.order.model.dto.ProductInfo;
+import co.kr.order.model.dto.RemainStockInfo;
+import co.kr.order.support.LocalRedis;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * StockReservationServiceImpl(java/co/kr/order/service/impl/StockReservationServiceImpl.java 참고) 단위 테스트
+ * 재고 예약 / 확정 / 만료 회수 Lua Script 동작 검증 (로컬 Redis 필요)
+ */
+@DisplayName("StockReservationServiceImpl 단위 테스트")
+class StockReservationServiceImplTest {
+
+    private static final String EXPIRY_KEY = "stock:reservation:expiry";
+
+    private LettuceConnectionFactory factory;
+    private StringRedisTemplate redisTemplate;
+    private StockReservationServiceImpl reservationService;
+
+    private final List<String> keys = new ArrayList<>();
+    private final List<String> orderCodes = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        factory = LocalRedis.connect();
+        redisTemplate = LocalRedis.template(factory);
+        reservationService = new StockReservationServiceImpl(redisTemplate);
+        ReflectionTestUtils.setField(reservationService, "ttlMinutes", 15L);
+        reservationService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (redisTemplate != null) {
+            for (String orderCode : orderCodes) {
+                redisTemplate.opsForZSet().remove(EXPIRY_KEY, orderCode);
+                keys.add("stock:reservation:" + orderCode);
+            }
+            redisTemplate.delete(keys);
+        }
+        if (factory != null) {
+            factory.destroy();
+        }
+    }
+
+    private String stock(long quantity) {
+        String optionCode = "test-" + UUID.randomUUID();
+        String key = "product:stock:" + optionCode;
+        keys.add(key);
+        redisTemplate.opsForValue().set(key, String.valueOf(quantity));
+        return optionCode;
+    }
+
+    private long stockOf(String optionCode) {
+        return Long.parseLong(redisTemplate.opsForValue().get("product:stock:" + optionCode));
+    }
+
+    private String orderCode() {
+        String orderCode = "test-" + UUID.randomUUID();
+        orderCodes.add(orderCode);
+        return orderCode;
+    }
+
+    private boolean hasReservation(String orderCode) {
+        return redisTemplate.opsForZSet().score(EXPIRY_KEY, orderCode) != null
+                || redisTemplate.hasKey("stock:reservation:" + orderCode);
+    }
+
+    @Test
+    @DisplayName("예약 테스트: 재고가 차감되고 주문 코드별 장부가 기록되어야 함")
+    void reserveTest() {
+        // Given
+        String optionCode = stock(10);
+        String orderCode = orderCode();
+
+        // When
+        List<RemainStockInfo> result = reservationService.reserve(orderCode, List.of(new ProductInfo("P1", optionCode, 3)));
+
+        // Then
+        assertEquals(List.of(new RemainStockInfo(optionCode, 7L)), result);
+        assertEquals(7L, stockOf(optionCode));
+        assertNotNull(redisTemplate.opsForZSet().score(EXPIRY_KEY, orderCode));
+        assertEquals("3", redisTemplate.opsForHash().get("stock:reservation:" + orderCode, optionCode));
+    }
+
+    @Test
+    @DisplayName("예약 테스트: 재고가 부족하면 차감도 장부 기록도 일어나지 않아야 함")
+    void reserveOutOfStockTest() {
+        // Given
+        String enough = stock(10);
+        String lacking = stock(1);
+        String orderCode = orderCode();
+
+        // When & Then
+        assertThrows(OutOfStockException.class, () -> reservationService.reserve(orderCode, List.of(
+                new ProductInfo("P1", enough, 2),
+                new ProductInfo("P2", lacking, 2)
+        )));
+        assertEquals(10L, stockOf(enough));
+        assertEquals(1L, stockOf(lacking));
+        assertFalse(hasReservation(orderCode));
+    }
+
+    @Test
+    @DisplayName("확정 테스트: 장부만 지워지고 차감된 재고는 유지되어야 하며, 두 번째 확정은 false")
+    void confirmTest() {
+        // Given
+        String optionCode = stock(10);
+        String orderCode = orderCode();
+        reservationService.reserve(orderCode, List.of(new ProductInfo("P1", optionCode, 4)));
+
+        // When
+        boolean first = reservationService.confirm(orderCode);
+        boolean second = reservationService.confirm(orderCode);
+
+        // Then
+        assertTrue(first);
+        assertFalse(second);
+        assertEquals(6L, stockOf(optionCode));
+        assertFalse(hasReservation(orderCode));
+        assertFalse(reservationService.release(orderCode), "확정된 예약은 복구되면 안 됩니다.");
+        assertEquals(6L, stockOf(optionCode));
+    }
+
+    @Test
+    @DisplayName("만료 테스트: 만료된 예약이 조회되고, 복구는 한 번만 반영되어야 함")
+    void expireTest() throws InterruptedException {
+        // Given
+        ReflectionTestUtils.setField(reservationService, "ttlMinutes", 0L);
+        String first = stock(10);
+        String second = stock(5);
+        String orderCode = orderCode();
+        reservationService.reserve(orderCode, List.of(
+                new ProductInfo("P1", first, 3),
+                new ProductInfo("P2", second, 5),
+                new ProductInfo("P1", first, 2)
+        ));
+        Thread.sleep(5);
+
+        // When
+        List<String> expired = reservationService.findExpired(Integer.MAX_VALUE);
+
+        // Then
+        assertTrue(expired.contains(orderCode));
+        assertTrue(hasReservation(orderCode), "조회만으로 장부가 지워지면 안 됩니다.");
+
+        assertTrue(reservationService.release(orderCode));
+        assertFalse(reservationService.release(orderCode), "두 번째 복구는 반영되면 안 됩니다.");
+        assertEquals(10L, stockOf(first));
+        assertEquals(5L, stockOf(second));
+        assertFalse(hasReservation(orderCode));
+        assertFalse(reservationService.findExpired(Integer.MAX_VALUE).contains(orderCode));
+    }
+
+    @Test
+    @DisplayName("만료 테스트: 확정된 예약은 만료 대상에 포함되지 않아야 함")
+    void confirmedNotExpiredTest() throws InterruptedException {
+        // Given
+        ReflectionTestUtils.setField(reservationService, "ttlMinutes", 0L);
+        String optionCode = stock(10);
+        String orderCode = orderCode();
+        reservationService.reserve(orderCode, List.of(new ProductInfo("P1", optionCode, 1)));
+        reservationService.confirm(orderCode);
+        Thread.sleep(5);
+
+        // When
+        List<String> expired = reservationService.findExpired(Integer.MAX_VALUE);
+
+        // Then
+        assertFalse(expired.contains(orderCode));
+        assertEquals(9L, stockOf(optionCode));
+    }
+}
@@ -0,0 +1,39 @@
+package co.kr.order.support;
+
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Lua Script 테스트용 로컬 Redis 연결 (localhost:6379, Infra/docker-compose.yml 참고)
+ * Lua 는 Mock 으로 검증할 수 없으므로 실제 Redis 에 실행하고, Redis 가 떠 있지 않으면 테스트를 건너뜀
+ */
+public final class LocalRedis {
+
+    private LocalRedis() {}
+
+    public static LettuceConnectionFactory connect() {
+        LettuceConnectionFactory factory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", 6379));
+        factory.afterPropertiesSet();
+
+        boolean available;
+        try {
+            available = "PONG".equals(factory.getConnection().ping());
+        } catch (Exception e) {
+            available = false;
+        }
+        if (!available) {
+            factory.destroy();
+        }
+        assumeTrue(available, "로컬 Redis(localhost:6379)가 없어서 테스트를 건너뜁니다.");
+        return factory;
+    }
+
+    public static StringRedisTemplate template(LettuceConnectionFactory factory) {
+        StringRedisTemplate template = new StringRedisTemplate(factory);
+        template.afterPropertiesSet();
+        return template;
+    }
+}
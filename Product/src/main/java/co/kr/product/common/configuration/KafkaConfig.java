@@ -16,6 +16,16 @@ public class KafkaConfig {
     @Value("${custom.kafka.topic.product-stock.event}")
     private String productStockTopic;
 
+    // 리스너 concurrency 만큼 파티션이 있어야 병렬 소비가 의미 있음
+    @Value("${custom.kafka.topic.product-stock.partitions:6}")
+    private int productStockPartitions;
+
+    @Value("${custom.kafka.topic.product-stock.dead-letter:product-stock-update.DLT}")
+    private String productStockDeadLetterTopic;
+
+    @Value("${custom.kafka.topic.product-change.event:product-change}")
+    private String productChangeTopic;
+
     @Bean
     public KafkaTemplate<String, Object> kafkaTemplate(
             ProducerFactory<String, Object> producerFactory
@@ -27,6 +37,23 @@ public class KafkaConfig {
     public NewTopic createProductStockTopic(){
         return TopicBuilder
                 .name(productStockTopic)
+                .partitions(productStockPartitions)
+                .build();
+    }
+
+    // DB 반영에 실패한 재고 차감 건 (수동 확인용)
+    @Bean
+    public NewTopic createProductStockDeadLetterTopic(){
+        return TopicBuilder
+                .name(productStockDeadLetterTopic)
+                .build();
+    }
+
+    // 상품 가격/상태 변경 (Order 상품 스냅샷 캐시 무효화)
+    @Bean
+    public NewTopic createProductChangeTopic(){
+        return TopicBuilder
+                .name(productChangeTopic)
                 .build();
     }
 
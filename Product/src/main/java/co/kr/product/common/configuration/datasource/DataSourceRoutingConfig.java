@@ -0,0 +1,112 @@
+package co.kr.product.common.configuration.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+/*
+ * 읽기/쓰기 DataSource 분리 설정 (custom.datasource.replica.enabled=true 일 때만 적용)
+ * - Primary: spring.datasource 설정 그대로 사용 (쓰기 + 일반 트랜잭션)
+ * - Replica: custom.datasource.replica.url (readOnly 트랜잭션)
+ * - 라우팅 DataSource 를 LazyConnectionDataSourceProxy 로 감싸서
+ *   트랜잭션의 readOnly 여부가 정해진 뒤(첫 쿼리 시점)에 커넥션을 가져옴
+ * - 복제 지연이 크거나 방금 쓰기한 유저면 readOnly 라도 Primary 사용
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "custom.datasource.replica", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    // Replica 접속 정보 (계정은 비우면 Primary 계정 사용)
+    @Value("${custom.datasource.replica.url}")
+    private String replicaUrl;
+
+    @Value("${custom.datasource.replica.username:}")
+    private String replicaUsername;
+
+    @Value("${custom.datasource.replica.password:}")
+    private String replicaPassword;
+
+    // Replica 커넥션 풀 크기
+    @Value("${custom.datasource.replica.maximum-pool-size:10}")
+    private int replicaPoolSize;
+
+    // 허용 복제 지연 (초, Seconds_Behind_Master 기준) -> 넘으면 Primary 로 읽음
+    @Value("${custom.datasource.replica.max-lag-seconds:1}")
+    private long maxLagSeconds;
+
+    // 복제 지연 확인 주기
+    @Value("${custom.datasource.replica.lag-check-ms:1000}")
+    private long lagCheckMs;
+
+    // 쓰기 후 해당 유저의 읽기를 Primary 로 고정하는 시간 (read-your-writes)
+    @Value("${custom.datasource.replica.pin-ms:5000}")
+    private long pinMs;
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("replica");
+        dataSource.setJdbcUrl(replicaUrl);
+        if (!replicaUsername.isBlank()) {
+            dataSource.setUsername(replicaUsername);
+            dataSource.setPassword(replicaPassword);
+        }
+        dataSource.setMaximumPoolSize(replicaPoolSize);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource) {
+        return new ReplicaLagMonitor(replicaDataSource, maxLagSeconds, lagCheckMs);
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(StringRedisTemplate stringRedisTemplate) {
+        return new ReadYourWritesTracker(stringRedisTemplate, Duration.ofMillis(pinMs));
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter() {
+        return new ReadYourWritesFilter();
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReplicaLagMonitor replicaLagMonitor,
+            ReadYourWritesTracker readYourWritesTracker
+    ) {
+        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource(replicaLagMonitor, readYourWritesTracker);
+        routingDataSource.setTargetDataSources(Map.of(
+                ReplicationRoutingDataSource.Route.PRIMARY, primaryDataSource,
+                ReplicationRoutingDataSource.Route.REPLICA, replicaDataSource
+        ));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
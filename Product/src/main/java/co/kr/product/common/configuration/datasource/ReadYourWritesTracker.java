@@ -0,0 +1,76 @@
+package co.kr.product.common.configuration.datasource;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+/*
+ * read-your-writes 고정 관리
+ * - 요청 유저(X-USERS-IDX)는 ReadYourWritesFilter 가 요청 스레드에 바인딩
+ * - 유저의 쓰기가 커밋되면 Redis(db:ryw:{userIdx})에 고정 시간만큼 표시 -> 다른 인스턴스에서도 Primary 로 읽음
+ * - 한 요청 안에서는 조회 결과를 재사용 (readOnly 트랜잭션마다 Redis 를 다시 보지 않음)
+ * - Redis 조회 실패 시 Primary 로 읽음
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ReadYourWritesTracker {
+
+    private static final String KEY = "db:ryw:";
+
+    private static final ThreadLocal<String> CURRENT_USER = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration pinWindow;
+
+    static void bind(String userIdx) {
+        CURRENT_USER.set(userIdx);
+    }
+
+    static void clear() {
+        CURRENT_USER.remove();
+        PINNED.remove();
+    }
+
+    public String currentUser() {
+        return CURRENT_USER.get();
+    }
+
+    // 현재 유저가 최근에 쓰기를 했는지 (유저 없는 요청 / 스케쥴러 / Consumer 는 고정 안 함)
+    public boolean isPinned() {
+        String userIdx = CURRENT_USER.get();
+        if (userIdx == null) {
+            return false;
+        }
+
+        Boolean pinned = PINNED.get();
+        if (pinned == null) {
+            try {
+                pinned = Boolean.TRUE.equals(redisTemplate.hasKey(KEY + userIdx));
+            } catch (Exception e) {
+                log.warn("read-your-writes 조회 실패, Primary 사용 : {}", e.getMessage());
+                pinned = true;
+            }
+            PINNED.set(pinned);
+        }
+        return pinned;
+    }
+
+    // 현재 유저를 고정 시간 동안 Primary 에 고정
+    public void pin() {
+        String userIdx = CURRENT_USER.get();
+        if (userIdx == null) {
+            return;
+        }
+
+        PINNED.set(true);
+        try {
+            redisTemplate.opsForValue().set(KEY + userIdx, "1", pinWindow);
+        } catch (Exception e) {
+            // 같은 요청 안에서는 고정 유지, 다음 요청부터는 복제 지연 감시에만 의존
+            log.warn("read-your-writes 고정 실패 : userIdx={}, {}", userIdx, e.getMessage());
+        }
+    }
+}
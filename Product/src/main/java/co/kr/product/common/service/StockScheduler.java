@@ -3,18 +3,132 @@ package co.kr.product.common.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class StockScheduler {
 
-    @Scheduled(fixedDelay = 1000 * 60 * 1)
-    @Transactional
+    private final JdbcTemplate jdbcTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${custom.redis.product-stock-key}")
+    private String PRODUCT_STOCK_KEY;
+
+    // 한 번에 검사할 옵션 수
+    @Value("${custom.stock.drift.batch-size:500}")
+    private int batchSize;
+
+    // 마지막으로 검사한 Option_Group_IDX (여러 인스턴스가 진행 상황을 공유)
+    private static final String DRIFT_CURSOR_KEY = "stock:drift:cursor";
+
+    /**
+     * 조회 시점의 값과 같을 때만 덮어쓰기 (Compare And Set)
+     * 조회 ~ 보정 사이에 주문으로 재고가 바뀌었으면 건드리지 않고 다음 회차에 다시 확인
+     * KEYS[i]: 재고 key, ARGV[2i-1]: 조회 시점 redis 값, ARGV[2i]: db 재고
+     */
+    private static final DefaultRedisScript<Long> CORRECT_SCRIPT = new DefaultRedisScript<>(
+            "local fixed = 0 " +
+                    "for i = 1, #KEYS do " +
+                    "    if redis.call('get', KEYS[i]) == ARGV[2 * i - 1] then " +
+                    "        redis.call('set', KEYS[i], ARGV[2 * i]) " +
+                    "        fixed = fixed + 1 " +
+                    "    end " +
+                    "end " +
+                    "return fixed",
+            Long.class
+    );
+
+    /**
+     * redis ↔ db 재고 불일치 검사 (점진적 스캔)
+     * 1. 커서 이후의 옵션을 Option_Group_IDX 순서로 batchSize 만큼 조회
+     * 2. multiGet 으로 redis 재고 조회
+     * 3. redis 재고가 db보다 많으면 비정상 -> db 값으로 보정 (CAS)
+     *    redis에 없으면 db 값으로 등록 (SETNX)
+     * 4. 커서 이동, 끝까지 갔으면 처음부터 다시
+     * ※ db > redis 는 kafka 반영 대기 중인 정상 흐름이라 보정하지 않음 (ProductStockConsumer와 같은 기준)
+     */
+    @Scheduled(fixedDelayString = "${custom.stock.drift.delay-ms:60000}")
     public void checkStockInRedis(){
 
+        String cursorValue = stringRedisTemplate.opsForValue().get(DRIFT_CURSOR_KEY);
+        long cursor = cursorValue == null ? 0L : Long.parseLong(cursorValue);
+
+        // 1. db 조회 (PK 범위 스캔이라 테이블 크기와 상관없이 일정한 비용)
+        List<Long> idxList = new ArrayList<>();
+        List<String> optionCodes = new ArrayList<>();
+        List<Long> dbStocks = new ArrayList<>();
+        jdbcTemplate.query(
+                "SELECT Option_Group_IDX, Option_Code, Stock FROM Product_Option " +
+                        "WHERE Option_Group_IDX > ? AND Del = 0 " +
+                        "ORDER BY Option_Group_IDX LIMIT ?",
+                rs -> {
+                    idxList.add(rs.getLong("Option_Group_IDX"));
+                    optionCodes.add(rs.getString("Option_Code"));
+                    dbStocks.add(rs.getLong("Stock"));
+                },
+                cursor, batchSize
+        );
+
+        // 4. 다음 커서 저장 (마지막 페이지면 처음으로)
+        long nextCursor = idxList.size() < batchSize ? 0L : idxList.get(idxList.size() - 1);
+        stringRedisTemplate.opsForValue().set(DRIFT_CURSOR_KEY, String.valueOf(nextCursor));
+
+        if (optionCodes.isEmpty()) {
+            return;
+        }
+
+        // 2. redis 조회
+        List<String> keys = optionCodes.stream()
+                .map(code -> PRODUCT_STOCK_KEY + code)
+                .toList();
+        List<String> redisStocks = stringRedisTemplate.opsForValue().multiGet(keys);
+        if (redisStocks == null) {
+            return;
+        }
+
+        // 3. 비교
+        List<String> driftKeys = new ArrayList<>();
+        List<String> driftArgs = new ArrayList<>();
+        int loaded = 0;
+        for (int i = 0; i < keys.size(); i++) {
+            String redisStock = redisStocks.get(i);
+
+            if (redisStock == null) {
+                // redis에 아직 없는 옵션은 db 재고로 등록
+                Boolean isSet = stringRedisTemplate.opsForValue()
+                        .setIfAbsent(keys.get(i), String.valueOf(dbStocks.get(i)));
+                if (Boolean.TRUE.equals(isSet)) {
+                    loaded++;
+                }
+                continue;
+            }
+
+            if (Long.parseLong(redisStock) > dbStocks.get(i)) {
+                log.warn("재고 불일치 : OptionCode={}, Redis={}, DB={}",
+                        optionCodes.get(i), redisStock, dbStocks.get(i));
+                driftKeys.add(keys.get(i));
+                driftArgs.add(redisStock);
+                driftArgs.add(String.valueOf(dbStocks.get(i)));
+            }
+        }
+
+        // 3.1 보정 (한 번의 스크립트 호출)
+        Long fixed = 0L;
+        if (!driftKeys.isEmpty()) {
+            fixed = stringRedisTemplate.execute(CORRECT_SCRIPT, driftKeys, driftArgs.toArray());
+        }
+
+        log.info("재고 불일치 검사 완료. 범위=({}, {}], 검사={}, 보정={}, 신규등록={}",
+                cursor, idxList.get(idxList.size() - 1), keys.size(), fixed, loaded);
     }
 }
@@ -0,0 +1,167 @@
+package co.kr.product.common.service;
+
+import co.kr.product.product.model.dto.response.StockWarmUpRes;
+import co.kr.product.product.model.entity.ProductOptionEntity;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * redis 재고 warm-up
+ * 주문 서비스는 redis에 재고 key가 없으면 품절로 처리하므로, 상품 조회 전에도 재고가 올라가 있어야 함
+ * - 서버 시작 시 / 관리자 요청 시: Product_Option 전체를 JDBC 커서로 스트리밍하며 chunk 단위 pipeline SETNX
+ * - 상품 등록 / 상세 조회 시: 해당 상품 옵션만 pipeline SETNX
+ * ※ SETNX 이므로 이미 주문으로 차감 중인 key는 덮어쓰지 않음 (여러 번, 여러 인스턴스에서 실행해도 안전)
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class StockWarmUpService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${custom.redis.product-stock-key}")
+    private String PRODUCT_STOCK_KEY;
+
+    @Value("${custom.stock.warmup.on-startup:true}")
+    private boolean warmUpOnStartup;
+
+    // redis pipeline 한 번에 보낼 key 수
+    @Value("${custom.stock.warmup.chunk-size:5000}")
+    private int chunkSize;
+
+    // JDBC 커서가 한 번에 가져올 행 수
+    @Value("${custom.stock.warmup.fetch-size:5000}")
+    private int fetchSize;
+
+    private static final String SELECT_STOCK_SQL =
+            "SELECT Option_Code, Stock FROM Product_Option WHERE Del = 0";
+
+    // 서버 시작 시 warm-up (실패해도 서버 기동은 계속 진행)
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpOnStartup() {
+        if (!warmUpOnStartup) {
+            return;
+        }
+
+        try {
+            warmUpAll();
+        } catch (RuntimeException e) {
+            log.error("서버 시작 시 redis 재고 warm-up 실패. 상품 상세 조회 시 개별 등록으로 대체", e);
+        }
+    }
+
+    /**
+     * 전체 옵션 재고 warm-up
+     * 전체를 메모리에 올리지 않고 fetchSize 단위로 읽으면서 chunkSize 마다 redis로 흘려보냄
+     * @return 처리 결과
+     */
+    public StockWarmUpRes warmUpAll() {
+
+        long start = System.currentTimeMillis();
+        Counter scannedCounter = meterRegistry.counter("product.stock.warmup.scanned");
+        Counter loadedCounter = meterRegistry.counter("product.stock.warmup.loaded");
+
+        List<String> codes = new ArrayList<>(chunkSize);
+        List<Integer> stocks = new ArrayList<>(chunkSize);
+        long[] totals = new long[2];  // [0]: scanned, [1]: loaded
+
+        log.info("redis 재고 warm-up 시작");
+
+        jdbcTemplate.query(
+                con -> {
+                    // forward-only 커서 (MariaDB 드라이버는 fetchSize 가 있으면 스트리밍으로 읽음)
+                    PreparedStatement ps = con.prepareStatement(
+                            SELECT_STOCK_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    ps.setFetchSize(fetchSize);
+                    return ps;
+                },
+                rs -> {
+                    codes.add(rs.getString("Option_Code"));
+                    stocks.add(rs.getInt("Stock"));
+
+                    if (codes.size() >= chunkSize) {
+                        long loaded = flush(codes, stocks);
+                        totals[0] += codes.size();
+                        totals[1] += loaded;
+                        scannedCounter.increment(codes.size());
+                        loadedCounter.increment(loaded);
+                        codes.clear();
+                        stocks.clear();
+
+                        log.info("redis 재고 warm-up 진행 중. 처리={}, 신규등록={}", totals[0], totals[1]);
+                    }
+                }
+        );
+
+        // 남은 chunk 처리
+        if (!codes.isEmpty()) {
+            long loaded = flush(codes, stocks);
+            totals[0] += codes.size();
+            totals[1] += loaded;
+            scannedCounter.increment(codes.size());
+            loadedCounter.increment(loaded);
+        }
+
+        long elapsed = System.currentTimeMillis() - start;
+        meterRegistry.timer("product.stock.warmup").record(elapsed, TimeUnit.MILLISECONDS);
+        log.info("redis 재고 warm-up 완료. 처리={}, 신규등록={}, 소요={}ms", totals[0], totals[1], elapsed);
+
+        return new StockWarmUpRes(totals[0], totals[1], elapsed);
+    }
+
+    /**
+     * 특정 옵션들의 재고 등록 (상품 등록 / 상세 조회 시)
+     * @param options 옵션 엔티티 리스트
+     */
+    public void warmUpOptions(List<ProductOptionEntity> options) {
+        if (options.isEmpty()) {
+            return;
+        }
+
+        List<String> codes = options.stream().map(ProductOptionEntity::getOptionCode).toList();
+        List<Integer> stocks = options.stream().map(ProductOptionEntity::getStock).toList();
+
+        long loaded = flush(codes, stocks);
+        if (loaded > 0) {
+            log.info("redis에 재고 정보가 없어 새로 등록했습니다. {}건", loaded);
+        }
+    }
+
+    // chunk 하나를 pipeline SETNX로 전송, 새로 등록된 key 수 반환
+    private long flush(List<String> codes, List<Integer> stocks) {
+
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            RedisSerializer<String> serializer = stringRedisTemplate.getStringSerializer();
+
+            for (int i = 0; i < codes.size(); i++) {
+                byte[] keyBytes = serializer.serialize(PRODUCT_STOCK_KEY + codes.get(i));
+                byte[] valueBytes = serializer.serialize(String.valueOf(stocks.get(i)));
+
+                connection.stringCommands().setNX(keyBytes, valueBytes);
+            }
+            return null;
+        });
+
+        return results.stream()
+                .filter(Boolean.TRUE::equals)
+                .count();
+    }
+}
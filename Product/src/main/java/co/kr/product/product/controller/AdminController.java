@@ -18,6 +18,7 @@ import co.kr.product.product.model.dto.response.CategoryRes;
 import co.kr.product.product.model.dto.response.ProductDetailRes;
 import co.kr.product.product.model.dto.response.ProductListRes;
 import co.kr.product.product.model.dto.response.ResultRes;
+import co.kr.product.product.model.dto.response.StockWarmUpRes;
 import co.kr.product.product.model.vo.CategoryType;
 import co.kr.product.product.service.ProductCategoryService;
 import co.kr.product.product.service.ProductManagerService;
@@ -124,6 +125,19 @@ public class AdminController {
 
     }
 
+    /**
+     * redis 재고 전체 warm-up (관리자)
+     * @param usersIdx
+     * @return 처리 결과 (조회 수, 신규 등록 수, 소요 시간)
+     */
+    @PostMapping("/products/stocks/warm-up")
+    public ResponseEntity<StockWarmUpRes> warmUpStocks(
+            @RequestHeader("X-USERS-IDX") Long usersIdx){
+
+        return ResponseEntity.ok(
+                productManagerService.warmUpStocks(usersIdx));
+    }
+
     //--------------------------------------------------------------------
     // 카테고리/ IP 관련
     //--------------------------------------------------------------------
@@ -0,0 +1,21 @@
+package co.kr.product.product.model.dto.message;
+
+import java.util.List;
+
+/**
+ * 상품 변경 메시지 (가격/상태/옵션 수정, 삭제)
+ * Order 의 상품 스냅샷 캐시 무효화용
+ * @param productCode: 상품 코드 (Kafka 메시지 Key)
+ * @param optionCodes: 변경된 옵션 코드들 (삭제된 옵션 포함)
+ * @param type: UPDATED / DELETED
+ * @param changedAt: 변경 시각 (epoch ms, 커밋 직후)
+ */
+public record ProductChangeMsg(
+        String productCode,
+        List<String> optionCodes,
+        String type,
+        Long changedAt
+) {
+    public static final String UPDATED = "UPDATED";
+    public static final String DELETED = "DELETED";
+}
@@ -0,0 +1,20 @@
+package co.kr.product.product.model.dto.message;
+
+/**
+ * DB 반영에 실패한 재고 차감 건 (Dead Letter)
+ * @param msgCode 원본 메시지 코드
+ * @param orderCode 원본 주문 코드 (상품 단위 메시지는 null)
+ * @param optionCode 실패한 옵션 코드
+ * @param quantity 차감 요청 수량
+ * @param dbStock 처리 시점 DB 재고 (옵션이 없으면 null)
+ * @param reason 실패 사유
+ */
+public record StockDeadLetterMsg(
+        String msgCode,
+        String orderCode,
+        String optionCode,
+        Long quantity,
+        Long dbStock,
+        String reason
+) {
+}
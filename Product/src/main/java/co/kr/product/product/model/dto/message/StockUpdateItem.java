@@ -0,0 +1,11 @@
+package co.kr.product.product.model.dto.message;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record StockUpdateItem(
+        String productCode,
+        String optionCode,
+        Long quantity
+) {
+}
@@ -1,9 +1,30 @@
 package co.kr.product.product.model.dto.message;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+/**
+ * 재고 차감 메시지
+ * 두 가지 형식을 모두 받음
+ * 1. 상품 단위 (기존): productCode, optionCode, quantity
+ * 2. 주문 단위 (묶음): orderCode, items
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
 public record StockUpdateMsg(
         String msgCode,
+        String orderCode,
         String productCode,
         String optionCode,
-        Long quantity
+        Long quantity,
+        List<StockUpdateItem> items
 ) {
+
+    // 형식에 상관없이 (옵션 코드, 수량) 리스트로 변환
+    public List<StockUpdateItem> toItems() {
+        if (items != null && !items.isEmpty()) {
+            return items;
+        }
+        return List.of(new StockUpdateItem(productCode, optionCode, quantity));
+    }
 }
@@ -14,7 +14,13 @@ public record ProductInfoToOrderRes(
         BigDecimal price,
 //        BigDecimal salePrice,
 
-        Integer stock
+        Integer stock,
+
+        // 옵션 판매 상태
+        String status,
+
+        // 조회 시작 시각 (epoch ms, Order 캐시가 상품 변경 이벤트의 changedAt 과 비교)
+        Long readAt
 
 ) {
 }
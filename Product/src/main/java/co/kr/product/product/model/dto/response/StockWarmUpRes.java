@@ -0,0 +1,14 @@
+package co.kr.product.product.model.dto.response;
+
+/**
+ * redis 재고 warm-up 결과
+ * @param scanned db에서 읽은 옵션 수
+ * @param loaded redis에 새로 등록된 옵션 수 (이미 있던 key는 제외)
+ * @param elapsedMs 소요 시간(ms)
+ */
+public record StockWarmUpRes(
+        long scanned,
+        long loaded,
+        long elapsedMs
+) {
+}
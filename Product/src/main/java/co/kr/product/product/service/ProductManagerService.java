@@ -5,6 +5,7 @@ import co.kr.product.product.model.dto.response.ProductDetailRes;
 import co.kr.product.product.model.dto.request.ProductListReq;
 import co.kr.product.product.model.dto.request.UpsertProductReq;
 import co.kr.product.product.model.dto.response.ProductListRes;
+import co.kr.product.product.model.dto.response.StockWarmUpRes;
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -21,4 +22,6 @@ public interface ProductManagerService {
     void deleteProduct(Long usersIdx, String code , UserRole inputRole);
 
     ProductListRes getListsBySeller(Long usersIdx, Pageable pageable, ProductListReq requests);
+
+    StockWarmUpRes warmUpStocks(Long usersIdx);
 }
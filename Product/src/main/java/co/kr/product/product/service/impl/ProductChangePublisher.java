@@ -0,0 +1,58 @@
+package co.kr.product.product.service.impl;
+
+import co.kr.product.product.model.dto.message.ProductChangeMsg;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * 상품 변경 이벤트 발행
+ * - 커밋된 뒤에만 발행 (롤백된 변경으로 Order 캐시를 지우지 않도록)
+ * - 상품 코드를 Key 로 보내서 같은 상품의 변경은 순서대로 전달
+ * - changedAt 은 커밋 직후 시각 (Order 는 readAt 이 이보다 이른 조회 결과를 캐시에 다시 넣지 않음)
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ProductChangePublisher {
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Value("${custom.kafka.topic.product-change.event:product-change}")
+    private String productChangeTopic;
+
+    public void publishAfterCommit(String productCode, List<String> optionCodes, String type) {
+
+        List<String> changed = List.copyOf(optionCodes);
+
+        // 트랜잭션 밖에서 호출되면 바로 발행
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            send(new ProductChangeMsg(productCode, changed, type, System.currentTimeMillis()));
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                // 커밋 전에 시각을 찍으면 그 사이 시작된 (변경 전 값을 읽은) 조회를 최신으로 오인함
+                send(new ProductChangeMsg(productCode, changed, type, System.currentTimeMillis()));
+            }
+        });
+    }
+
+    private void send(ProductChangeMsg message) {
+        kafkaTemplate.send(productChangeTopic, message.productCode(), message)
+                .whenComplete((result, e) -> {
+                    if (e != null) {
+                        // 유실돼도 Order 캐시는 TTL 로 만료됨
+                        log.warn("상품 변경 이벤트 발행 실패 : productCode={}", message.productCode(), e);
+                    }
+                });
+    }
+}
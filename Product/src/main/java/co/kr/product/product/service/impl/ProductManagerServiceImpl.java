@@ -4,10 +4,12 @@ package co.kr.product.product.service.impl;
 import co.kr.product.common.auth.AuthAdapter;
 import co.kr.product.common.exceptionHandler.ForbiddenException;
 import co.kr.product.common.service.S3Service;
+import co.kr.product.common.service.StockWarmUpService;
 import co.kr.product.common.vo.UserRole;
 import co.kr.product.product.client.dto.ClientRoleDTO;
 import co.kr.product.product.mapper.ProductMapper;
 import co.kr.product.product.model.document.ProductDocument;
+import co.kr.product.product.model.dto.message.ProductChangeMsg;
 import co.kr.product.product.model.dto.request.*;
 import co.kr.product.product.model.dto.response.*;
 import co.kr.product.product.model.entity.FileEntity;
@@ -49,7 +51,9 @@ public class ProductManagerServiceImpl implements ProductManagerService {
     private final FileRepository fileRepository;
     private final ReviewService reviewService;
     private final ProductStockConsumer stockConsumer;
+    private final StockWarmUpService stockWarmUpService;
     private final RagUpdateService ragUpdateService;
+    private final ProductChangePublisher productChangePublisher;
 
     @Value("${custom.aws.s3.product-prefix}")
     private String productPrefix;
@@ -170,14 +174,8 @@ public class ProductManagerServiceImpl implements ProductManagerService {
 
         List<ImageInfoRes> imagesInfo = ProductMapper.mapToImageInfos(imageEntities, fileUrls);
 
-        // 7. 재고 적용
-        List<AddStockReq> stockList = option.stream()
-                        .map(entity -> new AddStockReq(
-                                entity.getOptionCode(),
-                                entity.getStock()
-                        )).toList();
-
-        stockConsumer.addStockInRedis(stockList);
+        // 7. 재고 적용 (SETNX 라 재시도되어도 재고가 두 번 더해지지 않음)
+        stockWarmUpService.warmUpOptions(option);
 
         // 8. 실시간 인덱싱을 위해 RAG서버에 요청
         ragUpdateService.triggerSync(product.getProductsIdx());
@@ -307,11 +305,16 @@ public class ProductManagerServiceImpl implements ProductManagerService {
         // 2.2 option 가져오기
         List<ProductOptionEntity> options = optionRepository.findByProductAndDelFalseOrderBySortOrdersAsc(product);
 
-        // 2.2.1 option map 생성
+        // 2.2.1 변경 전 옵션 코드 (Order 상품 캐시 무효화용, 삭제될 옵션 포함)
+        List<String> changedOptionCodes = options.stream()
+                .map(ProductOptionEntity::getOptionCode)
+                .toList();
+
+        // 2.2.2 option map 생성
         Map<String, ProductOptionEntity> optionMap = options.stream()
                 .collect(Collectors.toMap(ProductOptionEntity::getOptionCode, Function.identity()));
 
-        // 2.2.2 빈 리스트 생성 (추가 옵션,이미지를 담기 위함)
+        // 2.2.3 빈 리스트 생성 (추가 옵션,이미지를 담기 위함)
         List<ProductOptionEntity> newOptions = new ArrayList<>();
 
 
@@ -427,6 +430,9 @@ public class ProductManagerServiceImpl implements ProductManagerService {
         // 9. 실시간 인덱싱을 위해 RAG서버에 요청
         ragUpdateService.triggerSync(product.getProductsIdx());
 
+        // 10. Order 상품 캐시 무효화 (커밋 후 발행)
+        productChangePublisher.publishAfterCommit(code, changedOptionCodes, ProductChangeMsg.UPDATED);
+
         // mapper 사용
         return toProductDetail(
                 product,
@@ -489,6 +495,13 @@ public class ProductManagerServiceImpl implements ProductManagerService {
             throw new IllegalArgumentException("옵션 삭제 과정 중 문제가 발생했습니다.");
         }
 
+        // 2.6 Order 상품 캐시 무효화 (커밋 후 발행)
+        productChangePublisher.publishAfterCommit(
+                code,
+                options.stream().map(ProductOptionEntity::getOptionCode).toList(),
+                ProductChangeMsg.DELETED
+        );
+
         // 3. 이미지 삭제
         // 3.1 이미지 조회
         // 전부 삭제 or 하나 만 남기고 삭제 고민
@@ -554,4 +567,23 @@ public class ProductManagerServiceImpl implements ProductManagerService {
 
         );
     }
+
+    /**
+     * redis 재고 전체 warm-up (관리자)
+     * redis 장애 복구 / flush 이후 주문이 품절로 처리되는 것을 막기 위해 수동 실행
+     * @param usersIdx
+     * @return 처리 결과
+     */
+    @Override
+    public StockWarmUpRes warmUpStocks(Long usersIdx) {
+
+        // 1. 권한 확인
+        ClientRoleDTO userData = authAdapter.getUserData(usersIdx);
+        if (!UserRole.isAdmin(userData.role())){
+            throw new ForbiddenException("권한이 없습니다.");
+        }
+
+        // 2. warm-up
+        return stockWarmUpService.warmUpAll();
+    }
 }
@@ -1,6 +1,7 @@
 package co.kr.product.product.service.impl;
 
 import co.kr.product.common.service.S3Service;
+import co.kr.product.common.service.StockWarmUpService;
 import co.kr.product.product.mapper.ProductMapper;
 import co.kr.product.product.model.dto.request.CategoryParentGroup;
 import co.kr.product.product.model.dto.request.DeductStockReq;
@@ -41,7 +42,7 @@ public class ProductServiceImpl implements ProductService {
     private final FileRepository fileRepository;
     private final S3Service s3Service;
     private final ReviewService reviewService;
-    private final ProductStockConsumer stockConsumer;
+    private final StockWarmUpService stockWarmUpService;
 
     @Value("${custom.aws.s3.product-prefix}")
     private String productPrefix;
@@ -126,7 +127,7 @@ public class ProductServiceImpl implements ProductService {
         List<ReviewResponse> reviews = reviewService.getReviews(product.getProductsIdx());
 
         // 6. 레디스에 재고 등록( 없으면 )
-        stockConsumer.loadStocks(options);
+        stockWarmUpService.warmUpOptions(options);
 
 
         return
@@ -209,6 +210,9 @@ public class ProductServiceImpl implements ProductService {
     @Override
     @Transactional(readOnly = true)
     public ProductInfoToOrderRes getProductInfo(String productsCode, String optionCode){
+        // 조회 전에 기록 (이 시각 이전에 커밋된 변경은 모두 반영된 값)
+        long readAt = System.currentTimeMillis();
+
         ProductEntity product = productRepository.findByProductsCodeAndDelFalse(productsCode)
                 .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 상품입니다: " + productsCode));
 
@@ -228,7 +232,9 @@ public class ProductServiceImpl implements ProductService {
                 option.getOptionName(),
                 option.getOptionPrice(),
                 // option.getOptionSalePrice(),
-                option.getStock()
+                option.getStock(),
+                option.getStatus(),
+                readAt
         );
     }
 
@@ -246,7 +252,8 @@ public class ProductServiceImpl implements ProductService {
         List<String> optionCodes = requests.stream()
                 .map(ProductInfoToOrderReq::optionCode).toList();
 
-        // 2. 조회
+        // 2. 조회 (조회 전 시각을 같이 반환, 이 시각 이전에 커밋된 변경은 모두 반영된 값)
+        long readAt = System.currentTimeMillis();
         List<ProductOptionEntity> options = productOptionRepository.findAllWithOptions(optionCodes);
 
         // 3. 반환
@@ -259,7 +266,9 @@ public class ProductServiceImpl implements ProductService {
                 opt.getProduct().getProductsName(),
                 opt.getOptionName(),
                 opt.getOptionPrice(),
-                opt.getStock()
+                opt.getStock(),
+                opt.getStatus(),
+                readAt
         )).toList();
 
     }
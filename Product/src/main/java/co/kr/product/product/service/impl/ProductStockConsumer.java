@@ -1,13 +1,15 @@
 package co.kr.product.product.service.impl;
 
 
+import co.kr.product.product.model.dto.message.StockDeadLetterMsg;
+import co.kr.product.product.model.dto.message.StockUpdateItem;
 import co.kr.product.product.model.dto.message.StockUpdateMsg;
 import co.kr.product.product.model.dto.request.AddStockReq;
 import co.kr.product.product.model.entity.ProductEntity;
-import co.kr.product.product.model.entity.ProductOptionEntity;
-import co.kr.product.product.repository.ProductOptionRepository;
 import co.kr.product.product.repository.ProductRepository;
 import co.kr.product.product.service.ProductCategoryService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -15,17 +17,27 @@ import org.springframework.data.redis.connection.RedisStringCommands;
 import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
 
@@ -36,13 +48,34 @@ public class ProductStockConsumer {
 
     private final JdbcTemplate jdbcTemplate;
     private final StringRedisTemplate stringRedisTemplate;
-    private final ProductOptionRepository productOptionRepository;
+    private final MeterRegistry meterRegistry;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
 
     @Value("${custom.redis.product-stock-key}")
     private String PRODUCT_STOCK_KEY;
 
+    @Value("${custom.kafka.topic.product-stock.dead-letter:product-stock-update.DLT}")
+    private String deadLetterTopic;
+
     private static final String MSG_HISTORY_KEY = "msg:history:";
 
+    /**
+     * 조회 시점의 값과 같을 때만 덮어쓰기 (Compare And Set, StockScheduler 와 같은 스크립트)
+     * multiGet ~ 보정 사이에 주문으로 redis 재고가 차감됐으면 덮어쓰지 않음 (차감분이 되살아나는 것 방지)
+     * KEYS[i]: 재고 key, ARGV[2i-1]: 조회 시점 redis 값, ARGV[2i]: db 재고
+     */
+    private static final DefaultRedisScript<Long> CORRECT_SCRIPT = new DefaultRedisScript<>(
+            "local fixed = 0 " +
+                    "for i = 1, #KEYS do " +
+                    "    if redis.call('get', KEYS[i]) == ARGV[2 * i - 1] then " +
+                    "        redis.call('set', KEYS[i], ARGV[2 * i]) " +
+                    "        fixed = fixed + 1 " +
+                    "    end " +
+                    "end " +
+                    "return fixed",
+            Long.class
+    );
+
     /**
      * 상품 재고 메시지 수신 및 처리
      * 1. kafka 메시지를 소비하여 db에 현 재고수 최신화
@@ -51,29 +84,60 @@ public class ProductStockConsumer {
      * ※ DB > redis는 정상적인 흐름이라 판단
      * ※ DB의 재고는 kafka 메시지를 통해 받은 데이터만 처리하므로 최신화가 느릴지언정,
      *   문제있는 값을 가지고 있을 경우는 없다고 판단
+     * ※ 파티션 별로 리스너 스레드가 뜨므로(concurrency) 여러 배치가 동시에 실행될 수 있음
+     *   - 행 잠금은 항상 Option_Code 정렬 순서로 잡아서 데드락 방지
+     *   - 처리 실패 시 중복 체크 키를 되돌려서 재전달된 메시지가 다시 처리되도록 함 (멱등)
      * @param messages
+     * @param timestamps 각 메시지의 produce 시각 (lag 측정용)
      */
-    @KafkaListener(topics = "${custom.kafka.topic.product-stock.event}")
+    @KafkaListener(
+            topics = "${custom.kafka.topic.product-stock.event}",
+            concurrency = "${custom.kafka.consumer.product-stock.concurrency:3}",
+            batch = "true"
+    )
     @Transactional
-    public void messageConsumer(List<StockUpdateMsg> messages){
+    public void messageConsumer(List<StockUpdateMsg> messages,
+                                @Header(KafkaHeaders.RECEIVED_TIMESTAMP) List<Long> timestamps){
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        recordBatchMetrics(messages.size(), timestamps);
 
         // 0. 받은 메시지에 대해 중복으로 온 메시지가 있나 확인
         List<StockUpdateMsg> uniqueMsg = filterDuplicates(messages);
+        if (uniqueMsg.isEmpty()) {
+            return;
+        }
+
+        try {
+            processStockUpdates(uniqueMsg);
+        } catch (RuntimeException e) {
+            // DB 롤백 시 메시지는 재전달되는데, 중복 체크 키가 남아있으면 처리되지 않고 버려짐
+            // 키를 지워서 재전달 시 다시 처리되도록 함
+            log.error("재고 메시지 처리 실패. 중복 체크 키 복구 후 재처리 대기. size={}", uniqueMsg.size(), e);
+            releaseDuplicateKeys(uniqueMsg);
+            throw e;
+        } finally {
+            sample.stop(meterRegistry.timer("product.stock.consumer.process"));
+        }
+    }
+
+    private void processStockUpdates(List<StockUpdateMsg> uniqueMsg) {
 
         // 1. 받은 메시지 소비, optionCode 기준으로 각 상품 별 판매량 묶기.
+        //    주문 단위 메시지(items)와 상품 단위 메시지를 같은 (옵션 코드, 수량) 형태로 펼쳐서 합산
+        //    TreeMap: Option_Code 정렬 순서 유지 (행 잠금 순서 고정)
         Map<String, Long> orderMap = uniqueMsg.stream()
+                .flatMap(msg -> msg.toItems().stream())
                 // groupingBy 특정 기준으로 데이터를 묶에 Map으로 반환
                 // 1.groupingBy(key) > key 기준으로 묶어서 Map<key, List<~~>> 반환
                 // 2. groupingBy(key, downstream) > key 기준으로 묶어 값에 계산된 결과를 넣음
                 .collect(Collectors.groupingBy(
-                        StockUpdateMsg::optionCode,
-                        Collectors.summingLong(StockUpdateMsg::quantity)
+                        StockUpdateItem::optionCode,
+                        TreeMap::new,
+                        Collectors.summingLong(StockUpdateItem::quantity)
                 ));
 
-        // 1.1 싱글스레드 kafka면 문제가 없는데, 멀티 스레드 설정 시  여러개의 배치가 동시 실행 될 수 도 있음
-        //      이때 리스트로 정렬을 해두면 데드락의 가능성을 막을 수 있다고 함.
         List<Map.Entry<String, Long>> sortedUpdates = new ArrayList<>(orderMap.entrySet());
-        sortedUpdates.sort(Map.Entry.comparingByKey());
 
         log.info("kafka 조회 성공 : "+sortedUpdates);
 
@@ -89,87 +153,185 @@ public class ProductStockConsumer {
         log.info("redis 조회 성공 : "+redisResult);
 
 
-        // 3. jdbcTemplate.batchUpdate를 이용하여 메시지 내역을 바탕으로 db에 저장
-        List<String> optionCodes = batchUpdateStock(sortedUpdates);
+        // 3. 잠금 조회 + CASE 일괄 UPDATE 로 db에 저장 (차감 후 재고를 바로 알 수 있어서 재조회 불필요)
+        Map<String, Long> failedStock = new HashMap<>();
+        Map<String, Long> updatedStock = batchUpdateStock(sortedUpdates, failedStock);
 
-        // 4. 수정 된 재고 조회 및 redis와 비교
-        // 4.1 조회
-        List<ProductOptionEntity> options = productOptionRepository.findByOptionCodeInAndDelFalse(optionCodes);
+        // 3.1 실패한 옵션을 원본 메시지에 다시 매핑해서 Dead Letter 토픽으로 전송
+        publishDeadLetters(uniqueMsg, failedStock);
 
-        // 4.2 비교를 위해 위에서 찾은 options를 Map 으로 변환
-        Map<String, ProductOptionEntity> optionsMap = options.stream()
-                .collect(Collectors.toMap(
-                        ProductOptionEntity::getOptionCode,
-                        Function.identity()
-                ));
+        // 4. 비교 및 비정상 데이터 보정
+        List<String> driftKeys = new ArrayList<>();
+        List<String> driftArgs = new ArrayList<>();
 
-        // 4.3 비교 및 비정상 데이터 보정
-        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+        // sortedUpdates와 redisResult의 순서는 동일
+        for(int i = 0; i < sortedUpdates.size(); i++){
+            String optionCode = sortedUpdates.get(i).getKey();
+            Long dbStock = updatedStock.get(optionCode);
 
-            RedisSerializer<String> stringSerializer = stringRedisTemplate.getStringSerializer();
+            // db 반영 실패 건이거나, redis에 아직 재고가 없으면 비교하지 않음
+            if (dbStock == null || redisResult == null || redisResult.get(i) == null) {
+                continue;
+            }
+            long redisVal = Long.parseLong(redisResult.get(i));
+
+            // redis의 재고가 db의 재고보다 많을 경우 비정상적인 상황.
+            // 이때 db의 재고를 redis 재고에 덮어 씌움.
+            if (redisVal > dbStock){
+                log.warn("재고 이상 : OptionCode={}, Redis={}, DB={}",
+                        optionCode,redisVal, dbStock);
+                driftKeys.add(PRODUCT_STOCK_KEY + optionCode);
+                driftArgs.add(redisResult.get(i));
+                driftArgs.add(String.valueOf(dbStock));
+            }
+        }
+
+        // 4.1 redis에 적용 (조회 이후 주문으로 값이 바뀐 key는 건너뜀)
+        if (!driftKeys.isEmpty()) {
+            Long fixed = stringRedisTemplate.execute(CORRECT_SCRIPT, driftKeys, driftArgs.toArray());
+            log.info("redis 재고 보정 : 대상={}, 보정={}", driftKeys.size(), fixed);
+        }
+    }
+
+    /**
+     * 옵션 재고 일괄 차감
+     * 1. SELECT ... ORDER BY Option_Code FOR UPDATE 로 정렬 순서대로 행을 잠그고 현재 재고 조회
+     * 2. 잠금을 잡은 상태라 차감 후 재고를 미리 계산할 수 있음
+     * 3. UPDATE ... SET Stock = CASE Option_Code WHEN ? THEN ? ... END 한 문장으로 반영
+     * @param updates Option_Code 정렬된 (옵션 코드, 차감 수량)
+     * @param failedStock 반영에 실패한 옵션 별 현재 재고를 담을 Map (옵션이 없으면 null 값)
+     * @return 반영에 성공한 옵션 별 차감 후 재고
+     */
+    private Map<String, Long> batchUpdateStock(List<Map.Entry<String, Long>> updates,
+                                               Map<String, Long> failedStock) {
+
+        List<String> optionCodes = updates.stream()
+                .map(Map.Entry::getKey)
+                .toList();
+        String inClause = String.join(",", Collections.nCopies(optionCodes.size(), "?"));
+
+        // 1. 행 잠금 + 현재 재고 조회
+        Map<String, Long> currentStock = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT Option_Code, Stock FROM Product_Option " +
+                        "WHERE Option_Code IN (" + inClause + ") AND Del = 0 " +
+                        "ORDER BY Option_Code FOR UPDATE",
+                rs -> {
+                    currentStock.put(rs.getString("Option_Code"), rs.getLong("Stock"));
+                },
+                optionCodes.toArray()
+        );
+
+        // 2. 차감 후 재고 계산
+        Map<String, Long> updatedStock = new LinkedHashMap<>();
+        for (Map.Entry<String, Long> entry : updates) {
+            Long stock = currentStock.get(entry.getKey());
+
+            if (stock == null || stock < entry.getValue()) {
+                log.error("상품 재고 db에 적용 실패. 옵션 코드 : {}, 현재 재고 : {}, 차감 수량 : {}",
+                        entry.getKey(), stock, entry.getValue());
+                failedStock.put(entry.getKey(), stock);
+                continue;
+            }
+            updatedStock.put(entry.getKey(), stock - entry.getValue());
+        }
+
+        if (updatedStock.isEmpty()) {
+            return updatedStock;
+        }
 
-            // sortedUpdates와 redisResult의 순서는 동일
-            for(int i = 0; i < sortedUpdates.size(); i++){
-                String optionCode = sortedUpdates.get(i).getKey();
-                Long redisVal = Long.parseLong(redisResult.get(i));
+        // 3. CASE 일괄 UPDATE
+        StringBuilder sql = new StringBuilder("UPDATE Product_Option SET Stock = CASE Option_Code ");
+        List<Object> params = new ArrayList<>();
+        for (Map.Entry<String, Long> entry : updatedStock.entrySet()) {
+            sql.append("WHEN ? THEN ? ");
+            params.add(entry.getKey());
+            params.add(entry.getValue());
+        }
+        sql.append("ELSE Stock END WHERE Option_Code IN (")
+                .append(String.join(",", Collections.nCopies(updatedStock.size(), "?")))
+                .append(") AND Del = 0");
+        params.addAll(updatedStock.keySet());
 
-                ProductOptionEntity dbEntity = optionsMap.get(optionCode);
+        int updatedRows = jdbcTemplate.update(sql.toString(), params.toArray());
 
-                // redis의 재고가 db의 재고보다 많을 경우 비정상적인 상황.
-                // 이때 db의 재고를 redis 재고에 덮어 씌움.
-                if (redisVal > dbEntity.getStock()){
-                    log.warn("재고 이상 : OptionCode={}, Redis={}, DB={}",
-                            optionCode,redisVal, dbEntity.getStock());
+        // 잠금을 잡은 행만 갱신하므로 개수가 다르면 예상하지 못한 상황 -> 롤백 후 재처리
+        if (updatedRows != updatedStock.size()) {
+            throw new IllegalStateException("재고 갱신 행 수 불일치. expected="
+                    + updatedStock.size() + ", actual=" + updatedRows);
+        }
 
-                    // redis에 적용
-                    String key = PRODUCT_STOCK_KEY + optionCode;
+        log.info("db 적용 성공");
+        return updatedStock;
+    }
 
-                    try{
-                        byte[] keyBytes = stringSerializer.serialize(key);
-                        byte[] valueBytes = stringSerializer.serialize(String.valueOf(dbEntity.getStock()));
+    /**
+     * 반영 실패 옵션을 원본 메시지 단위로 매핑해서 Dead Letter 토픽으로 전송
+     * 트랜잭션 커밋 이후에만 전송 (롤백되어 재처리될 배치의 실패 건이 중복 전송되지 않도록)
+     * @param messages 이번 배치에서 처리한 메시지
+     * @param failedStock 반영 실패 옵션 별 현재 재고
+     */
+    private void publishDeadLetters(List<StockUpdateMsg> messages, Map<String, Long> failedStock) {
+        if (failedStock.isEmpty()) {
+            return;
+        }
 
-                        connection.stringCommands().set(keyBytes, valueBytes);
-                    }catch (IllegalArgumentException e) {
-                        log.error("Redis 재고 덮어쓰기 에러. OptionCode={}", optionCode, e);}
+        List<StockDeadLetterMsg> deadLetters = new ArrayList<>();
+        for (StockUpdateMsg msg : messages) {
+            for (StockUpdateItem item : msg.toItems()) {
+                if (!failedStock.containsKey(item.optionCode())) {
+                    continue;
                 }
+                Long dbStock = failedStock.get(item.optionCode());
+                deadLetters.add(new StockDeadLetterMsg(
+                        msg.msgCode(),
+                        msg.orderCode(),
+                        item.optionCode(),
+                        item.quantity(),
+                        dbStock,
+                        dbStock == null ? "OPTION_NOT_FOUND" : "INSUFFICIENT_STOCK"
+                ));
             }
+        }
 
-            return null;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                for (StockDeadLetterMsg deadLetter : deadLetters) {
+                    kafkaTemplate.send(deadLetterTopic, deadLetter.optionCode(), deadLetter);
+                }
+                log.warn("재고 반영 실패 {}건 Dead Letter 토픽으로 전송", deadLetters.size());
+            }
         });
-
     }
 
-    private List<String> batchUpdateStock(List<Map.Entry<String, Long>> updates) {
-        String sql = "UPDATE Products " +
-                "SET Stock = Stock - ? " +
-                "WHERE Products_Code = ? " +
-                "AND Stock >= ? ";
-
-        int globalIndex = 0; // 원본 리스트(updates)의 인덱스를 추적하기 위함
-
-        int[][] results = jdbcTemplate.batchUpdate(sql, updates, updates.size(),
-                (ps, entry) -> {
-                    ps.setLong(1, entry.getValue()); // 총 주문 수
-                    ps.setString(2, entry.getKey());   // optionCode
-                    ps.setLong(3, entry.getValue());
-                });
-
-        for(int[] row : results){
-            for(int result : row){
-                // result: 업데이트 된 행. 즉 1이면 성공, 0이면 실패
-                if (result == 0){
-                    log.error("상품 재고 db에 적용 실패. 옵션 코드 : " + updates.get(globalIndex));
-                }
-                globalIndex ++ ;
+    // 배치 크기 / 소비 지연(lag) 지표 기록
+    private void recordBatchMetrics(int batchSize, List<Long> timestamps) {
+        meterRegistry.summary("product.stock.consumer.batch.size").record(batchSize);
 
+        if (timestamps == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        Timer lagTimer = meterRegistry.timer("product.stock.consumer.lag");
+        for (Long timestamp : timestamps) {
+            if (timestamp != null) {
+                lagTimer.record(Math.max(0, now - timestamp), TimeUnit.MILLISECONDS);
             }
         }
+    }
 
-        log.info("db 적용 성공");
-        return  updates.stream()
-                .map(Map.Entry::getKey)
-                .toList();
-
+    // 처리 실패한 메시지의 중복 체크 키 삭제
+    private void releaseDuplicateKeys(List<StockUpdateMsg> messages) {
+        try {
+            stringRedisTemplate.delete(
+                    messages.stream()
+                            .map(msg -> MSG_HISTORY_KEY + msg.msgCode())
+                            .toList()
+            );
+        } catch (RuntimeException e) {
+            log.error("중복 체크 키 복구 실패. 관리자 확인 필요", e);
+        }
     }
 
     /**
@@ -244,21 +406,4 @@ public class ProductStockConsumer {
             return null;
         });
     }
-
-    // redis 에 값이 없을 경우 재고 수 등록
-    public void loadStockToRedisIfNotExists(String optionCode, Integer stock) {
-        String key = PRODUCT_STOCK_KEY + optionCode;
-
-        // setIfAbsent: 키가 존재하지 않을 때만 값을 세팅 (성공시 true, 이미 존재하면 false 반환)
-        Boolean isSet = stringRedisTemplate.opsForValue().setIfAbsent(key, String.valueOf(stock));
-
-        if (Boolean.TRUE.equals(isSet)) {
-            log.info("Redis에 재고 정보가 없어 새로 등록했습니다. OptionCode: {}", optionCode);
-        }
-    }
-
-    public void loadStocks(List<ProductOptionEntity> options){
-        options.stream()
-                .forEach( option -> loadStockToRedisIfNotExists(option.getOptionCode(), option.getStock()) );
-    }
 }